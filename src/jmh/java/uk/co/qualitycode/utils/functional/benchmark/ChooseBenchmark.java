@@ -0,0 +1,55 @@
+package uk.co.qualitycode.utils.functional.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.co.qualitycode.utils.functional.Functional;
+import uk.co.qualitycode.utils.functional.monad.Option;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * {@link Functional#choose(Function, Iterable)} over {@link #SIZE} elements, half of which are chosen. Run it with
+ * <tt>-prof gc</tt>: <tt>gc.alloc.rate.norm</tt> is in bytes/element and shows the cost of the {@link Option}s
+ * created by the chooser.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(ChooseBenchmark.SIZE)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChooseBenchmark {
+    static final int SIZE = 1_000_000;
+
+    private static final Function<Integer, Option<Integer>> evens = i -> Functional.isEven(i) ? Option.of(i) : Option.none();
+    private static final Function<Integer, Option<Integer>> none = i -> Option.none();
+
+    private List<Integer> input;
+
+    @Setup
+    public void setUp() {
+        input = Inputs.range(SIZE);
+    }
+
+    @Benchmark
+    public List<Integer> chooseHalf() {
+        return Functional.choose(evens, (Iterable<Integer>) input);
+    }
+
+    @Benchmark
+    public List<Integer> chooseNone() {
+        return Functional.choose(none, (Iterable<Integer>) input);
+    }
+}
@@ -0,0 +1,17 @@
+package uk.co.qualitycode.utils.functional.benchmark;
+
+/**
+ * The shape of the input supplied to a benchmark. See {@link Inputs#of(Container, int)}.
+ */
+public enum Container {
+    ArrayList,
+    LinkedList,
+    /**
+     * A Collection which is neither a List nor RandomAccess
+     */
+    Collection,
+    /**
+     * A bare Iterable, ie one for which the size is unknown
+     */
+    Iterable
+}
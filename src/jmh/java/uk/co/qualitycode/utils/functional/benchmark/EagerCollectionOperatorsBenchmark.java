@@ -0,0 +1,88 @@
+package uk.co.qualitycode.utils.functional.benchmark;
+
+import io.vavr.Tuple2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.co.qualitycode.utils.functional.Functional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static uk.co.qualitycode.utils.functional.benchmark.EagerOperatorsBenchmark.descending;
+import static uk.co.qualitycode.utils.functional.benchmark.EagerOperatorsBenchmark.doubler;
+import static uk.co.qualitycode.utils.functional.benchmark.EagerOperatorsBenchmark.evenChooser;
+import static uk.co.qualitycode.utils.functional.benchmark.EagerOperatorsBenchmark.isEven;
+import static uk.co.qualitycode.utils.functional.benchmark.EagerOperatorsBenchmark.pairer;
+
+/**
+ * Throughput of the eager operators in {@link Functional} which have a <tt>Collection</tt> overload, called through
+ * that overload. Compare with {@link EagerOperatorsBenchmark} to see what, if anything, knowing the size up front buys.
+ * <tt>fold</tt>, <tt>groupBy</tt> and <tt>partition</tt> only have <tt>Iterable</tt> overloads and so are not repeated here.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class EagerCollectionOperatorsBenchmark {
+    @Param({"10", "10000", "10000000"})
+    public int size;
+
+    @Param({"ArrayList", "LinkedList", "Collection"})
+    public Container container;
+
+    private Collection<Integer> input;
+
+    @Setup
+    public void setUp() {
+        input = (Collection<Integer>) Inputs.of(container, size);
+    }
+
+    @Benchmark
+    public List<Integer> map() {
+        return Functional.map(doubler, input);
+    }
+
+    @Benchmark
+    public List<Integer> filter() {
+        return Functional.filter(isEven, input);
+    }
+
+    @Benchmark
+    public List<Integer> choose() {
+        return Functional.choose(evenChooser, input);
+    }
+
+    @Benchmark
+    public List<Integer> flatMap() {
+        return Functional.flatMap(pairer, input);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> toDictionary() {
+        return Functional.toDictionary(Function.identity(), doubler, input);
+    }
+
+    @Benchmark
+    public List<Tuple2<Integer, Integer>> zip() {
+        return Functional.zip(input, input);
+    }
+
+    @Benchmark
+    public List<Integer> sortWith() {
+        return Functional.sortWith(descending, input);
+    }
+}
@@ -0,0 +1,127 @@
+package uk.co.qualitycode.utils.functional.benchmark;
+
+import io.vavr.Tuple2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.co.qualitycode.utils.functional.Functional;
+import uk.co.qualitycode.utils.functional.monad.Option;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Throughput of the eager operators in {@link Functional} when they are called through their <tt>Iterable</tt>
+ * overloads. Run with <tt>-prof gc</tt> (the default for the <tt>benchmark</tt> profile) to see the allocation rate.
+ *
+ * @see EagerCollectionOperatorsBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class EagerOperatorsBenchmark {
+    @Param({"10", "10000", "10000000"})
+    public int size;
+
+    @Param({"ArrayList", "LinkedList", "Collection", "Iterable"})
+    public Container container;
+
+    private Iterable<Integer> input;
+    private Iterable<Tuple2<Integer, Integer>> pairs;
+
+    static final Function<Integer, Integer> doubler = i -> 2 * i;
+    static final Predicate<Integer> isEven = Functional::isEven;
+    static final BiFunction<Integer, Integer, Integer> summer = Integer::sum;
+    static final Function<Integer, Option<Integer>> evenChooser = i -> Functional.isEven(i) ? Option.of(i) : Option.none();
+    static final Function<Integer, Iterable<Integer>> pairer = i -> Arrays.asList(i, i);
+    static final Function<Integer, Integer> modTen = i -> i % 10;
+    static final Comparator<Integer> descending = Comparator.reverseOrder();
+
+    @Setup
+    public void setUp() {
+        input = Inputs.of(container, size);
+        pairs = Functional.zip(input, input);
+    }
+
+    @Benchmark
+    public List<Integer> map() {
+        return Functional.map(doubler, input);
+    }
+
+    @Benchmark
+    public List<Integer> filter() {
+        return Functional.filter(isEven, input);
+    }
+
+    @Benchmark
+    public Integer fold() {
+        return Functional.fold(summer, 0, input);
+    }
+
+    @Benchmark
+    public List<Integer> choose() {
+        return Functional.choose(evenChooser, input);
+    }
+
+    @Benchmark
+    public List<Integer> flatMap() {
+        return Functional.flatMap(pairer, input);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> groupBy() {
+        return Functional.groupBy(modTen, input);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> toDictionary() {
+        return Functional.toDictionary(Function.identity(), doubler, input);
+    }
+
+    @Benchmark
+    public List<Tuple2<Integer, Integer>> zip() {
+        return Functional.zip(input, input);
+    }
+
+    @Benchmark
+    public Tuple2<List<Integer>, List<Integer>> unzip() {
+        return Functional.unzip(pairs);
+    }
+
+    @Benchmark
+    public List<Integer> concat() {
+        return Functional.concat(input, input);
+    }
+
+    @Benchmark
+    public List<Integer> take() {
+        return Functional.take(size / 2, input);
+    }
+
+    @Benchmark
+    public Tuple2<List<Integer>, List<Integer>> partition() {
+        return Functional.partition(isEven, input);
+    }
+
+    @Benchmark
+    public List<Integer> sortWith() {
+        return Functional.sortWith(descending, input);
+    }
+}
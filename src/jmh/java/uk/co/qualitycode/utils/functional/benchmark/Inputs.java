@@ -0,0 +1,59 @@
+package uk.co.qualitycode.utils.functional.benchmark;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Input data shared by the benchmarks. Each container type exposes the same sequence of integers, 0 to size-1, so that
+ * the only difference between the measurements is the shape of the container and therefore the overload that is chosen
+ * and the iteration cost.
+ */
+final class Inputs {
+    private Inputs() {
+    }
+
+    static List<Integer> range(final int size) {
+        final List<Integer> list = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i)
+            list.add(i);
+        return list;
+    }
+
+    static Iterable<Integer> of(final Container container, final int size) {
+        final List<Integer> source = range(size);
+        switch (container) {
+            case ArrayList:
+                return source;
+            case LinkedList:
+                return new LinkedList<>(source);
+            case Collection:
+                return asCollection(source);
+            case Iterable:
+                return asIterable(source);
+            default:
+                throw new IllegalArgumentException("Inputs.of(Container,int): unknown container " + container);
+        }
+    }
+
+    static <T> Collection<T> asCollection(final Collection<T> source) {
+        return new AbstractCollection<T>() {
+            @Override
+            public Iterator<T> iterator() {
+                return source.iterator();
+            }
+
+            @Override
+            public int size() {
+                return source.size();
+            }
+        };
+    }
+
+    static <T> Iterable<T> asIterable(final Iterable<T> source) {
+        return source::iterator;
+    }
+}
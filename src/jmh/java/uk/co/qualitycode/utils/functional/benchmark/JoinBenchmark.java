@@ -0,0 +1,68 @@
+package uk.co.qualitycode.utils.functional.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.co.qualitycode.utils.functional.Functional;
+import uk.co.qualitycode.utils.functional.primitive.integer.IntList;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost per element of joining {@link #SIZE} integers into a String, and of writing them to a <tt>Writer</tt>, both
+ * boxed and as an {@link IntList}. Run with <tt>-prof gc</tt> to see the allocation per element.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(JoinBenchmark.SIZE)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JoinBenchmark {
+    static final int SIZE = 10_000;
+
+    private List<Integer> input;
+    private IntList ints;
+
+    @Setup
+    public void setUp() {
+        input = Inputs.range(SIZE);
+        ints = new IntList(input.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    @Benchmark
+    public String join() {
+        return Functional.join(",", input);
+    }
+
+    @Benchmark
+    public String joinWithMap() {
+        return Functional.join(",", input, String::valueOf);
+    }
+
+    @Benchmark
+    public StringWriter joinToWriter() {
+        return Functional.join(new StringWriter(SIZE * 6), ",", input);
+    }
+
+    @Benchmark
+    public String joinIntList() {
+        return uk.co.qualitycode.utils.functional.primitive.integer.Functional.join(",", ints);
+    }
+
+    @Benchmark
+    public StringWriter joinIntListToWriter() {
+        return uk.co.qualitycode.utils.functional.primitive.integer.Functional.join(new StringWriter(SIZE * 6), ",", ints);
+    }
+}
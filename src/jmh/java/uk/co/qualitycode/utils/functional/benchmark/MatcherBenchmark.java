@@ -0,0 +1,68 @@
+package uk.co.qualitycode.utils.functional.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import uk.co.qualitycode.utils.functional.Functional;
+import uk.co.qualitycode.utils.functional.Functional.Matcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Dispatch of {@link #SIZE} inputs between {@link #CASES} cases, each of which tests for one value of the input
+ * modulo {@link #CASES}. {@link Matcher#findMatch(Object)} tests the cases in turn whereas the matcher built by
+ * {@link Matcher#compile(Function)} looks the case up by key.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(MatcherBenchmark.SIZE)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatcherBenchmark {
+    static final int SIZE = 100_000;
+    static final int CASES = 40;
+
+    private List<Integer> input;
+    private Matcher.Matches<Integer, Integer> cases;
+    private Function<Integer, Integer> compiled;
+
+    @Setup
+    public void setUp() {
+        input = Inputs.range(SIZE);
+        final List<Matcher.Match<Integer, Integer>> matches = new ArrayList<>(CASES);
+        final Matcher.DecisionTable<Integer, Integer, Integer> table = Matcher.compile(i -> i % CASES);
+        for (int key = 0; key < CASES; ++key) {
+            final int k = key;
+            matches.add(Matcher.matcher(i -> i % CASES == k, i -> k));
+            table.when(key, i -> k);
+        }
+        cases = Matcher.Matches.of(matches);
+        compiled = table.orElse(i -> -1);
+    }
+
+    @Benchmark
+    public void findMatch(final Blackhole blackhole) {
+        for (final Integer i : input)
+            blackhole.consume(Matcher.<Integer, Integer>findMatch(i).from(cases).orElse(Functional.constant(-1)));
+    }
+
+    @Benchmark
+    public void compiled(final Blackhole blackhole) {
+        for (final Integer i : input)
+            blackhole.consume(compiled.apply(i));
+    }
+}
@@ -0,0 +1,59 @@
+package uk.co.qualitycode.utils.functional.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import uk.co.qualitycode.utils.functional.Functional;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost per page of splitting a list of {@link #SIZE} elements into pages of {@link #PAGE_SIZE}, either by calling
+ * <tt>skip</tt> and then <tt>take</tt> or <tt>takeView</tt> for each page or by using {@link Functional#page(int, List)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(PageBenchmark.SIZE / PageBenchmark.PAGE_SIZE)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageBenchmark {
+    static final int SIZE = 100_000;
+    static final int PAGE_SIZE = 100;
+
+    private List<Integer> input;
+
+    @Setup
+    public void setUp() {
+        input = Inputs.range(SIZE);
+    }
+
+    @Benchmark
+    public void skipThenTake(final Blackhole blackhole) {
+        for (int from = 0; from < SIZE; from += PAGE_SIZE)
+            blackhole.consume(Functional.take(PAGE_SIZE, Functional.skip(from, input)));
+    }
+
+    @Benchmark
+    public void skipThenTakeView(final Blackhole blackhole) {
+        for (int from = 0; from < SIZE; from += PAGE_SIZE)
+            blackhole.consume(Functional.takeView(PAGE_SIZE, Functional.skip(from, input)));
+    }
+
+    @Benchmark
+    public void page(final Blackhole blackhole) {
+        for (final List<Integer> page : Functional.page(PAGE_SIZE, input))
+            blackhole.consume(page);
+    }
+}
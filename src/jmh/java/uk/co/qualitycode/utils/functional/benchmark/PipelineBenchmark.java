@@ -0,0 +1,135 @@
+package uk.co.qualitycode.utils.functional.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.co.qualitycode.utils.functional.Functional;
+import uk.co.qualitycode.utils.functional.Iterable2;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The same pipeline built with {@link Functional.Lazy}, {@link Iterable2}, <tt>java.util.stream</tt> and
+ * <tt>io.vavr.collection.Stream</tt>. Every invocation pushes {@link #SIZE} elements through the pipeline and the
+ * results are reported per element, so with <tt>-prof gc</tt> <tt>gc.alloc.rate.norm</tt> is in bytes/element.
+ * <p>
+ * The short pipeline is filter, map, take and the long pipeline is map, filter, map, filter, map, take. The final
+ * 'take' asks for every element so that each implementation does the same amount of work.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(PipelineBenchmark.SIZE)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PipelineBenchmark {
+    static final int SIZE = 100_000;
+
+    private static final Function<Integer, Integer> addOne = i -> i + 1;
+    private static final Function<Integer, Integer> triple = i -> 3 * i;
+    private static final Function<Integer, Integer> subtractOne = i -> i - 1;
+    private static final Predicate<Integer> isEven = Functional::isEven;
+    private static final Predicate<Integer> notMultipleOfFive = i -> i % 5 != 0;
+
+    private List<Integer> input;
+
+    @Setup
+    public void setUp() {
+        input = Inputs.range(SIZE);
+    }
+
+    private static int sum(final Iterable<Integer> output) {
+        int sum = 0;
+        for (final Integer i : output)
+            sum += i;
+        return sum;
+    }
+
+    @Benchmark
+    public int lazyShort() {
+        return sum(Functional.Lazy.take(SIZE,
+                Functional.Lazy.map(triple,
+                        Functional.Lazy.filter(isEven, input))));
+    }
+
+    @Benchmark
+    public int iterable2Short() {
+        return sum(Iterable2.of(input)
+                .filter(isEven)
+                .map(triple)
+                .take(SIZE));
+    }
+
+    @Benchmark
+    public int javaStreamShort() {
+        return input.stream()
+                .filter(isEven)
+                .map(triple)
+                .limit(SIZE)
+                .reduce(0, Integer::sum);
+    }
+
+    @Benchmark
+    public int vavrStreamShort() {
+        return sum(io.vavr.collection.Stream.ofAll(input)
+                .filter(isEven)
+                .map(triple)
+                .take(SIZE));
+    }
+
+    @Benchmark
+    public int lazyLong() {
+        return sum(Functional.Lazy.take(SIZE,
+                Functional.Lazy.map(subtractOne,
+                        Functional.Lazy.filter(notMultipleOfFive,
+                                Functional.Lazy.map(triple,
+                                        Functional.Lazy.filter(isEven,
+                                                Functional.Lazy.map(addOne, input)))))));
+    }
+
+    @Benchmark
+    public int iterable2Long() {
+        return sum(Iterable2.of(input)
+                .map(addOne)
+                .filter(isEven)
+                .map(triple)
+                .filter(notMultipleOfFive)
+                .map(subtractOne)
+                .take(SIZE));
+    }
+
+    @Benchmark
+    public int javaStreamLong() {
+        return input.stream()
+                .map(addOne)
+                .filter(isEven)
+                .map(triple)
+                .filter(notMultipleOfFive)
+                .map(subtractOne)
+                .limit(SIZE)
+                .reduce(0, Integer::sum);
+    }
+
+    @Benchmark
+    public int vavrStreamLong() {
+        return sum(io.vavr.collection.Stream.ofAll(input)
+                .map(addOne)
+                .filter(isEven)
+                .map(triple)
+                .filter(notMultipleOfFive)
+                .map(subtractOne)
+                .take(SIZE));
+    }
+}
@@ -0,0 +1,75 @@
+package uk.co.qualitycode.utils.functional.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.co.qualitycode.utils.functional.Functional;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The trampolined {@link Functional.Rec} algorithms against their iterative counterparts in {@link Functional}.
+ * Every invocation processes {@link #SIZE} elements, which is deeper than the default thread stack would allow if
+ * the recursion were not trampolined, and the results are reported per element.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(RecBenchmark.SIZE)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecBenchmark {
+    static final int SIZE = 100_000;
+
+    private static final Function<Integer, Integer> triple = i -> 3 * i;
+    private static final Predicate<Integer> isEven = Functional::isEven;
+
+    private List<Integer> input;
+
+    @Setup
+    public void setUp() {
+        input = Inputs.range(SIZE);
+    }
+
+    @Benchmark
+    public Iterable<Integer> recMap() {
+        return Functional.Rec.map(triple, input);
+    }
+
+    @Benchmark
+    public Iterable<Integer> eagerMap() {
+        return Functional.map(triple, input);
+    }
+
+    @Benchmark
+    public Iterable<Integer> recFilter() {
+        return Functional.Rec.filter(isEven, input);
+    }
+
+    @Benchmark
+    public Iterable<Integer> eagerFilter() {
+        return Functional.filter(isEven, input);
+    }
+
+    @Benchmark
+    public long recFold() {
+        return Functional.Rec.fold((state, i) -> state + i, 0L, input);
+    }
+
+    @Benchmark
+    public long eagerFold() {
+        return Functional.fold((state, i) -> state + i, 0L, input);
+    }
+}
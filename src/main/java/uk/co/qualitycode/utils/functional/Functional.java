@@ -7,24 +7,45 @@ import uk.co.qualitycode.utils.functional.function.ConsumerWithExceptionDeclarat
 import uk.co.qualitycode.utils.functional.function.FunctionWithExceptionDeclaration;
 import uk.co.qualitycode.utils.functional.monad.Option;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.SortedSet;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -113,10 +134,7 @@ public final class Functional {
      * @return a string containing the string representation of each input element separated by the supplied delimiter
      */
     public static <T> Function<Iterable<T>, String> join(final String delimiter) {
-        return strs ->
-                isNull(strs)
-                        ? ""
-                        : asStream(strs).map(T::toString).collect(Collectors.joining(isNull(delimiter) ? "" : delimiter));
+        return strs -> isNull(strs) ? "" : join(new StringBuilder(estimatedLength(delimiter, strs)), delimiter, strs).toString();
     }
 
     /**
@@ -143,10 +161,104 @@ public final class Functional {
     public static <T> String join(final String separator, final Iterable<T> l, final Function<? super T, String> tfm) {
         notNull(tfm, "join(String,Iterable<T>,Function<T,String>)", "tfm");
 
-        return isNull(l) ? "" : join(separator, map(tfm, l));
+        return isNull(l) ? "" : join(new StringBuilder(estimatedLength(separator, l)), separator, l, tfm).toString();
+    }
+
+    /**
+     * Write all of the input elements to 'out', each element separated from the next by the supplied delimiter. No
+     * intermediate String is created for the whole sequence; elements which are <tt>CharSequence</tt>s are appended as
+     * they are and, when 'out' is a <tt>StringBuilder</tt>, <tt>Integer</tt>s and <tt>Long</tt>s are written as digits
+     * without first being converted to a String.
+     *
+     * @param out       the destination, eg a <tt>StringBuilder</tt> or a <tt>Writer</tt>
+     * @param delimiter used to separate consecutive elements in the output, if null it will be replaced with empty string ""
+     * @param strs      input sequence, each element of which must be convertible to a string. If null then nothing is written
+     * @param <T>       the type of the element in the input sequence
+     * @param <A>       the type of the destination
+     * @return 'out'
+     * @throws java.lang.IllegalArgumentException if 'out' is null
+     * @throws java.io.UncheckedIOException       if 'out' throws an IOException
+     */
+    public static <T, A extends Appendable> A join(final A out, final String delimiter, final Iterable<T> strs) {
+        notNull(out, "join(Appendable,String,Iterable<T>)", "out");
+        if (isNull(strs)) return out;
+
+        final String separator = isNull(delimiter) ? "" : delimiter;
+        try {
+            boolean isFirst = true;
+            for (final T element : strs) {
+                if (!isFirst) out.append(separator);
+                append(out, element);
+                isFirst = false;
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out;
+    }
+
+    /**
+     * Write the transformed value of each of the input elements to 'out', each separated from the next by the supplied
+     * separator. The transformed values are written as they are produced; they are not collected first.
+     *
+     * @param out       the destination, eg a <tt>StringBuilder</tt> or a <tt>Writer</tt>
+     * @param separator inserted between each transformed element, if null it will be replaced with empty string ""
+     * @param l         the input sequence. If null then nothing is written
+     * @param tfm       map function (see <tt>map</tt>) which is used to transform the input sequence
+     * @param <T>       the type of the element in the input sequence
+     * @param <A>       the type of the destination
+     * @return 'out'
+     * @throws java.lang.IllegalArgumentException if 'out' or 'tfm' is null
+     * @throws java.io.UncheckedIOException       if 'out' throws an IOException
+     */
+    public static <T, A extends Appendable> A join(final A out, final String separator, final Iterable<T> l, final Function<? super T, String> tfm) {
+        notNull(out, "join(Appendable,String,Iterable<T>,Function<T,String>)", "out");
+        notNull(tfm, "join(Appendable,String,Iterable<T>,Function<T,String>)", "tfm");
+        if (isNull(l)) return out;
+
+        final String delimiter = isNull(separator) ? "" : separator;
+        try {
+            boolean isFirst = true;
+            for (final T element : l) {
+                if (!isFirst) out.append(delimiter);
+                out.append(tfm.apply(element));
+                isFirst = false;
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out;
+    }
+
+    private static void append(final Appendable out, final Object element) throws IOException {
+        if (element instanceof CharSequence) out.append((CharSequence) element);
+        else if (out instanceof StringBuilder && element instanceof Integer) ((StringBuilder) out).append((int) (Integer) element);
+        else if (out instanceof StringBuilder && element instanceof Long) ((StringBuilder) out).append((long) (Long) element);
+        else out.append(element.toString());
+    }
 
+    /**
+     * The initial capacity of the StringBuilder used by <tt>join</tt>: a guess of {@link #ESTIMATED_ELEMENT_LENGTH}
+     * characters per element plus the delimiters when the number of elements is known, otherwise the StringBuilder
+     * default.
+     */
+    private static int estimatedLength(final String delimiter, final Iterable<?> input) {
+        if (!(input instanceof Collection<?>)) return 16;
+        final long estimate = ((Collection<?>) input).size() * (ESTIMATED_ELEMENT_LENGTH + (isNull(delimiter) ? 0L : delimiter.length()));
+        return (int) Math.min(estimate, MAX_ESTIMATED_LENGTH);
     }
 
+    /**
+     * The number of characters allowed for each element when <tt>join</tt> sizes its StringBuilder before the length of
+     * the output is known.
+     */
+    private static final int ESTIMATED_ELEMENT_LENGTH = 8;
+
+    /**
+     * The largest initial capacity that <tt>join</tt> gives its StringBuilder when it estimates the length of the output.
+     */
+    private static final int MAX_ESTIMATED_LENGTH = 1 << 24;
+
     /**
      * A string function: generate a string that contains the 'unitOfIndentation' repeated 'howMany' times prepended to 'indentThis'
      *
@@ -244,12 +356,7 @@ public final class Functional {
     public static <A> Option<A> find(final Predicate<? super A> f, final Iterable<A> input) {
         notNull(f, "find(Predicate<A>,Iterable<A>)", "f");
         notNull(input, "find(Predicate<A>,Iterable<A>)", "input");
-
-        for (final A a : input) {
-            if (f.test((a)))
-                return Option.of(a);
-        }
-        return Option.none();
+        return Sinks.find(f, input);
     }
 
     /**
@@ -300,7 +407,8 @@ public final class Functional {
      * @param f     predicate
      * @param input sequence
      * @param <A>   the type of the element in the input sequence
-     * @return the last element in the input sequence for which the supplied predicate returns true
+     * @return the last element in the input sequence for which the supplied predicate returns true. A <tt>List</tt>,
+     * <tt>Deque</tt> or <tt>NavigableSet</tt> is scanned backwards from its end, so the scan stops at the last match
      * @throws java.lang.IllegalArgumentException if f or input are null
      * @throws java.util.NoSuchElementException   if no element is found that satisfies the predicate
      */
@@ -308,11 +416,27 @@ public final class Functional {
         notNull(f, "findLast(Predicate<A>,Iterable<A>)", "f");
         notNull(input, "findLast(Predicate<A>,Iterable<A>)", "input");
 
-        final Tuple2<? extends List<? extends A>, ? extends Iterable<? extends A>> p = takeNAndYield(1, input);
-        final Tuple2<A, Boolean> seed = new Tuple2<>(p._1().get(0), f.test(p._1().get(0)));
-        final Tuple2<A, Boolean> result = fold((state, item) -> f.test(item) ? new Tuple2<>(item, true) : state, seed, p._2());
+        if (input instanceof List<?>) return findLast(f, (List<? extends A>) input);
+        if (input instanceof Deque<?>) return findFirst(f, ((Deque<? extends A>) input).descendingIterator());
+        if (input instanceof NavigableSet<?>) return findFirst(f, ((NavigableSet<? extends A>) input).descendingIterator());
+
+        A last = null;
+        boolean found = false;
+        for (final A a : input)
+            if (f.test(a)) {
+                last = a;
+                found = true;
+            }
+        return found ? Option.of(last) : Option.none();
+    }
 
-        return result._2() ? Option.of(result._1()) : Option.none();
+    private static <A> Option<A> findFirst(final Predicate<A> f, final Iterator<? extends A> input) {
+        while (input.hasNext()) {
+            final A a = input.next();
+            if (f.test(a))
+                return Option.of(a);
+        }
+        return Option.none();
     }
 
     /**
@@ -330,7 +454,9 @@ public final class Functional {
         notNull(f, "findLast(Predicate<A>,List<A>)", "f");
         notNull(input, "findLast(Predicate<A>,List<A>)", "input");
 
-        for (final A a : Iterators.reverse(input)) {
+        final ListIterator<? extends A> iterator = input.listIterator(input.size());
+        while (iterator.hasPrevious()) {
+            final A a = iterator.previous();
             if (f.test(a))
                 return Option.of(a);
         }
@@ -351,7 +477,7 @@ public final class Functional {
      */
     public static <A> Function<Iterable<A>, Option<A>> findLast(final Predicate<A> f) {
         notNull(f, "findLast(Predicate<A>)", "f");
-        return input -> input instanceof List ? Functional.findLast(f, (List<A>) input) : Functional.findLast(f, input);
+        return input -> Functional.findLast(f, input);
     }
 
     /**
@@ -414,9 +540,10 @@ public final class Functional {
         notNull(zipFunc1, "zip(Function<A,B>,Function<A,B>,Iterable<A>)", "zipFunc1");
         notNull(zipFunc2, "zip(Function<A,B>,Function<A,B>,Iterable<A>)", "zipFunc2");
         notNull(input, "zip(Function<A,B>,Function<A,B>,Iterable<A>)", "input");
-        return Collections.unmodifiableList(StreamSupport.stream(input.spliterator(), false)
-                .map(element -> new Tuple2<>(zipFunc1.apply(element), zipFunc2.apply(element)))
-                .collect(Collectors.toList()));
+        final Spliterator<? extends A> spliterator = input.spliterator();
+        final ImmutableArrayList.Builder<Tuple2<B, C>> output = ImmutableArrayList.builder(ImmutableArrayList.expectedSize(spliterator));
+        spliterator.forEachRemaining(element -> output.add(new Tuple2<>(zipFunc1.apply(element), zipFunc2.apply(element))));
+        return output.build();
     }
 
     /**
@@ -452,7 +579,7 @@ public final class Functional {
         notNull(input1, "zip(Iterable<A>,Iterable<B>)", "input1");
         notNull(input2, "zip(Iterable<A>,Iterable<B>)", "input2");
 
-        final List<Tuple2<A, B>> output = new ArrayList<>();
+        final ImmutableArrayList.Builder<Tuple2<A, B>> output = ImmutableArrayList.builder(ImmutableArrayList.expectedSize(input1));
         final Iterator<? extends A> l1_it = input1.iterator();
         final Iterator<? extends B> l2_it = input2.iterator();
 
@@ -460,7 +587,7 @@ public final class Functional {
         if (l1_it.hasNext() || l2_it.hasNext())
             throw new IllegalArgumentException("zip(Iterable<A>,Iterable<B>): Cannot zip two iterables with different lengths");
 
-        return Collections.unmodifiableList(output);
+        return output.build();
     }
 
     /**
@@ -485,12 +612,12 @@ public final class Functional {
         final Iterator<? extends A> l1_it = input1.iterator();
         final Iterator<? extends B> l2_it = input2.iterator();
 
-        final List<Tuple2<A, B>> output = new ArrayList<>(input1.size());
+        final ImmutableArrayList.Builder<Tuple2<A, B>> output = ImmutableArrayList.builder(input1.size());
         while (l1_it.hasNext() && l2_it.hasNext()) output.add(new Tuple2<>(l1_it.next(), l2_it.next()));
         if (l1_it.hasNext() || l2_it.hasNext())
             throw new IllegalArgumentException("zip(Collection<A>,Collection<B>): The input sequences must have the same number of elements");
 
-        return Collections.unmodifiableList(output);
+        return output.build();
     }
 
     /**
@@ -512,13 +639,11 @@ public final class Functional {
         notNull(input2, "zip3(Iterable<A>,Iterable<B>,Iterable<C>)", "input2");
         notNull(input3, "zip3(Iterable<A>,Iterable<B>,Iterable<C>)", "input3");
 
-        final List<Tuple3<A, B, C>> output;
         if (input1 instanceof Collection<?> && input2 instanceof Collection<?> && input3 instanceof Collection<?>) {
             if (((Collection<?>) input1).size() != ((Collection<?>) input2).size())
                 throw new IllegalArgumentException("zip3(Iterable<A>,Iterable<B>,Iterable<C>): cannot zip three iterables with different lengths");
-
-            output = new ArrayList<>(((Collection<?>) input1).size());
-        } else output = new ArrayList<>();
+        }
+        final ImmutableArrayList.Builder<Tuple3<A, B, C>> output = ImmutableArrayList.builder(ImmutableArrayList.expectedSize(input1));
         final Iterator<? extends A> l1_it = input1.iterator();
         final Iterator<? extends B> l2_it = input2.iterator();
         final Iterator<? extends C> l3_it = input3.iterator();
@@ -528,7 +653,7 @@ public final class Functional {
         if (l1_it.hasNext() || l2_it.hasNext() || l3_it.hasNext())
             throw new IllegalArgumentException("zip3(Iterable<A>,Iterable<B>,Iterable<C>): cannot zip three iterables with different lengths");
 
-        return Collections.unmodifiableList(output);
+        return output.build();
     }
 
     /**
@@ -545,22 +670,15 @@ public final class Functional {
     public static <A, B> Tuple2<List<A>, List<B>> unzip(final Iterable<Tuple2<A, B>> input) {
         notNull(input, "unzip(Iterable<Tuple2<A,B>>)", "input");
 
-        final List<A> l1;
-        final List<B> l2;
-        if (input instanceof Collection<?>) {
-            final int size = ((Collection<?>) input).size();
-            l1 = new ArrayList<>(size);
-            l2 = new ArrayList<>(size);
-        } else {
-            l1 = new ArrayList<>();
-            l2 = new ArrayList<>();
-        }
+        final int size = ImmutableArrayList.expectedSize(input);
+        final ImmutableArrayList.Builder<A> l1 = ImmutableArrayList.builder(size);
+        final ImmutableArrayList.Builder<B> l2 = ImmutableArrayList.builder(size);
         for (final Tuple2<A, B> pair : input) {
             l1.add(pair._1());
             l2.add(pair._2());
         }
 
-        return new Tuple2<>(Collections.unmodifiableList(l1), Collections.unmodifiableList(l2));
+        return new Tuple2<>(l1.build(), l2.build());
     }
 
     /**
@@ -578,19 +696,10 @@ public final class Functional {
     public static <A, B, C> Tuple3<List<A>, List<B>, List<C>> unzip3(final Iterable<Tuple3<A, B, C>> input) {
         notNull(input, "unzip3(Iterable<Tuple3<A,B,C>>)", "input");
 
-        final List<A> l1;
-        final List<B> l2;
-        final List<C> l3;
-        if (input instanceof Collection<?>) {
-            final int size = ((Collection<?>) input).size();
-            l1 = new ArrayList<>(size);
-            l2 = new ArrayList<>(size);
-            l3 = new ArrayList<>(size);
-        } else {
-            l1 = new ArrayList<>();
-            l2 = new ArrayList<>();
-            l3 = new ArrayList<>();
-        }
+        final int size = ImmutableArrayList.expectedSize(input);
+        final ImmutableArrayList.Builder<A> l1 = ImmutableArrayList.builder(size);
+        final ImmutableArrayList.Builder<B> l2 = ImmutableArrayList.builder(size);
+        final ImmutableArrayList.Builder<C> l3 = ImmutableArrayList.builder(size);
 
         for (final Tuple3<A, B, C> triplet : input) {
             l1.add(triplet._1());
@@ -598,7 +707,7 @@ public final class Functional {
             l3.add(triplet._3());
         }
 
-        return new Tuple3<>(Collections.unmodifiableList(l1), Collections.unmodifiableList(l2), Collections.unmodifiableList(l3));
+        return new Tuple3<>(l1.build(), l2.build(), l3.build());
     }
 
     /**
@@ -678,10 +787,10 @@ public final class Functional {
         if (howMany < 0)
             throw new IllegalArgumentException("init(Function<Integer,T>,int): howMany must be non-negative");
 
-        final List<T> output = new ArrayList<>(howMany);
+        final Object[] output = new Object[howMany];
         for (int i = 1; i <= howMany; ++i)
-            output.add(f.apply(i));
-        return Collections.unmodifiableList(output);
+            output[i - 1] = f.apply(i);
+        return ImmutableArrayList.wrap(output);
     }
 
     /**
@@ -698,7 +807,10 @@ public final class Functional {
     public static <A, B> List<B> map(final Function<A, ? extends B> f, final Iterable<? extends A> input) {
         notNull(f, "map(Function<A,B>,Iterable<A>)", "f");
         notNull(input, "map(Function<A,B>,Iterable<A>)", "input");
-        return Collections.unmodifiableList(StreamSupport.stream(input.spliterator(), false).map(f).collect(Collectors.toList()));
+        final Spliterator<? extends A> spliterator = input.spliterator();
+        final ImmutableArrayList.Builder<B> output = ImmutableArrayList.builder(ImmutableArrayList.expectedSize(spliterator));
+        spliterator.forEachRemaining(a -> output.add(f.apply(a)));
+        return output.build();
     }
 
     /**
@@ -715,7 +827,10 @@ public final class Functional {
     public static <A, B> List<B> map(final Function<A, ? extends B> f, final Collection<? extends A> input) {
         notNull(f, "map(Function<A,B>,Collection<A>)", "f");
         notNull(input, "map(Function<A,B>,Collection<A>)", "input");
-        return Collections.unmodifiableList(input.stream().map(f).collect(Collectors.toList()));
+        final ImmutableArrayList.Builder<B> output = ImmutableArrayList.builder(input.size());
+        for (final A a : input)
+            output.add(f.apply(a));
+        return output.build();
     }
 
     /**
@@ -811,7 +926,7 @@ public final class Functional {
     public static <A, AA extends A> List<AA> sortWith(final Comparator<A> comparator, final Collection<AA> input) {
         notNull(comparator, "sortWith(Comparator<A>,Collection<B>)", "comparator");
         notNull(input, "sortWith(Comparator<A>,Collection<B>)", "input");
-        return Collections.unmodifiableList(input.stream().sorted(comparator).collect(Collectors.toList()));
+        return ImmutableArrayList.<AA>builder(input.size()).addAll(input).sort(comparator).build();
     }
 
     /**
@@ -826,7 +941,11 @@ public final class Functional {
     public static <A, AA extends A> List<AA> sortWith(final Comparator<A> comparator, final Iterable<AA> input) {
         notNull(comparator, "sortWith(Comparator<A>,Iterable<B>)", "comparator");
         notNull(input, "sortWith(Comparator<A>,Iterable<B>)", "input");
-        return Collections.unmodifiableList(StreamSupport.stream(input.spliterator(), false).sorted(comparator).collect(Collectors.toList()));
+        if (input instanceof Collection<?>) return sortWith(comparator, (Collection<AA>) input);
+        final Spliterator<AA> spliterator = input.spliterator();
+        final ImmutableArrayList.Builder<AA> output = ImmutableArrayList.builder(ImmutableArrayList.expectedSize(spliterator));
+        spliterator.forEachRemaining(output::add);
+        return output.sort(comparator).build();
     }
 
     /**
@@ -880,7 +999,12 @@ public final class Functional {
     public static <A> List<A> filter(final Predicate<? super A> predicate, final Iterable<A> input) {
         notNull(predicate, "filter(Predicate<A>,Iterable<A>)", "predicate");
         notNull(input, "filter(Predicate<A>,Iterable<A>)", "input");
-        return Collections.unmodifiableList(StreamSupport.stream(input.spliterator(), false).filter(predicate).collect(Collectors.toList()));
+        final Spliterator<A> spliterator = input.spliterator();
+        final ImmutableArrayList.Builder<A> output = ImmutableArrayList.builder(ImmutableArrayList.expectedSize(spliterator));
+        spliterator.forEachRemaining(a -> {
+            if (predicate.test(a)) output.add(a);
+        });
+        return output.build();
     }
 
     /**
@@ -896,7 +1020,10 @@ public final class Functional {
     public static <A> List<A> filter(final Predicate<? super A> predicate, final Collection<A> input) {
         notNull(predicate, "filter(Predicate<A>,Collection<A>)", "predicate");
         notNull(input, "filter(Predicate<A>,Collection<A>)", "input");
-        return Collections.unmodifiableList(input.stream().filter(predicate).collect(Collectors.toList()));
+        final ImmutableArrayList.Builder<A> output = ImmutableArrayList.builder(input.size());
+        for (final A a : input)
+            if (predicate.test(a)) output.add(a);
+        return output.build();
     }
 
     /**
@@ -928,7 +1055,7 @@ public final class Functional {
     public static <A> boolean exists(final Predicate<? super A> predicate, final Iterable<A> input) {
         notNull(predicate, "exists(Predicate<T>,Iterable<T>)", "predicate");
         notNull(input, "exists(Predicate<T>,Iterable<T>)", "input");
-        return StreamSupport.stream(input.spliterator(), false).anyMatch(predicate);
+        return Sinks.exists(predicate, input);
     }
 
     /**
@@ -944,7 +1071,7 @@ public final class Functional {
     public static <A> boolean exists(final Predicate<? super A> predicate, final Collection<A> input) {
         notNull(predicate, "exists(Predicate<T>,Collection<T>)", "predicate");
         notNull(input, "exists(Predicate<T>,Collection<T>)", "input");
-        return input.stream().anyMatch(predicate);
+        return Sinks.exists(predicate, input);
     }
 
     /**
@@ -1003,7 +1130,7 @@ public final class Functional {
     public static <A> boolean forAll(final Predicate<A> predicate, final Iterable<? extends A> input) {
         notNull(predicate, "forAll(Predicate<A>,Iterable<A>)", "predicate");
         notNull(input, "forAll(Predicate<A>,Iterable<A>)", "input");
-        return !exists(not(predicate), input);
+        return Sinks.forAll(predicate, input);
     }
 
     /**
@@ -1019,7 +1146,7 @@ public final class Functional {
     public static <A> boolean forAll(final Predicate<A> predicate, final Collection<? extends A> input) {
         notNull(predicate, "forAll(Predicate<A>,Collection<A>)", "predicate");
         notNull(input, "forAll(Predicate<A>,Collection<A>)", "input");
-        return !exists(not(predicate), input);
+        return Sinks.forAll(predicate, input);
     }
 
     /**
@@ -1247,18 +1374,6 @@ public final class Functional {
         }
     }
 
-    private static <A, B> List<B> chooseReducer(final Function<? super A, Option<B>> f, final Stream<A> input) {
-        return input.reduce(new ArrayList<>(), (state, a) -> {
-            final Option<B> intermediate = f.apply(a);
-            if (intermediate.isSome())
-                state.add(intermediate.get());
-            return state;
-        }, (t1, t2) -> {
-            t1.addAll(t2);
-            return t1;
-        });
-    }
-
     /**
      * choose: this is a map transformation with the difference being that the number of elements in the output sequence may
      * be between zero and the number of elements in the input sequence.
@@ -1274,7 +1389,13 @@ public final class Functional {
     public static <A, B> List<B> choose(final Function<? super A, Option<B>> chooser, final Iterable<A> input) {
         notNull(chooser, "choose(Function<A,Option<B>>,Iterable<A>)", "chooser");
         notNull(input, "choose(Function<A,Option<B>>,Iterable<A>)", "input");
-        return Collections.unmodifiableList(chooseReducer(chooser, StreamSupport.stream(input.spliterator(), false)));
+        final Spliterator<A> spliterator = input.spliterator();
+        final ImmutableArrayList.Builder<B> output = ImmutableArrayList.builder(ImmutableArrayList.expectedSize(spliterator));
+        spliterator.forEachRemaining(a -> {
+            final Option<B> intermediate = chooser.apply(a);
+            if (intermediate.isSome()) output.add(intermediate.get());
+        });
+        return output.build();
     }
 
     /**
@@ -1293,7 +1414,12 @@ public final class Functional {
         notNull(chooser, "choose(Function<A,Option<B>>,Collection<A>)", "chooser");
         notNull(input, "choose(Function<A,Option<B>>,Collection<A>)", "input");
 
-        return Collections.unmodifiableList(chooseReducer(chooser, input.stream()));
+        final ImmutableArrayList.Builder<B> output = ImmutableArrayList.builder(input.size());
+        for (final A a : input) {
+            final Option<B> intermediate = chooser.apply(a);
+            if (intermediate.isSome()) output.add(intermediate.get());
+        }
+        return output.build();
     }
 
     /**
@@ -1329,10 +1455,7 @@ public final class Functional {
     public static <A, B> A fold(final BiFunction<? super A, ? super B, ? extends A> folder, final A initialValue, final Iterable<B> input) {
         notNull(folder, "fold(BiFunction<A,B,A>,A,Iterable<B>)", "folder");
         notNull(input, "fold(BiFunction<A,B,A>,A,Iterable<B>)", "input");
-        A state = initialValue;
-        for (final B b : input)
-            state = folder.apply(state, b);
-        return state;
+        return Sinks.fold(folder, initialValue, input);
     }
 
     // The JDK reduce() doesn't seem to be quite as broadly applicable because it accepts "A" and not "? super A"
@@ -1563,7 +1686,8 @@ public final class Functional {
     }
 
     /**
-     * Return the final element from the input sequence
+     * Return the final element from the input sequence. The last element of a <tt>List</tt>, <tt>Deque</tt> or
+     * <tt>SortedSet</tt> is read directly; any other sequence is traversed.
      *
      * @param input input sequence
      * @param <T>   the type of the element in the input sequence
@@ -1573,8 +1697,20 @@ public final class Functional {
     public static <T> T last(final Iterable<T> input) {
         notNull(input, "last(Iterable<T>)", "input");
 
-        T state = null;
-        for (final T element : input) state = element;
+        if (input instanceof Collection<?> && ((Collection<?>) input).isEmpty())
+            throw new IllegalArgumentException("last(Iterable<T>): input must not be empty");
+        if (input instanceof List<?>) {
+            final List<T> list = (List<T>) input;
+            return list instanceof RandomAccess ? list.get(list.size() - 1) : list.listIterator(list.size()).previous();
+        }
+        if (input instanceof Deque<?>) return ((Deque<T>) input).getLast();
+        if (input instanceof SortedSet<?>) return ((SortedSet<T>) input).last();
+
+        final Iterator<T> iterator = input.iterator();
+        if (!iterator.hasNext())
+            throw new IllegalArgumentException("last(Iterable<T>): input must not be empty");
+        T state = iterator.next();
+        while (iterator.hasNext()) state = iterator.next();
 
         return state;
     }
@@ -1600,13 +1736,17 @@ public final class Functional {
      * @param input1 first input sequence
      * @param input2 second input sequence
      * @param <T>    the type of the element in the input sequences
-     * @return a list containing the elements of the first sequence followed by the elements of the second sequence
+     * @return an unmodifiable list containing the elements of the first sequence followed by the elements of the second
+     * sequence. Any attempt to modify it throws <tt>UnsupportedOperationException</tt>
      */
     public static <T> List<T> concat(final Iterable<T> input1, final Iterable<T> input2) {
         notNull(input1, "concat(Iterable<T>,Iterable<T>)", "input1");
         notNull(input2, "concat(Iterable<T>,Iterable<T>)", "input2");
 
-        return io.vavr.collection.List.ofAll(input1).appendAll(input2).toJavaList();
+        return ImmutableArrayList.<T>builder(ImmutableArrayList.expectedSize(input1) + ImmutableArrayList.expectedSize(input2))
+                .addAll(input1)
+                .addAll(input2)
+                .build();
     }
 
     /**
@@ -1615,16 +1755,22 @@ public final class Functional {
      * @param howMany a positive number of elements to be returned from the input sequence
      * @param input   the input sequence
      * @param <T>     the type of the element in the input sequence
-     * @return a list containing the first 'howMany' elements of 'input'
+     * @return an unmodifiable list containing the first 'howMany' elements of 'input'. Any attempt to modify it throws
+     * <tt>UnsupportedOperationException</tt>
      * @throws java.util.NoSuchElementException if more elements are requested than are present in the input sequence
      */
     public static <T> List<T> take(final int howMany, final Iterable<? extends T> input) {
         if (howMany < 0) throw new IllegalArgumentException("take(int,Iterable<T>): howMany must not be negative");
         notNull(input, "take(int,Iterable<T>)", "input");
 
-        if (howMany == 0) return new ArrayList<>(0);
+        if (howMany == 0) return ImmutableArrayList.empty();
 
-        return StreamSupport.stream(input.spliterator(), false).limit(howMany).collect(Collectors.toList());
+        final Spliterator<? extends T> spliterator = input.spliterator();
+        final ImmutableArrayList.Builder<T> output = ImmutableArrayList.builder(Math.min(howMany, ImmutableArrayList.expectedSize(spliterator)));
+        final Iterator<? extends T> iterator = Spliterators.iterator(spliterator);
+        for (int i = 0; i < howMany && iterator.hasNext(); ++i)
+            output.add(iterator.next());
+        return output.build();
     }
 
     /**
@@ -1633,16 +1779,35 @@ public final class Functional {
      * @param howMany a positive number of elements to be returned from the input sequence
      * @param input   the input sequence
      * @param <T>     the type of the element in the input sequence
-     * @return a list containing the first 'howMany' elements of 'input'
+     * @return an unmodifiable list containing the first 'howMany' elements of 'input'. If 'input' is an {@link ImmutableArrayList} then
+     * this is a view which shares its elements, otherwise the elements are copied and later changes to 'input' are not seen
      * @throws java.util.NoSuchElementException if more elements are requested than are present in the input sequence
      */
     public static <T> List<T> take(final int howMany, final List<? extends T> input) {
         if (howMany < 0) throw new IllegalArgumentException("take(int,List<T>): howMany must not be negative");
         notNull(input, "take(int,List<T>)", "input");
 
-        if (howMany == 0) return new ArrayList<>(0);
+        if (howMany == 0) return ImmutableArrayList.empty();
+
+        return copyOfRange(input, 0, Math.min(howMany, input.size()));
+    }
+
+    /**
+     * takeView: given a list return a read-only view of its first 'howMany' elements. Unlike <tt>take</tt>, no elements
+     * of a <tt>RandomAccess</tt> list are copied, so this costs O(1) whatever the value of 'howMany'.
+     *
+     * @param howMany a non-negative number of elements to be returned from the input sequence
+     * @param input   the input sequence
+     * @param <T>     the type of the element in the input sequence
+     * @return a read-only list containing the first 'howMany' elements of 'input'. If 'input' is a <tt>RandomAccess</tt>
+     * list then this is a view of it: changes to the elements of 'input' are seen through the view, and the view must not
+     * be used once the size of 'input' has changed. The elements of any other list are copied
+     */
+    public static <T> List<T> takeView(final int howMany, final List<? extends T> input) {
+        if (howMany < 0) throw new IllegalArgumentException("takeView(int,List<T>): howMany must not be negative");
+        notNull(input, "takeView(int,List<T>)", "input");
 
-        return input.stream().limit(howMany).collect(Collectors.toList());
+        return viewOfRange(input, 0, Math.min(howMany, input.size()));
     }
 
     /**
@@ -1651,7 +1816,7 @@ public final class Functional {
      *
      * @param <T>     the type of the element in the input sequence
      * @param howMany a positive number of elements to be returned from the input sequence
-     * @return a list containing the first 'howMany' elements of 'list'
+     * @return an unmodifiable list containing the first 'howMany' elements of 'list'
      * @throws java.util.NoSuchElementException if more elements are requested than are present in the input sequence
      * @see <a href="http://en.wikipedia.org/wiki/Currying">Currying</a>
      */
@@ -1673,13 +1838,13 @@ public final class Functional {
         notNull(predicate, "takeWhile(Predicate<T>,Iterable<T>)", "predicate");
         notNull(input, "takeWhile(Predicate<T>,Iterable<T>)", "input");
 
-        final List<T> result = new ArrayList<>();
+        final ImmutableArrayList.Builder<T> result = ImmutableArrayList.builder(ImmutableArrayList.expectedSize(input));
         final Iterator<T> iterator = input.iterator();
         T next;
         while (iterator.hasNext() && predicate.test(next = iterator.next())) {
             result.add(next);
         }
-        return Collections.unmodifiableList(result);
+        return result.build();
     }
 
     /**
@@ -1689,22 +1854,21 @@ public final class Functional {
      * @param <T>       the type of the element in the input sequence
      * @param predicate the predicate to use
      * @param input     the input sequence
-     * @return a list
+     * @return a list. If 'input' is a <tt>RandomAccess</tt> list then this is a read-only view of it: changes to the
+     * elements of 'input' are seen through the view, and the view must not be used once the size of 'input' has changed.
+     * The elements of any other list are copied
      */
     public static <T> List<T> takeWhile(final Predicate<? super T> predicate, final List<T> input) {
         notNull(predicate, "takeWhile(Predicate<T>,List<T>)", "predicate");
         notNull(input, "takeWhile(Predicate<T>,List<T>)", "input");
 
-        if (input.size() == 0) return new ArrayList<>();
+        if (!(input instanceof RandomAccess)) return takeWhile(predicate, (Iterable<T>) input);
 
-        for (int i = 0; i < input.size(); ++i) {
-            final T element = input.get(i);
-            if (!predicate.test(element)) {
-                if (i == 0) return new ArrayList<>();
-                return Collections.unmodifiableList(input.subList(0, i));
-            }
-        }
-        return Collections.unmodifiableList(input);
+        final int size = input.size();
+        for (int i = 0; i < size; ++i)
+            if (!predicate.test(input.get(i)))
+                return viewOfRange(input, 0, i);
+        return viewOfRange(input, 0, size);
     }
 
     /**
@@ -1730,13 +1894,21 @@ public final class Functional {
      * @param input   the input sequence
      * @param <T>     the type of the element in the input sequence
      * @return a list containing the remaining elements after the first 'howMany' elements of 'list' or an empty list if more elements
-     * are skipped than are present in the 'input'
+     * are skipped than are present in the 'input'. If 'input' is an {@link ImmutableArrayList} then this is a view which shares
+     * its elements, otherwise it is a copy
      */
     public static <T> List<T> skip(final int howMany, final Iterable<? extends T> input) {
         if (howMany < 0) throw new IllegalArgumentException("skip(int,Iterable<T>): howMany must not be negative");
         notNull(input, "skip(int,Iterable<T>)", "input");
 
-        return skip(howMany, asStream(input).collect(Collectors.toList()));
+        if (input instanceof ImmutableArrayList<?>) return skip(howMany, (List<? extends T>) input);
+        final Iterator<? extends T> iterator = input.iterator();
+        for (int i = 0; i < howMany && iterator.hasNext(); ++i)
+            iterator.next();
+        final ImmutableArrayList.Builder<T> output = ImmutableArrayList.builder(Math.max(ImmutableArrayList.expectedSize(input) - howMany, 0));
+        while (iterator.hasNext())
+            output.add(iterator.next());
+        return output.build();
     }
 
     /**
@@ -1747,17 +1919,16 @@ public final class Functional {
      * @param input   the input sequence
      * @param <T>     the type of the element in the input sequence
      * @return a list containing the remaining elements after the first 'howMany' elements of 'list' or an empty list if more elements
-     * are skipped than are present in the 'input'
+     * are skipped than are present in the 'input'. If 'input' is a <tt>RandomAccess</tt> list then this is a read-only
+     * view of it: changes to the elements of 'input' are seen through the view, and the view must not be used once the
+     * size of 'input' has changed. The elements of any other list are copied
      */
     public static <T> List<T> skip(final int howMany, final List<? extends T> input) {
         if (howMany < 0) throw new IllegalArgumentException("skip(int,List<T>): howMany must not be negative");
         notNull(input, "skip(int,List<T>)", "input");
 
-        if (howMany == 0) return Collections.unmodifiableList(input);
-        final int outputListSize = input.size() - howMany;
-        if (outputListSize <= 0) return new ArrayList<>();
-
-        return Collections.unmodifiableList(input.subList(howMany, input.size()));
+        final int size = input.size();
+        return viewOfRange(input, Math.min(howMany, size), size);
     }
 
     /**
@@ -1789,7 +1960,7 @@ public final class Functional {
         notNull(predicate, "skipWhile(Predicate<T>,Iterable<T>)", "predicate");
         notNull(input, "skipWhile(Predicate<T>,Iterable<T>)", "input");
 
-        return skipWhile(predicate, asStream(input).collect(Collectors.toList()));
+        return skipWhile(predicate, ImmutableArrayList.copyOf(input));
     }
 
     /**
@@ -1799,17 +1970,24 @@ public final class Functional {
      * @param <T>       the type of the element in the input sequence
      * @param predicate ignore elements in the input while the predicate is true.
      * @param input     the input sequence
-     * @return a input containing the remaining elements after and including the first element for which the predicate returns false
+     * @return a input containing the remaining elements after and including the first element for which the predicate returns false.
+     * If 'input' is a <tt>RandomAccess</tt> list then this is a read-only view of it: changes to the elements of 'input'
+     * are seen through the view, and the view must not be used once the size of 'input' has changed. The elements of any
+     * other list are copied
      */
     public static <T> List<T> skipWhile(final Predicate<? super T> predicate, final List<T> input) {
         notNull(predicate, "skipWhile(Predicate<T>,List<T>)", "predicate");
         notNull(input, "skipWhile(Predicate<T>,List<T>)", "input");
 
-        for (int counter = 0; counter < input.size(); ++counter)
-            if (!predicate.test(input.get(counter)))
-                return Collections.unmodifiableList(input.subList(counter, input.size()));
-
-        return Collections.unmodifiableList(new ArrayList<>(0));
+        final int size = input.size();
+        int counter = 0;
+        if (input instanceof RandomAccess) {
+            while (counter < size && predicate.test(input.get(counter))) ++counter;
+        } else {
+            final Iterator<T> iterator = input.iterator();
+            while (iterator.hasNext() && predicate.test(iterator.next())) ++counter;
+        }
+        return viewOfRange(input, counter, size);
     }
 
     /**
@@ -1826,6 +2004,80 @@ public final class Functional {
         return input -> Functional.skipWhile(predicate, input);
     }
 
+    /**
+     * page: split a list into successive pages of 'pageSize' elements. The last page holds whatever remains and so may be
+     * shorter. Each page is a read-only view of 'input', as returned by <tt>takeView</tt>, so no elements are copied:
+     * changes to the elements of 'input' are seen through the pages, and a page must not be used once the size of 'input'
+     * has changed. If 'input' is not a <tt>RandomAccess</tt> list then it is copied once, before the first page is produced.
+     *
+     * @param pageSize the number of elements in each page
+     * @param input    the input list
+     * @param <T>      the type of the element in the input list
+     * @return a sequence of pages
+     */
+    public static <T> Iterable<List<T>> page(final int pageSize, final List<T> input) {
+        if (pageSize <= 0) throw new IllegalArgumentException("page(int,List<T>): pageSize must be positive");
+        notNull(input, "page(int,List<T>)", "input");
+
+        return () -> new Iterator<List<T>>() {
+            private final List<T> pages = input instanceof RandomAccess ? input : ImmutableArrayList.copyOf(input);
+            private int from;
+
+            @Override
+            public boolean hasNext() {
+                return from < pages.size();
+            }
+
+            @Override
+            public List<T> next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                final int to = from + Math.min(pageSize, pages.size() - from);
+                final List<T> page = viewOfRange(pages, from, to);
+                from = to;
+                return page;
+            }
+        };
+    }
+
+    /**
+     * page: split a list into successive pages of 'pageSize' elements. The last page holds whatever remains and so may be
+     * shorter. Each page is a read-only view of the input list, so no elements are copied.
+     * This is the curried implementation
+     *
+     * @param pageSize the number of elements in each page
+     * @param <T>      the type of the element in the input list
+     * @return a function which returns a sequence of pages
+     * @see <a href="http://en.wikipedia.org/wiki/Currying">Currying</a>
+     */
+    public static <T> Function<List<T>, Iterable<List<T>>> page(final int pageSize) {
+        if (pageSize <= 0) throw new IllegalArgumentException("page(int): pageSize must be positive");
+        return input -> Functional.page(pageSize, input);
+    }
+
+    /**
+     * A copy of the elements of 'input' from 'from', inclusive, to 'to', exclusive. An ImmutableArrayList cannot change,
+     * so it returns a view of itself instead.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> copyOfRange(final List<? extends T> input, final int from, final int to) {
+        if (from == to) return ImmutableArrayList.empty();
+        if (input instanceof ImmutableArrayList<?>) return ((ImmutableArrayList<T>) input).subList(from, to);
+        return ImmutableArrayList.copyOf(input.subList(from, to));
+    }
+
+    /**
+     * A read-only view of the elements of 'input' from 'from', inclusive, to 'to', exclusive. An ImmutableArrayList
+     * returns a view of itself and any other <tt>RandomAccess</tt> list is wrapped, so no elements are copied. Elements
+     * of any other list are copied, because its <tt>subList</tt> would have to walk the list for every access.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> viewOfRange(final List<? extends T> input, final int from, final int to) {
+        if (from == to) return ImmutableArrayList.empty();
+        if (input instanceof ImmutableArrayList<?>) return ((ImmutableArrayList<T>) input).subList(from, to);
+        if (input instanceof RandomAccess) return Collections.unmodifiableList(input.subList(from, to));
+        return ImmutableArrayList.copyOf(input.subList(from, to));
+    }
+
     /**
      * constant: a function that returns a map function f(n) that returns the supplied 'constant'. Typically this would be
      * used in <tt>init</tt>
@@ -1870,10 +2122,10 @@ public final class Functional {
     public static <T, U> List<U> flatMap(final Function<? super T, ? extends Iterable<U>> f, final Iterable<T> input) {
         notNull(f, "flatMap(Function<A,B>,Iterable<A>)", "f");
         notNull(input, "flatMap(Function<A,B>,Iterable<A>)", "input");
-        List<U> output = new ArrayList<>();
+        final ImmutableArrayList.Builder<U> output = ImmutableArrayList.builder(ImmutableArrayList.expectedSize(input));
         for (final T element : input)
-            output = Functional.concat(output, f.apply(element));
-        return Collections.unmodifiableList(output);
+            output.addAll(f.apply(element));
+        return output.build();
     }
 
     /**
@@ -1891,10 +2143,10 @@ public final class Functional {
     public static <T, U> List<U> flatMap(final Function<? super T, ? extends Iterable<U>> f, final Collection<T> input) {
         notNull(f, "flatMap(Function<A,B>,Collection<A>)", "f");
         notNull(input, "flatMap(Function<A,B>,Collection<A>)", "input");
-        List<U> output = new ArrayList<>(input.size());
+        final ImmutableArrayList.Builder<U> output = ImmutableArrayList.builder(input.size());
         for (final T element : input)
-            output = Functional.concat(output, f.apply(element));
-        return Collections.unmodifiableList(output);
+            output.addAll(f.apply(element));
+        return output.build();
     }
 
     /**
@@ -1965,22 +2217,7 @@ public final class Functional {
     public static <T, U> Map<U, List<T>> groupBy(final Function<? super T, ? extends U> keyFn, final Iterable<T> input) {
         notNull(keyFn, "groupBy(Function<T,U>,Iterable<T>)", "keyFn");
         notNull(input, "groupBy(Function<T,U>,Iterable<T>)", "input");
-
-        final Map<U, List<T>> intermediateResults = new HashMap<>();
-        for (final T element : input) {
-            final U key = keyFn.apply(element);
-            if (intermediateResults.containsKey(key))
-                intermediateResults.get(key).add(element);
-            else {
-                final List<T> list = new ArrayList<>();
-                list.add(element);
-                intermediateResults.put(key, list);
-            }
-        }
-        final Map<U, List<T>> output = new HashMap<>(intermediateResults.size());
-        for (final Map.Entry<U, List<T>> entry : intermediateResults.entrySet())
-            output.put(entry.getKey(), Collections.unmodifiableList(entry.getValue()));
-        return Collections.unmodifiableMap(output);
+        return Sinks.groupBy(keyFn, input);
     }
 
     /**
@@ -2011,6 +2248,22 @@ public final class Functional {
         private Lazy() {
         }
 
+        /**
+         * The largest initial capacity given to the buffer of a chunk or window when the size of the input is not known.
+         * A larger one grows as it is filled, so a 'size' which is much larger than the input does not allocate 'size'
+         * slots up front.
+         */
+        static final int MAX_INITIAL_CAPACITY = 1 << 16;
+
+        /**
+         * The initial capacity of a buffer which is to hold up to 'size' elements of 'input'. This is bounded by the size
+         * of 'input' if it is a <tt>Collection</tt>, otherwise by {@link #MAX_INITIAL_CAPACITY}. The spliterator of any
+         * other input is not consulted, because for a lazily-evaluated sequence that would claim its only Iterator.
+         */
+        private static int initialCapacity(final int size, final Iterable<?> input) {
+            return Math.min(size, input instanceof Collection<?> ? ((Collection<?>) input).size() : MAX_INITIAL_CAPACITY);
+        }
+
         /**
          * append: given the input sequence and an item, return a new, lazily-evaluated sequence containing the input with the item
          * as the final element.
@@ -2088,42 +2341,13 @@ public final class Functional {
          * @return a lazily-evaluated sequence of type B containing the transformed values.
          * @see <a href="http://en.wikipedia.org/wiki/Lazy_evaluation">Lazy evaluation</a>
          */
+        @SuppressWarnings("unchecked")
         public static <T, U> Iterable<U> map(final Function<? super T, ? extends U> f, final Iterable<T> input) {
             notNull(f, "Lazy.map(Function<T,R>,Iterable<T>)", "f");
             notNull(input, "Lazy.map(Function<T,R>,Iterable<T>)", "input");
 
-            return new Iterable<U>() {
-                private final AtomicBoolean haveCreatedIterator = new AtomicBoolean(false);
-
-                public Iterator<U> iterator() {
-                    if (haveCreatedIterator.compareAndSet(false, true))
-                        return new Iterator<U>() {
-                            private final Iterator<? extends T> iterator = input.iterator();
-                            private boolean hasMoreInput = iterator.hasNext();
-
-                            public boolean hasNext() {
-                                hasMoreInput = iterator.hasNext();
-                                return hasMoreInput;
-                            }
-
-                            public U next() {
-                                final U next;
-                                if (hasMoreInput) {
-                                    next = f.apply(iterator.next());
-                                    hasMoreInput = iterator.hasNext();
-                                } else
-                                    throw new NoSuchElementException("Lazy.map(Function<T,R>,Iterable<T>): cannot seek beyond the end of the sequence");
-                                return next;
-                            }
-
-                            public void remove() {
-                                throw new UnsupportedOperationException("Lazy.map(Function<T,R>,Iterable<T>): it is not possible to remove elements from this sequence");
-                            }
-                        };
-                    else
-                        throw new UnsupportedOperationException("Lazy.map(Function<T,R>,Iterable<T>): this Iterable does not allow multiple Iterators");
-                }
-            };
+            return Stage.of("Lazy.map(Function<T,R>,Iterable<T>)", input, false, true,
+                    () -> x -> f.apply((T) x));
         }
 
         /**
@@ -2156,44 +2380,19 @@ public final class Functional {
          * @return a lazily-evaluated sequence of type B containing the transformed values.
          * @see <a href="http://en.wikipedia.org/wiki/Lazy_evaluation">Lazy evaluation</a>
          */
+        @SuppressWarnings("unchecked")
         public static <T, U> Iterable<U> mapi(final BiFunction<Integer, ? super T, ? extends U> f, final Iterable<T> input) {
             notNull(f, "Lazy.mapi(BiFunction<Integer,U,V>,Iterable<U>)", "f");
             notNull(input, "Lazy.mapi(BiFunction<Integer,U,V>,Iterable<U>)", "input");
 
-            return new Iterable<U>() {
-                private final AtomicBoolean haveCreatedIterator = new AtomicBoolean(false);
-
-                public Iterator<U> iterator() {
-                    if (haveCreatedIterator.compareAndSet(false, true))
-                        return new Iterator<U>() {
-                            private final Iterator<? extends T> iterator = input.iterator();
-                            private boolean hasMoreInput = iterator.hasNext();
-                            private int counter;
-
-                            public boolean hasNext() {
-                                hasMoreInput = iterator.hasNext();
-                                return hasMoreInput;
-                            }
-
-                            public U next() {
-                                final U next;
-                                if (hasMoreInput) {
-                                    next = f.apply(counter++, iterator.next());
-                                    hasMoreInput = iterator.hasNext();
-                                } else
-                                    throw new NoSuchElementException("Lazy.mapi(BiFunction<Integer,U,V>,Iterable<U>): cannot seek beyond the end of the sequence");
-                                return next;
-
-                            }
+            return Stage.of("Lazy.mapi(BiFunction<Integer,U,V>,Iterable<U>)", input, false, false,
+                    () -> new Function<Object, Object>() {
+                        private int counter;
 
-                            public void remove() {
-                                throw new UnsupportedOperationException("Lazy.mapi(BiFunction<Integer,U,V>,Iterable<U>): it is not possible to remove elements from this sequence");
-                            }
-                        };
-                    else
-                        throw new UnsupportedOperationException("Lazy.mapi(BiFunction<Integer,U,V>,Iterable<U>): this Iterable does not allow multiple Iterators");
-                }
-            };
+                        public Object apply(final Object x) {
+                            return f.apply(counter++, (T) x);
+                        }
+                    });
         }
 
         /**
@@ -2264,52 +2463,16 @@ public final class Functional {
          *                  the input element is passed through to the output otherwise it is ignored.
          * @param input     a sequence of objects
          * @return a lazily-evaluated sequence which contains zero or more of the elements of the input sequence. Each element is included only if
-         * the filter function returns true for the element.
+         * the filter function returns true for the element. A null element is tested like any other.
          * @see <a href="http://en.wikipedia.org/wiki/Lazy_evaluation">Lazy evaluation</a>
          */
+        @SuppressWarnings("unchecked")
         public static <T> Iterable<T> filter(final Predicate<? super T> predicate, final Iterable<T> input) {
             notNull(predicate, "Lazy.filter(Predicate<T>,Iterable<T>)", "predicate");
             notNull(input, "Lazy.filter(Predicate<T>,Iterable<T>)", "input");
 
-            return new Iterable<T>() {
-                private final AtomicBoolean haveCreatedIterator = new AtomicBoolean(false);
-
-                public Iterator<T> iterator() {
-                    if (haveCreatedIterator.compareAndSet(false, true))
-                        return new Iterator<T>() {
-                            private final Iterator<T> _input = input.iterator();
-                            private final Predicate<? super T> _f = predicate;
-                            private T _next;
-
-                            public boolean hasNext() {
-                                while (isNull(_next) && // ie we haven't already read the next element
-                                        _input.hasNext()) {
-                                    final T next = _input.next();
-                                    if (_f.test(next)) {
-                                        _next = next;
-                                        return true;
-                                    }
-                                }
-                                return _next != null;
-                            }
-
-                            public T next() {
-                                if (hasNext()) {
-                                    final T next = _next;
-                                    _next = null;
-                                    return next;
-                                }
-                                throw new NoSuchElementException("Lazy.filter(Predicate<T>,Iterable<T>): cannot seek beyond the end of the sequence");
-                            }
-
-                            public void remove() {
-                                throw new UnsupportedOperationException("Lazy.filter(Predicate<T>,Iterable<T>): it is not possible to remove elements from this sequence");
-                            }
-                        };
-                    else
-                        throw new UnsupportedOperationException("Lazy.filter(Predicate<T>,Iterable<T>): this Iterable does not allow multiple Iterators");
-                }
-            };
+            return Stage.of("Lazy.filter(Predicate<T>,Iterable<T>)", input, true, true,
+                    () -> x -> predicate.test((T) x) ? x : Stage.NO_VALUE);
         }
 
         /**
@@ -2340,49 +2503,16 @@ public final class Functional {
          * @return a lazily-evaluated sequence of transformed elements, numbering less than or equal to the number of input elements
          * @see <a href="http://en.wikipedia.org/wiki/Lazy_evaluation">Lazy evaluation</a>
          */
+        @SuppressWarnings("unchecked")
         public static <T, U> Iterable<U> choose(final Function<? super T, Option<U>> chooser, final Iterable<T> input) {
             notNull(chooser, "Lazy.choose(Function<A,Option<B>>,Iterable<A>)", "chooser");
             notNull(input, "Lazy.choose(Function<A,Option<B>>,Iterable<A>)", "input");
 
-            return new Iterable<U>() {
-                private final AtomicBoolean haveCreatedIterator = new AtomicBoolean(false);
-
-                public Iterator<U> iterator() {
-                    if (haveCreatedIterator.compareAndSet(false, true))
-                        return new Iterator<U>() {
-                            private final Iterator<T> _input = input.iterator();
-                            private final Function<? super T, Option<U>> _f = chooser;
-                            private Option<U> _next = Option.none();
-
-                            public boolean hasNext() {
-                                while (_next.isNone() && // ie we haven't already read the next element
-                                        _input.hasNext()) {
-                                    final Option<U> next = _f.apply(_input.next());
-                                    if (next.isSome()) {
-                                        _next = next;
-                                        return true;
-                                    }
-                                }
-                                return _next.isSome();
-                            }
-
-                            public U next() {
-                                if (hasNext()) {
-                                    final Option<U> next = _next;
-                                    _next = Option.none();
-                                    return next.get();
-                                }
-                                throw new NoSuchElementException("Lazy.choose(Function<T,Option<U>>,Iterable<T>): cannot seek beyond the end of the sequence");
-                            }
-
-                            public void remove() {
-                                throw new UnsupportedOperationException("Lazy.choose(Function<T,Option<U>>,Iterable<T>): it is not possible to remove elements from this sequence");
-                            }
-                        };
-                    else
-                        throw new UnsupportedOperationException("Lazy.choose(Function<T,Option<U>>,Iterable<T>): this Iterable does not allow multiple Iterators");
-                }
-            };
+            return Stage.of("Lazy.choose(Function<T,Option<U>>,Iterable<T>)", input, true, true,
+                    () -> x -> {
+                        final Option<U> chosen = chooser.apply((T) x);
+                        return chosen.isSome() ? chosen.get() : Stage.NO_VALUE;
+                    });
         }
 
         /**
@@ -2447,6 +2577,14 @@ public final class Functional {
                     else
                         throw new UnsupportedOperationException("Lazy.init(Function<Integer,T>,int): this Iterable does not allow multiple Iterators");
                 }
+
+                @Override
+                public Spliterator<T> spliterator() {
+                    if (haveCreatedIterator.compareAndSet(false, true))
+                        return new InitSpliterator<>(f, 1, howMany);
+                    else
+                        throw new UnsupportedOperationException("Lazy.init(Function<Integer,T>,int): this Iterable does not allow multiple Iterators");
+                }
             };
         }
 
@@ -2607,6 +2745,14 @@ public final class Functional {
                     else
                         throw new UnsupportedOperationException("Lazy.skip(int,Iterable<T>): this Iterable does not allow multiple Iterators");
                 }
+
+                @Override
+                public Spliterator<T> spliterator() {
+                    if (haveCreatedIterator.compareAndSet(false, true))
+                        return new SkipSpliterator<>(input.spliterator(), howMany);
+                    else
+                        throw new UnsupportedOperationException("Lazy.skip(int,Iterable<T>): this Iterable does not allow multiple Iterators");
+                }
             };
         }
 
@@ -2746,6 +2892,14 @@ public final class Functional {
                     else
                         throw new UnsupportedOperationException("Lazy.take(int,Iterable<T>): this Iterable does not allow multiple Iterators");
                 }
+
+                @Override
+                public Spliterator<T> spliterator() {
+                    if (haveCreatedIterator.compareAndSet(false, true))
+                        return new TakeSpliterator<>(input.spliterator(), howMany);
+                    else
+                        throw new UnsupportedOperationException("Lazy.take(int,Iterable<T>): this Iterable does not allow multiple Iterators");
+                }
             };
         }
 
@@ -2764,14 +2918,157 @@ public final class Functional {
         }
 
         /**
-         * takeWhile: the converse of <tt>takeWhile</tt>. Given a list return another list containing all those elements from,
-         * and including, the first element for which the predicate returns false. That is, if we skip(isOdd,[1,2,3]) then we have [2,3]
+         * chunk: given a sequence return a sequence of lists, each containing the next 'size' elements of the input. The last
+         * list contains the remaining elements and so may contain fewer than 'size' elements. As with
+         * {@link Functional#takeNAndYield(int, Iterable)}, the traversal of the input continues from where the previous list
+         * stopped, so only one list is held at a time and the input is never materialised as a whole.
+         * That is, chunk(2,[1,2,3,4,5]) is [[1,2],[3,4],[5]]
          *
-         * @param <T>       the type of the element in the input sequence
-         * @param predicate ignore elements in the input while the predicate is true.
-         * @param input     the input sequence
-         * @return a lazily-evaluated sequence containing the remaining elements after and including the first element for which
-         * the predicate returns false
+         * @param <T>   the type of the element in the input sequence
+         * @param size  the number of elements in each list
+         * @param input the input sequence
+         * @return a lazily-evaluated sequence of lists, each of which contains up to 'size' consecutive elements of 'input'
+         * @see <a href="http://en.wikipedia.org/wiki/Lazy_evaluation">Lazy evaluation</a>
+         */
+        public static <T> Iterable<List<T>> chunk(final int size, final Iterable<T> input) {
+            if (size < 1)
+                throw new IllegalArgumentException("Lazy.chunk(int,Iterable<T>): size must be positive");
+            notNull(input, "Lazy.chunk(int,Iterable<T>)", "input");
+
+            return new Iterable<List<T>>() {
+                private final AtomicBoolean haveCreatedIterator = new AtomicBoolean(false);
+
+                public Iterator<List<T>> iterator() {
+                    if (haveCreatedIterator.compareAndSet(false, true))
+                        return new Iterator<List<T>>() {
+                            private final int capacity = initialCapacity(size, input);
+                            private final Iterator<T> position = input.iterator();
+
+                            public boolean hasNext() {
+                                return position.hasNext();
+                            }
+
+                            public List<T> next() {
+                                if (!position.hasNext())
+                                    throw new NoSuchElementException("Lazy.chunk(int,Iterable<T>): cannot seek beyond the end of the sequence");
+                                final List<T> chunk = new ArrayList<>(capacity);
+                                do
+                                    chunk.add(position.next());
+                                while (chunk.size() < size && position.hasNext());
+                                return chunk;
+                            }
+
+                            public void remove() {
+                                throw new UnsupportedOperationException("Lazy.chunk(int,Iterable<T>): it is not possible to remove elements from this sequence");
+                            }
+                        };
+                    else
+                        throw new UnsupportedOperationException("Lazy.chunk(int,Iterable<T>): this Iterable does not allow multiple Iterators");
+                }
+            };
+        }
+
+        /**
+         * chunk: given a sequence return a sequence of lists, each containing the next 'size' elements of the input.
+         *
+         * @param <T>  the type of the element in the input sequence
+         * @param size the number of elements in each list
+         * @return a function which returns a lazily-evaluated sequence of lists, each of which contains up to 'size' consecutive elements of its input
+         * @see #chunk(int, Iterable)
+         */
+        public static <T> Function<Iterable<T>, Iterable<List<T>>> chunk(final int size) {
+            if (size < 1)
+                throw new IllegalArgumentException("Lazy.chunk(int): size must be positive");
+            return input -> Lazy.chunk(size, input);
+        }
+
+        /**
+         * window: given a sequence return a sequence of sliding windows over it. Each window is a list of 'size' consecutive
+         * elements of the input and each window starts 'step' elements after the start of the previous one. Only complete
+         * windows are returned, so any elements at the end of the input which cannot fill a window are ignored. If 'step' is
+         * greater than 'size' then the elements between windows are skipped.
+         * That is, window(3,1,[1,2,3,4,5]) is [[1,2,3],[2,3,4],[3,4,5]] and window(2,3,[1,2,3,4,5]) is [[1,2],[4,5]]
+         *
+         * @param <T>   the type of the element in the input sequence
+         * @param size  the number of elements in each window
+         * @param step  the distance between the start of one window and the start of the next
+         * @param input the input sequence
+         * @return a lazily-evaluated sequence of lists, each of which contains 'size' consecutive elements of 'input'
+         * @see <a href="http://en.wikipedia.org/wiki/Lazy_evaluation">Lazy evaluation</a>
+         */
+        public static <T> Iterable<List<T>> window(final int size, final int step, final Iterable<T> input) {
+            if (size < 1)
+                throw new IllegalArgumentException("Lazy.window(int,int,Iterable<T>): size must be positive");
+            if (step < 1)
+                throw new IllegalArgumentException("Lazy.window(int,int,Iterable<T>): step must be positive");
+            notNull(input, "Lazy.window(int,int,Iterable<T>)", "input");
+
+            return new Iterable<List<T>>() {
+                private final AtomicBoolean haveCreatedIterator = new AtomicBoolean(false);
+
+                public Iterator<List<T>> iterator() {
+                    if (haveCreatedIterator.compareAndSet(false, true))
+                        return new Iterator<List<T>>() {
+                            private final ArrayDeque<T> window = new ArrayDeque<>(initialCapacity(size, input));
+                            private final Iterator<T> position = input.iterator();
+                            private int toSkip;
+
+                            public boolean hasNext() {
+                                for (; toSkip > 0; --toSkip)
+                                    if (window.isEmpty()) {
+                                        if (!position.hasNext()) return false;
+                                        position.next();
+                                    } else
+                                        window.removeFirst();
+                                while (window.size() < size && position.hasNext())
+                                    window.addLast(position.next());
+                                return window.size() == size;
+                            }
+
+                            public List<T> next() {
+                                if (!hasNext())
+                                    throw new NoSuchElementException("Lazy.window(int,int,Iterable<T>): cannot seek beyond the end of the sequence");
+                                final List<T> output = new ArrayList<>(window);
+                                toSkip = step;
+                                return output;
+                            }
+
+                            public void remove() {
+                                throw new UnsupportedOperationException("Lazy.window(int,int,Iterable<T>): it is not possible to remove elements from this sequence");
+                            }
+                        };
+                    else
+                        throw new UnsupportedOperationException("Lazy.window(int,int,Iterable<T>): this Iterable does not allow multiple Iterators");
+                }
+            };
+        }
+
+        /**
+         * window: given a sequence return a sequence of sliding windows over it.
+         *
+         * @param <T>  the type of the element in the input sequence
+         * @param size the number of elements in each window
+         * @param step the distance between the start of one window and the start of the next
+         * @return a function which returns a lazily-evaluated sequence of lists, each of which contains 'size' consecutive elements of its input
+         * @see #window(int, int, Iterable)
+         */
+        public static <T> Function<Iterable<T>, Iterable<List<T>>> window(final int size, final int step) {
+            if (size < 1)
+                throw new IllegalArgumentException("Lazy.window(int,int): size must be positive");
+            if (step < 1)
+                throw new IllegalArgumentException("Lazy.window(int,int): step must be positive");
+            return input -> Lazy.window(size, step, input);
+        }
+
+        /**
+         * takeWhile: the converse of <tt>takeWhile</tt>. Given a list return another list containing all those elements from,
+         * and including, the first element for which the predicate returns false. That is, if we skip(isOdd,[1,2,3]) then we have [2,3]
+         *
+         * @param <T>       the type of the element in the input sequence
+         * @param predicate ignore elements in the input while the predicate is true.
+         * @param input     the input sequence
+         * @return a lazily-evaluated sequence containing the remaining elements after and including the first element for which
+         * the predicate returns false
          * @see <a href="http://en.wikipedia.org/wiki/Lazy_evaluation">Lazy evaluation</a>
          */
         public static <T> Iterable<T> takeWhile(final Predicate<? super T> predicate, final Iterable<T> input) {
@@ -3154,6 +3451,14 @@ public final class Functional {
                     else
                         throw new UnsupportedOperationException("Lazy.zip(Iterable<A>,Iterable<B>): this Iterable does not allow multiple Iterators");
                 }
+
+                @Override
+                public Spliterator<Tuple2<A, B>> spliterator() {
+                    if (haveCreatedIterator.compareAndSet(false, true))
+                        return new ZipSpliterator<>(input1.spliterator(), input2.spliterator());
+                    else
+                        throw new UnsupportedOperationException("Lazy.zip(Iterable<A>,Iterable<B>): this Iterable does not allow multiple Iterators");
+                }
             };
         }
 
@@ -3214,11 +3519,977 @@ public final class Functional {
                 }
             };
         }
+
+        /**
+         * Every lazily-evaluated sequence herein allows only one Iterator. <tt>reiterable</tt> is the opt-in multi-pass
+         * mode: each call to <tt>iterator()</tt> (or <tt>forEach</tt>) on the returned sequence calls 'pipeline' to build a
+         * fresh chain of stages and iterates that. Provided that the source at the root of the pipeline can itself be
+         * iterated more than once, eg a <tt>List</tt>, the output can be traversed any number of times. The pipeline is
+         * re-evaluated on each traversal; use {@link #cached(Iterable)} to evaluate it only once.
+         * <pre>{@code
+         * Iterable<Integer> evens = Lazy.reiterable(() -> Lazy.filter(Functional::isEven, list));
+         * int count = Functional.fold((n, i) -> n + 1, 0, evens);
+         * int sum = Functional.fold(Integer::sum, 0, evens);
+         * }</pre>
+         *
+         * @param pipeline builds the lazily-evaluated sequence. It is called once per traversal
+         * @param <T>      the type of the element in the output sequence
+         * @return a lazily-evaluated sequence which permits multiple Iterators
+         * @see <a href="http://en.wikipedia.org/wiki/Lazy_evaluation">Lazy evaluation</a>
+         */
+        public static <T> Iterable<T> reiterable(final Supplier<? extends Iterable<? extends T>> pipeline) {
+            notNull(pipeline, "Lazy.reiterable(Supplier<Iterable<T>>)", "pipeline");
+
+            return new Iterable<T>() {
+                // an Iterator yields its elements and never accepts one, so an Iterator<? extends T> is safe as an Iterator<T>
+                @SuppressWarnings("unchecked")
+                public Iterator<T> iterator() {
+                    return (Iterator<T>) pipeline.get().iterator();
+                }
+
+                @Override
+                public void forEach(final Consumer<? super T> sink) {
+                    pipeline.get().forEach(sink);
+                }
+            };
+        }
+
+        /**
+         * cached: return a lazily-evaluated sequence which memoizes the elements of 'input' as they are first pulled, so
+         * that later traversals replay them without recomputation. Only one Iterator is ever created for 'input', and
+         * only as far as the furthest traversal has reached, so 'input' may be infinite. The returned sequence permits
+         * multiple, possibly concurrent, Iterators. Every element which has been pulled is retained for as long as the
+         * returned sequence is reachable.
+         * See <a href="http://en.wikipedia.org/wiki/Memoization">Memoization</a>
+         *
+         * @param input the input sequence
+         * @param <T>   the type of the element in the input sequence
+         * @return a lazily-evaluated sequence containing the elements of 'input' which permits multiple Iterators
+         * @see <a href="http://en.wikipedia.org/wiki/Lazy_evaluation">Lazy evaluation</a>
+         */
+        public static <T> Iterable<T> cached(final Iterable<T> input) {
+            notNull(input, "Lazy.cached(Iterable<T>)", "input");
+            return new Cached<>(input);
+        }
+
+        private static final class Cached<T> implements Iterable<T> {
+            private final Iterable<T> input;
+            private final List<T> buffer = new ArrayList<>();
+            private Iterator<T> source;
+            private boolean exhausted;
+
+            private Cached(final Iterable<T> input) {
+                this.input = input;
+            }
+
+            private boolean isAvailable(final int position) {
+                synchronized (buffer) {
+                    if (position < buffer.size()) return true;
+                    if (exhausted) return false;
+                    if (source == null) source = input.iterator();
+                    if (source.hasNext()) {
+                        buffer.add(source.next());
+                        return true;
+                    }
+                    exhausted = true;
+                    source = null;
+                    return false;
+                }
+            }
+
+            private T get(final int position) {
+                synchronized (buffer) {
+                    return buffer.get(position);
+                }
+            }
+
+            public Iterator<T> iterator() {
+                return new Iterator<T>() {
+                    private int position = 0;
+
+                    public boolean hasNext() {
+                        return isAvailable(position);
+                    }
+
+                    public T next() {
+                        if (!hasNext())
+                            throw new NoSuchElementException("Lazy.cached(Iterable<T>): cannot seek beyond the end of the sequence");
+                        return get(position++);
+                    }
+
+                    public void remove() {
+                        throw new UnsupportedOperationException("Lazy.cached(Iterable<T>): it is not possible to remove elements from this sequence");
+                    }
+                };
+            }
+        }
+
+        /**
+         * The Spliterator of <tt>init(f, howMany)</tt>. It knows its size and splits in half, calling 'f' with the
+         * unity-based position of each element.
+         */
+        private static final class InitSpliterator<T> implements Spliterator<T> {
+            private final Function<Integer, ? extends T> f;
+            private int next;
+            private final int last;
+
+            private InitSpliterator(final Function<Integer, ? extends T> f, final int first, final int last) {
+                this.f = f;
+                this.next = first;
+                this.last = last;
+            }
+
+            public boolean tryAdvance(final Consumer<? super T> action) {
+                if (next > last) return false;
+                action.accept(f.apply(next++));
+                return true;
+            }
+
+            public Spliterator<T> trySplit() {
+                final int remaining = last - next + 1;
+                if (remaining < 2) return null;
+                final int first = next;
+                next = first + remaining / 2;
+                return new InitSpliterator<>(f, first, next - 1);
+            }
+
+            public long estimateSize() {
+                return Math.max(0L, (long) last - next + 1);
+            }
+
+            public int characteristics() {
+                return ORDERED | SIZED | SUBSIZED;
+            }
+        }
+
+        /**
+         * The Spliterator of <tt>take(howMany, input)</tt>. If 'input' knows the size of its splits then a split
+         * which lies entirely within the first 'howMany' elements is handed out whole.
+         */
+        private static final class TakeSpliterator<T> implements Spliterator<T> {
+            private Spliterator<? extends T> source;
+            private long remaining;
+
+            private TakeSpliterator(final Spliterator<? extends T> source, final long remaining) {
+                this.source = source;
+                this.remaining = remaining;
+            }
+
+            public boolean tryAdvance(final Consumer<? super T> action) {
+                if (remaining <= 0 || !source.tryAdvance(action)) return false;
+                --remaining;
+                return true;
+            }
+
+            public Spliterator<T> trySplit() {
+                if (!source.hasCharacteristics(SUBSIZED)) return null;
+                while (remaining > 0) {
+                    final Spliterator<? extends T> prefix = source.trySplit();
+                    if (prefix == null) return null;
+                    final long prefixSize = prefix.getExactSizeIfKnown();
+                    if (prefixSize >= remaining)
+                        source = prefix;
+                    else {
+                        remaining -= prefixSize;
+                        return new TakeSpliterator<>(prefix, prefixSize);
+                    }
+                }
+                return null;
+            }
+
+            public long estimateSize() {
+                return Math.min(remaining, source.estimateSize());
+            }
+
+            public int characteristics() {
+                return source.characteristics() & (ORDERED | SIZED | SUBSIZED);
+            }
+        }
+
+        /**
+         * The Spliterator of <tt>skip(howMany, input)</tt>. If 'input' knows the size of its splits then a split
+         * which lies entirely within the first 'howMany' elements is discarded without being traversed.
+         */
+        private static final class SkipSpliterator<T> implements Spliterator<T> {
+            private final Spliterator<? extends T> source;
+            private long toSkip;
+
+            private SkipSpliterator(final Spliterator<? extends T> source, final long toSkip) {
+                this.source = source;
+                this.toSkip = toSkip;
+            }
+
+            private boolean skip() {
+                for (; toSkip > 0; --toSkip)
+                    if (!source.tryAdvance(x -> {
+                    })) return false;
+                return true;
+            }
+
+            public boolean tryAdvance(final Consumer<? super T> action) {
+                return skip() && source.tryAdvance(action);
+            }
+
+            public void forEachRemaining(final Consumer<? super T> action) {
+                if (skip()) source.forEachRemaining(action);
+            }
+
+            public Spliterator<T> trySplit() {
+                if (!source.hasCharacteristics(SUBSIZED)) return null;
+                while (true) {
+                    final Spliterator<? extends T> prefix = source.trySplit();
+                    if (prefix == null) return null;
+                    final long prefixSize = prefix.getExactSizeIfKnown();
+                    if (prefixSize <= toSkip)
+                        toSkip -= prefixSize;
+                    else {
+                        final Spliterator<T> split = new SkipSpliterator<>(prefix, toSkip);
+                        toSkip = 0;
+                        return split;
+                    }
+                }
+            }
+
+            public long estimateSize() {
+                return Math.max(0L, source.estimateSize() - toSkip);
+            }
+
+            public int characteristics() {
+                return source.characteristics() & (ORDERED | SIZED | SUBSIZED);
+            }
+        }
+
+        /**
+         * The Spliterator of <tt>zip(input1, input2)</tt>. It is sized if both inputs are sized and have the same
+         * size. It does not split because the two inputs cannot, in general, be split at the same position.
+         */
+        private static final class ZipSpliterator<A, B> implements Spliterator<Tuple2<A, B>> {
+            private final Spliterator<? extends A> input1;
+            private final Spliterator<? extends B> input2;
+            private A a;
+            private B b;
+
+            private ZipSpliterator(final Spliterator<? extends A> input1, final Spliterator<? extends B> input2) {
+                this.input1 = input1;
+                this.input2 = input2;
+            }
+
+            public boolean tryAdvance(final Consumer<? super Tuple2<A, B>> action) {
+                final boolean hasA = input1.tryAdvance(x -> a = x);
+                final boolean hasB = input2.tryAdvance(x -> b = x);
+                if (hasA != hasB)
+                    throw new IllegalArgumentException("Lazy.zip(Iterable<A>,Iterable<B>): cannot zip two iterables with different lengths");
+                if (!hasA) return false;
+                action.accept(new Tuple2<>(a, b));
+                a = null;
+                b = null;
+                return true;
+            }
+
+            public Spliterator<Tuple2<A, B>> trySplit() {
+                return null;
+            }
+
+            public long estimateSize() {
+                return Math.min(input1.estimateSize(), input2.estimateSize());
+            }
+
+            public int characteristics() {
+                final int ordered = input1.characteristics() & input2.characteristics() & ORDERED;
+                final long size = input1.getExactSizeIfKnown();
+                return size >= 0 && size == input2.getExactSizeIfKnown() ? ordered | SIZED : ordered;
+            }
+        }
+
+        /**
+         * A step in a lazily-evaluated pipeline, ie <tt>map</tt>, <tt>mapi</tt>, <tt>filter</tt> or <tt>choose</tt>.
+         * When a Stage is built on top of another Stage the two are fused: the new Stage reads directly from the
+         * original source and applies the composition of both steps to each element, rather than pulling each element
+         * through a separate Iterator for each step. A step which discards an element returns {@link #NO_VALUE}.
+         * <p>
+         * Fusion does not change the single-Iterator contract; creating an Iterator for a fused Stage also claims the
+         * Iterator of every Stage from which it was built.
+         * <p>
+         * A Stage can also be consumed without an Iterator, by pushing its elements into a sink. See {@link Sinks}.
+         * <p>
+         * The {@link #spliterator()} of a Stage which cannot discard elements reports the same size as its source. If
+         * none of the fused steps holds state then the Spliterator splits wherever its source splits, so a Stage can
+         * feed a parallel stream.
+         *
+         * @param <U> the type of the element in the output sequence
+         */
+        static final class Stage<U> implements Iterable<U> {
+            private static final Object NO_VALUE = new Object();
+
+            private final String name;
+            private final Iterable<?> source;
+            private final Stage<?> upstream;
+            private final boolean mayDiscard;
+            private final boolean stateless;
+            private final Supplier<Function<Object, Object>> step;
+            private final AtomicBoolean haveCreatedIterator = new AtomicBoolean(false);
+
+            private Stage(final String name, final Iterable<?> source, final Stage<?> upstream, final boolean mayDiscard, final boolean stateless, final Supplier<Function<Object, Object>> step) {
+                this.name = name;
+                this.source = source;
+                this.upstream = upstream;
+                this.mayDiscard = mayDiscard;
+                this.stateless = stateless;
+                this.step = step;
+            }
+
+            /**
+             * @param name       the name of the calling function, used in exception messages
+             * @param input      the input sequence, which may itself be a Stage
+             * @param mayDiscard true if the step may return {@link #NO_VALUE}
+             * @param stateless  true if the result of the step depends only on the element, so that the sequence may be split
+             * @param step       supplies the step function. This is called once per Iterator so that a step may hold state, eg a counter
+             * @param <U>        the type of the element in the output sequence
+             * @return a Stage which applies 'step' to 'input'
+             */
+            static <U> Stage<U> of(final String name, final Iterable<?> input, final boolean mayDiscard, final boolean stateless, final Supplier<Function<Object, Object>> step) {
+                if (!(input instanceof Stage))
+                    return new Stage<>(name, input, null, mayDiscard, stateless, step);
+
+                final Stage<?> previous = (Stage<?>) input;
+                final Supplier<Function<Object, Object>> fused = previous.mayDiscard
+                        ? () -> {
+                            final Function<Object, Object> first = previous.step.get();
+                            final Function<Object, Object> second = step.get();
+                            return x -> {
+                                final Object y = first.apply(x);
+                                return y == NO_VALUE ? NO_VALUE : second.apply(y);
+                            };
+                        }
+                        : () -> {
+                            final Function<Object, Object> first = previous.step.get();
+                            final Function<Object, Object> second = step.get();
+                            return x -> second.apply(first.apply(x));
+                        };
+                return new Stage<>(name, previous.source, previous, previous.mayDiscard || mayDiscard, previous.stateless && stateless, fused);
+            }
+
+            private void claimIterator() {
+                if (!haveCreatedIterator.compareAndSet(false, true))
+                    throw new UnsupportedOperationException(name + ": this Iterable does not allow multiple Iterators");
+                if (upstream != null)
+                    upstream.claimIterator();
+            }
+
+            /**
+             * Push every element of this Stage into 'sink'. The source sequence is traversed using its own
+             * <tt>forEach</tt>, so no Iterator is created for this Stage. As with {@link #iterator()}, this may only
+             * be called once.
+             *
+             * @param sink the consumer of the output of this Stage
+             */
+            @SuppressWarnings("unchecked")
+            @Override
+            public void forEach(final Consumer<? super U> sink) {
+                claimIterator();
+                final Function<Object, Object> f = step.get();
+                final Consumer<Object> pusher = mayDiscard
+                        ? x -> {
+                            final Object y = f.apply(x);
+                            if (y != NO_VALUE) sink.accept((U) y);
+                        }
+                        : x -> sink.accept((U) f.apply(x));
+                source.forEach(pusher);
+            }
+
+            /**
+             * Push the elements of this Stage into 'sink' for as long as 'sink' returns true.
+             *
+             * @param sink the consumer of the output of this Stage. Return false to stop the traversal
+             */
+            void forEachWhile(final Predicate<? super U> sink) {
+                claimIterator();
+                final Spliterator<?> spliterator = source.spliterator();
+                final Pusher<U> pusher = new Pusher<>(step.get(), sink);
+                while (pusher.wantsMore)
+                    if (!spliterator.tryAdvance(pusher)) break;
+            }
+
+            /**
+             * Return a Spliterator which applies the step to each element of the source Spliterator. As with
+             * {@link #iterator()}, this may only be called once.
+             *
+             * @return a Spliterator over the output of this Stage
+             */
+            @Override
+            public Spliterator<U> spliterator() {
+                claimIterator();
+                return new StageSpliterator<>(source.spliterator(), step.get(), mayDiscard, stateless ? step : null);
+            }
+
+            private static final class StageSpliterator<U> implements Spliterator<U>, Consumer<Object> {
+                private final Spliterator<?> source;
+                private final Function<Object, Object> f;
+                private final boolean mayDiscard;
+                private final Supplier<Function<Object, Object>> splitStep;
+                private Object current;
+
+                private StageSpliterator(final Spliterator<?> source, final Function<Object, Object> f, final boolean mayDiscard, final Supplier<Function<Object, Object>> splitStep) {
+                    this.source = source;
+                    this.f = f;
+                    this.mayDiscard = mayDiscard;
+                    this.splitStep = splitStep;
+                }
+
+                public void accept(final Object x) {
+                    current = x;
+                }
+
+                @SuppressWarnings("unchecked")
+                public boolean tryAdvance(final Consumer<? super U> action) {
+                    while (source.tryAdvance(this)) {
+                        final Object y = f.apply(current);
+                        current = null;
+                        if (y != NO_VALUE) {
+                            action.accept((U) y);
+                            return true;
+                        }
+                    }
+                    return false;
+                }
+
+                @SuppressWarnings("unchecked")
+                public void forEachRemaining(final Consumer<? super U> action) {
+                    source.forEachRemaining(x -> {
+                        final Object y = f.apply(x);
+                        if (y != NO_VALUE) action.accept((U) y);
+                    });
+                }
+
+                public Spliterator<U> trySplit() {
+                    if (splitStep == null) return null;
+                    final Spliterator<?> prefix = source.trySplit();
+                    return prefix == null ? null : new StageSpliterator<>(prefix, splitStep.get(), mayDiscard, splitStep);
+                }
+
+                public long estimateSize() {
+                    return source.estimateSize();
+                }
+
+                public int characteristics() {
+                    final int sourceCharacteristics = source.characteristics();
+                    return mayDiscard
+                            ? sourceCharacteristics & ORDERED
+                            : sourceCharacteristics & (ORDERED | SIZED | SUBSIZED);
+                }
+            }
+
+            private static final class Pusher<U> implements Consumer<Object> {
+                private final Function<Object, Object> f;
+                private final Predicate<? super U> sink;
+                private boolean wantsMore = true;
+
+                private Pusher(final Function<Object, Object> f, final Predicate<? super U> sink) {
+                    this.f = f;
+                    this.sink = sink;
+                }
+
+                @SuppressWarnings("unchecked")
+                public void accept(final Object x) {
+                    final Object y = f.apply(x);
+                    if (y != NO_VALUE) wantsMore = sink.test((U) y);
+                }
+            }
+
+            @SuppressWarnings("unchecked")
+            public Iterator<U> iterator() {
+                claimIterator();
+                final Iterator<?> iterator = source.iterator();
+                final Function<Object, Object> f = step.get();
+                if (!mayDiscard)
+                    return new Iterator<U>() {
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        public U next() {
+                            final Object next;
+                            try {
+                                next = iterator.next();
+                            } catch (final NoSuchElementException e) {
+                                throw new NoSuchElementException(name + ": cannot seek beyond the end of the sequence");
+                            }
+                            return (U) f.apply(next);
+                        }
+
+                        public void remove() {
+                            throw new UnsupportedOperationException(name + ": it is not possible to remove elements from this sequence");
+                        }
+                    };
+                return new Iterator<U>() {
+                    private Object next = NO_VALUE;
+
+                    public boolean hasNext() {
+                        while (next == NO_VALUE && // ie we haven't already read the next element
+                                iterator.hasNext())
+                            next = f.apply(iterator.next());
+                        return next != NO_VALUE;
+                    }
+
+                    public U next() {
+                        if (hasNext()) {
+                            final Object output = next;
+                            next = NO_VALUE;
+                            return (U) output;
+                        }
+                        throw new NoSuchElementException(name + ": cannot seek beyond the end of the sequence");
+                    }
+
+                    public void remove() {
+                        throw new UnsupportedOperationException(name + ": it is not possible to remove elements from this sequence");
+                    }
+                };
+            }
+        }
+    }
+
+    /**
+     * Parallel implementations of (some of) the eager algorithms contained herein. The input is split into contiguous
+     * chunks using {@link Functional#partition(int, int)}, the chunks are processed on a <tt>ForkJoinPool</tt> and the
+     * results are reassembled in the order of the input. The output is therefore identical to that of the sequential
+     * function, provided that the functions supplied are free of side-effects.
+     * <p>
+     * An input which is not a <tt>RandomAccess</tt> list is first copied into one. Inputs which are too small to be
+     * worth splitting are processed on the calling thread.
+     *
+     * @see <a href="http://en.wikipedia.org/wiki/Fork%E2%80%93join_model">Fork-join model</a>
+     */
+    public static final class Parallel {
+        private Parallel() {
+        }
+
+        /**
+         * The smallest number of elements that will be given to a single task.
+         */
+        static final int MINIMUM_CHUNK_SIZE = 1024;
+
+        /**
+         * See <a href="http://en.wikipedia.org/wiki/Map_(higher-order_function)">Map</a>
+         * This is a 1-to-1 transformation. Every element in the input sequence will be transformed into an element in the output sequence.
+         * map: (A -> B) -> A list -> B list
+         *
+         * @param <A>   the type of the element in the input sequence
+         * @param <B>   the type of the element in the output sequence
+         * @param f     a transformation function which takes a object of type A and returns an object, presumably related, of type B
+         * @param input a sequence to be fed into f
+         * @return a list of type B containing the transformed values.
+         */
+        public static <A, B> List<B> map(final Function<? super A, ? extends B> f, final Iterable<? extends A> input) {
+            notNull(f, "Parallel.map(Function<A,B>,Iterable<A>)", "f");
+            notNull(input, "Parallel.map(Function<A,B>,Iterable<A>)", "input");
+            return map(f, input, ForkJoinPool.commonPool());
+        }
+
+        static <A, B> List<B> map(final Function<? super A, ? extends B> f, final Iterable<? extends A> input, final ForkJoinPool pool) {
+            final List<? extends A> list = asRandomAccessList(input);
+            final Object[] output = new Object[list.size()];
+            inParallel(pool, list.size(), (from, to) -> {
+                for (int i = from; i < to; ++i)
+                    output[i] = f.apply(list.get(i));
+                return null;
+            });
+            return ImmutableArrayList.wrap(output);
+        }
+
+        /**
+         * See <a href="http://en.wikipedia.org/wiki/Filter_(higher-order_function)">Filter</a>
+         *
+         * @param <A>       the type of the element in the input sequence
+         * @param predicate a filter function. This is passed each input element in turn and returns either true or false. If true then
+         *                  the input element is passed through to the output otherwise it is ignored.
+         * @param input     a sequence of objects
+         * @return a list which contains zero or more of the elements of the input sequence. Each element is included only if
+         * the filter function returns true for the element.
+         */
+        public static <A> List<A> filter(final Predicate<? super A> predicate, final Iterable<A> input) {
+            notNull(predicate, "Parallel.filter(Predicate<A>,Iterable<A>)", "predicate");
+            notNull(input, "Parallel.filter(Predicate<A>,Iterable<A>)", "input");
+            return filter(predicate, input, ForkJoinPool.commonPool());
+        }
+
+        static <A> List<A> filter(final Predicate<? super A> predicate, final Iterable<A> input, final ForkJoinPool pool) {
+            final List<A> list = asRandomAccessList(input);
+            return concat(inParallel(pool, list.size(), (from, to) -> {
+                final List<A> output = new ArrayList<>();
+                for (int i = from; i < to; ++i) {
+                    final A element = list.get(i);
+                    if (predicate.test(element))
+                        output.add(element);
+                }
+                return output;
+            }));
+        }
+
+        /**
+         * choose: this is a map transformation with the difference being that the number of elements in the output sequence may
+         * be between zero and the number of elements in the input sequence.
+         * See <a href="http://en.wikipedia.org/wiki/Map_(higher-order_function)">Map</a>
+         * choose: (A -> B option) -> A list -> B list
+         *
+         * @param <A>     the type of the element in the input sequence
+         * @param <B>     the type of the element in the output sequence
+         * @param chooser map function. This transforms the input element into an Option
+         * @param input   input sequence
+         * @return a list of transformed elements, numbering less than or equal to the number of input elements
+         */
+        public static <A, B> List<B> choose(final Function<? super A, Option<B>> chooser, final Iterable<A> input) {
+            notNull(chooser, "Parallel.choose(Function<A,Option<B>>,Iterable<A>)", "chooser");
+            notNull(input, "Parallel.choose(Function<A,Option<B>>,Iterable<A>)", "input");
+            return choose(chooser, input, ForkJoinPool.commonPool());
+        }
+
+        static <A, B> List<B> choose(final Function<? super A, Option<B>> chooser, final Iterable<A> input, final ForkJoinPool pool) {
+            final List<A> list = asRandomAccessList(input);
+            return concat(inParallel(pool, list.size(), (from, to) -> {
+                final List<B> output = new ArrayList<>();
+                for (int i = from; i < to; ++i) {
+                    final Option<B> chosen = chooser.apply(list.get(i));
+                    if (chosen.isSome())
+                        output.add(chosen.get());
+                }
+                return output;
+            }));
+        }
+
+        /**
+         * See <a href="http://en.wikipedia.org/wiki/Map_(higher-order_function)">Map</a>
+         * This is a 1-to-1 transformation. Every element in the input sequence will be transformed into a sequence of output elements.
+         * These sequences are concatenated into one final output sequence at the end of the transformation.
+         * map: (T -> U list) -> T list -> U list
+         *
+         * @param <T>   the type of the element in the input sequence
+         * @param <U>   the type of the element in the output sequence
+         * @param f     a transformation function which takes a object of type T and returns a sequence of objects, presumably related, of type U
+         * @param input a sequence to be fed into f
+         * @return a list of type U containing the concatenated sequences of transformed values.
+         */
+        public static <T, U> List<U> flatMap(final Function<? super T, ? extends Iterable<U>> f, final Iterable<T> input) {
+            notNull(f, "Parallel.flatMap(Function<A,B>,Iterable<A>)", "f");
+            notNull(input, "Parallel.flatMap(Function<A,B>,Iterable<A>)", "input");
+            return flatMap(f, input, ForkJoinPool.commonPool());
+        }
+
+        static <T, U> List<U> flatMap(final Function<? super T, ? extends Iterable<U>> f, final Iterable<T> input, final ForkJoinPool pool) {
+            final List<T> list = asRandomAccessList(input);
+            return concat(inParallel(pool, list.size(), (from, to) -> {
+                final List<U> output = new ArrayList<>();
+                for (int i = from; i < to; ++i)
+                    for (final U u : f.apply(list.get(i)))
+                        output.add(u);
+                return output;
+            }));
+        }
+
+        /**
+         * See <a href="http://en.wikipedia.org/wiki/Fold_(higher-order_function)">Fold</a>
+         * fold: aka Reduce. Each chunk of the input is folded, starting from 'initialValue', and the results of the chunks are then
+         * combined, in order, using 'combiner'. Therefore 'initialValue' must be an identity for 'combiner' and 'combiner' must be
+         * associative, as is the case for <tt>Stream.reduce</tt>.
+         * fold: (A -> B -> A) -> A -> (A -> A -> A) -> B list -> A
+         *
+         * @param <A>          the type of the initialValue / seed
+         * @param <B>          the type of the element in the input sequence
+         * @param folder       the aggregation function
+         * @param initialValue the seed for the aggregation of each chunk
+         * @param combiner     the function used to combine the aggregations of two adjacent chunks
+         * @param input        the input sequence
+         * @return the aggregated output
+         */
+        public static <A, B> A fold(final BiFunction<? super A, ? super B, ? extends A> folder, final A initialValue, final BinaryOperator<A> combiner, final Iterable<B> input) {
+            notNull(folder, "Parallel.fold(BiFunction<A,B,A>,A,BinaryOperator<A>,Iterable<B>)", "folder");
+            notNull(combiner, "Parallel.fold(BiFunction<A,B,A>,A,BinaryOperator<A>,Iterable<B>)", "combiner");
+            notNull(input, "Parallel.fold(BiFunction<A,B,A>,A,BinaryOperator<A>,Iterable<B>)", "input");
+            return fold(folder, initialValue, combiner, input, ForkJoinPool.commonPool());
+        }
+
+        static <A, B> A fold(final BiFunction<? super A, ? super B, ? extends A> folder, final A initialValue, final BinaryOperator<A> combiner, final Iterable<B> input, final ForkJoinPool pool) {
+            final List<B> list = asRandomAccessList(input);
+            final List<A> partialResults = inParallel(pool, list.size(), (from, to) -> {
+                A state = initialValue;
+                for (int i = from; i < to; ++i)
+                    state = folder.apply(state, list.get(i));
+                return state;
+            });
+            A state = partialResults.get(0);
+            for (int i = 1; i < partialResults.size(); ++i)
+                state = combiner.apply(state, partialResults.get(i));
+            return state;
+        }
+
+        /**
+         * groupBy: the input is grouped according to 'keyFn'. Each chunk of the input is grouped into its own map and the
+         * maps are then merged, in order, so that the elements in each group are in the same order as they are in the input.
+         *
+         * @param <T>   the type of the element in the input sequence
+         * @param <U>   the type of the element in the key
+         * @param keyFn the grouping function. Given an element return the key to be used when storing this element in the dictionary
+         * @param input the input sequence
+         * @return a java.util.Map containing a list of elements for each key
+         * @see Functional#groupBy(Function, Iterable)
+         */
+        public static <T, U> Map<U, List<T>> groupBy(final Function<? super T, ? extends U> keyFn, final Iterable<T> input) {
+            notNull(keyFn, "Parallel.groupBy(Function<T,U>,Iterable<T>)", "keyFn");
+            notNull(input, "Parallel.groupBy(Function<T,U>,Iterable<T>)", "input");
+            return groupBy(keyFn, input, ForkJoinPool.commonPool());
+        }
+
+        static <T, U> Map<U, List<T>> groupBy(final Function<? super T, ? extends U> keyFn, final Iterable<T> input, final ForkJoinPool pool) {
+            final List<T> list = asRandomAccessList(input);
+            final List<Map<U, List<T>>> chunks = inParallel(pool, list.size(), (from, to) -> {
+                final Map<U, List<T>> output = new HashMap<>();
+                for (int i = from; i < to; ++i) {
+                    final T element = list.get(i);
+                    output.computeIfAbsent(keyFn.apply(element), key -> new ArrayList<>()).add(element);
+                }
+                return output;
+            });
+            final Map<U, List<T>> output = chunks.get(0);
+            for (int i = 1; i < chunks.size(); ++i)
+                for (final Map.Entry<U, List<T>> entry : chunks.get(i).entrySet())
+                    output.merge(entry.getKey(), entry.getValue(), (l1, l2) -> {
+                        l1.addAll(l2);
+                        return l1;
+                    });
+            output.replaceAll((key, group) -> Collections.unmodifiableList(group));
+            return Collections.unmodifiableMap(output);
+        }
+
+        /**
+         * toDictionary: given each element from the input sequence apply the keyFn and valueFn to generate a (key,value) pair.
+         * Each chunk of the input is accumulated into its own map and the maps are then merged.
+         *
+         * @param <T>     the type of the element in the input sequence
+         * @param <K>     the type of the key elements
+         * @param <V>     the type of the value elements
+         * @param keyFn   function used to generate the key
+         * @param valueFn function used to generate the value
+         * @param input   input sequence
+         * @return a java.util.Map containing the transformed input sequence
+         * @throws IllegalStateException if 'keyFn' generates the same key for more than one element of 'input'
+         * @see Functional#toDictionary(Function, Function, Iterable)
+         */
+        public static <T, K, V> Map<K, V> toDictionary(final Function<? super T, ? extends K> keyFn, final Function<? super T, ? extends V> valueFn, final Iterable<T> input) {
+            notNull(keyFn, "Parallel.toDictionary(Function<T,K>,Function<T,V>,Iterable<T>)", "keyFn");
+            notNull(valueFn, "Parallel.toDictionary(Function<T,K>,Function<T,V>,Iterable<T>)", "valueFn");
+            notNull(input, "Parallel.toDictionary(Function<T,K>,Function<T,V>,Iterable<T>)", "input");
+            return toDictionary(keyFn, valueFn, input, ForkJoinPool.commonPool());
+        }
+
+        static <T, K, V> Map<K, V> toDictionary(final Function<? super T, ? extends K> keyFn, final Function<? super T, ? extends V> valueFn, final Iterable<T> input, final ForkJoinPool pool) {
+            final List<T> list = asRandomAccessList(input);
+            final List<Map<K, V>> chunks = inParallel(pool, list.size(), (from, to) -> {
+                final Map<K, V> output = new HashMap<>();
+                for (int i = from; i < to; ++i) {
+                    final T element = list.get(i);
+                    putUnique(output, keyFn.apply(element), valueFn.apply(element));
+                }
+                return output;
+            });
+            final Map<K, V> output = chunks.get(0);
+            for (int i = 1; i < chunks.size(); ++i)
+                for (final Map.Entry<K, V> entry : chunks.get(i).entrySet())
+                    putUnique(output, entry.getKey(), entry.getValue());
+            return Collections.unmodifiableMap(output);
+        }
+
+        static <K, V> void putUnique(final Map<K, V> map, final K key, final V value) {
+            if (map.containsKey(key))
+                throw new IllegalStateException("Parallel.toDictionary(Function<T,K>,Function<T,V>,Iterable<T>): duplicate key " + key);
+            map.put(key, value);
+        }
+
+        /**
+         * Apply 'chunk' to each contiguous range [from, to) of the indices [0, size) and return the results in order.
+         */
+        private static <R> List<R> inParallel(final ForkJoinPool pool, final int size, final BiFunction<Integer, Integer, R> chunk) {
+            final int howManyPartitions = Math.min(pool.getParallelism() * 4, size / MINIMUM_CHUNK_SIZE);
+            if (howManyPartitions <= 1)
+                return Collections.singletonList(chunk.apply(0, size));
+
+            final List<ForkJoinTask<R>> tasks = new ArrayList<>(howManyPartitions);
+            for (final Range<Integer> range : partition(size, howManyPartitions))
+                tasks.add(pool.submit(() -> chunk.apply(range.from() - 1, range.to() - 1)));
+            final List<R> results = new ArrayList<>(howManyPartitions);
+            for (final ForkJoinTask<R> task : tasks)
+                results.add(task.join());
+            return results;
+        }
+
+        private static <A> List<A> concat(final List<List<A>> chunks) {
+            if (chunks.size() == 1)
+                return Collections.unmodifiableList(chunks.get(0));
+            int size = 0;
+            for (final List<A> chunk : chunks)
+                size += chunk.size();
+            final ImmutableArrayList.Builder<A> output = ImmutableArrayList.builder(size);
+            for (final List<A> chunk : chunks)
+                output.addAll(chunk);
+            return output.build();
+        }
+
+        private static <A> List<A> asRandomAccessList(final Iterable<A> input) {
+            if (input instanceof List && input instanceof RandomAccess)
+                return (List<A>) input;
+            if (input instanceof Collection)
+                return new ArrayList<>((Collection<A>) input);
+            final List<A> output = new ArrayList<>();
+            input.forEach(output::add);
+            return output;
+        }
+    }
+
+    /**
+     * Concurrent implementations of (some of) the eager algorithms contained herein, for functions which spend most of
+     * their time waiting, eg on I/O. Each element is processed on its own thread, with no more than 'maxConcurrency'
+     * elements being processed at once, so the time taken is close to that of the slowest element rather than the sum
+     * of them all. The results are returned in the order of the input.
+     * <p>
+     * On a JDK which provides virtual threads each element is processed on a virtual thread. Otherwise the elements are
+     * processed on a pool of daemon threads which is shared by every call, so that its threads are reused. In either case
+     * no more than 'maxConcurrency' elements are submitted at once; the next element is submitted as each one completes.
+     * <p>
+     * If the function throws for any element then the elements which are still being processed are cancelled and the
+     * exception is rethrown to the caller. If the caller is interrupted then every element is cancelled and a
+     * <tt>CancellationException</tt> is thrown, with the interrupt status of the caller restored.
+     */
+    public static final class Concurrent {
+        private Concurrent() {
+        }
+
+        private static final ExecutorService EXECUTOR = newExecutor();
+
+        /**
+         * See <a href="http://en.wikipedia.org/wiki/Map_(higher-order_function)">Map</a>
+         * map: (A -> B) -> A list -> B list
+         *
+         * @param <A>            the type of the element in the input sequence
+         * @param <B>            the type of the element in the output sequence
+         * @param f              a transformation function which takes a object of type A and returns an object, presumably related, of type B
+         * @param input          a sequence to be fed into f
+         * @param maxConcurrency the maximum number of elements which will be transformed at the same time
+         * @return a list of type B containing the transformed values, in the order of the input.
+         */
+        public static <A, B> List<B> map(final Function<? super A, ? extends B> f, final Collection<? extends A> input, final int maxConcurrency) {
+            notNull(f, "Concurrent.map(Function<A,B>,Collection<A>,int)", "f");
+            notNull(input, "Concurrent.map(Function<A,B>,Collection<A>,int)", "input");
+            positive(maxConcurrency, "Concurrent.map(Function<A,B>,Collection<A>,int)");
+            return Collections.unmodifiableList(concurrently(f, input, maxConcurrency));
+        }
+
+        /**
+         * See <a href="http://en.wikipedia.org/wiki/Choice_function">Choice function</a>
+         * choose: (A -> B option) -> A list -> B list
+         *
+         * @param <A>            the type of the element in the input sequence
+         * @param <B>            the type of the element in the output sequence
+         * @param chooser        a transformation function which returns either Some(B) or None
+         * @param input          a sequence to be fed into 'chooser'
+         * @param maxConcurrency the maximum number of elements which will be passed to 'chooser' at the same time
+         * @return a list of type B containing the chosen values, in the order of the input.
+         */
+        public static <A, B> List<B> choose(final Function<? super A, Option<B>> chooser, final Collection<? extends A> input, final int maxConcurrency) {
+            notNull(chooser, "Concurrent.choose(Function<A,Option<B>>,Collection<A>,int)", "chooser");
+            notNull(input, "Concurrent.choose(Function<A,Option<B>>,Collection<A>,int)", "input");
+            positive(maxConcurrency, "Concurrent.choose(Function<A,Option<B>>,Collection<A>,int)");
+            final List<Option<B>> chosen = concurrently(chooser, input, maxConcurrency);
+            final List<B> output = new ArrayList<>();
+            for (final Option<B> option : chosen)
+                if (option.isSome()) output.add(option.get());
+            return Collections.unmodifiableList(output);
+        }
+
+        /**
+         * See <a href="http://en.wikipedia.org/wiki/Map_(higher-order_function)">Map</a>
+         * flatMap: (A -> B list) -> A list -> B list
+         *
+         * @param <A>            the type of the element in the input sequence
+         * @param <B>            the type of the element in the output sequence
+         * @param f              a transformation function which takes a object of type A and returns a sequence of objects of type B
+         * @param input          a sequence to be fed into f
+         * @param maxConcurrency the maximum number of elements which will be transformed at the same time
+         * @return a list of type B containing the concatenation of the transformed values, in the order of the input.
+         */
+        public static <A, B> List<B> flatMap(final Function<? super A, ? extends Iterable<B>> f, final Collection<? extends A> input, final int maxConcurrency) {
+            notNull(f, "Concurrent.flatMap(Function<A,B>,Collection<A>,int)", "f");
+            notNull(input, "Concurrent.flatMap(Function<A,B>,Collection<A>,int)", "input");
+            positive(maxConcurrency, "Concurrent.flatMap(Function<A,B>,Collection<A>,int)");
+            final List<Iterable<B>> chunks = concurrently(f, input, maxConcurrency);
+            final List<B> output = new ArrayList<>();
+            for (final Iterable<B> chunk : chunks)
+                chunk.forEach(output::add);
+            return Collections.unmodifiableList(output);
+        }
+
+        private static void positive(final int maxConcurrency, final String functionName) {
+            if (maxConcurrency < 1)
+                throw new IllegalArgumentException(functionName + ": maxConcurrency must be positive");
+        }
+
+        private static <A, B> List<B> concurrently(final Function<? super A, ? extends B> f, final Collection<? extends A> input, final int maxConcurrency) {
+            if (input.isEmpty()) return new ArrayList<>(0);
+
+            final CompletionService<B> completion = new ExecutorCompletionService<>(EXECUTOR);
+            final List<Future<B>> futures = new ArrayList<>(input.size());
+            final Iterator<? extends A> elements = input.iterator();
+            try {
+                while (futures.size() < maxConcurrency && elements.hasNext())
+                    futures.add(submit(completion, f, elements.next()));
+                // wait in order of completion, so that the first failure is seen as soon as it happens
+                for (int completed = 0; completed < futures.size(); ++completed) {
+                    completion.take().get();
+                    if (elements.hasNext())
+                        futures.add(submit(completion, f, elements.next()));
+                }
+                final List<B> output = new ArrayList<>(futures.size());
+                for (final Future<B> future : futures)
+                    output.add(future.get());
+                return output;
+            } catch (final ExecutionException e) {
+                cancel(futures);
+                final Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                if (cause instanceof Error) throw (Error) cause;
+                throw new IllegalStateException(cause);
+            } catch (final InterruptedException e) {
+                cancel(futures);
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Concurrent: the calling thread was interrupted");
+            }
+        }
+
+        private static <A, B> Future<B> submit(final CompletionService<B> completion, final Function<? super A, ? extends B> f, final A element) {
+            return completion.submit(() -> f.apply(element));
+        }
+
+        private static void cancel(final List<? extends Future<?>> futures) {
+            for (final Future<?> future : futures)
+                future.cancel(true);
+        }
+
+        private static ExecutorService newExecutor() {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (final ReflectiveOperationException ignored) {
+                // fall back to a thread pool
+            }
+            final AtomicInteger threads = new AtomicInteger();
+            return Executors.newCachedThreadPool(task -> {
+                final Thread thread = new Thread(task, "Functional.Concurrent-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
     }
 
     /**
      * See <a href="http://en.wikipedia.org/wiki/Recursion_(computer_science)">Recursion</a>
-     * Recursive implementations of (some of) the algorithms contained herein
+     * Recursive implementations of (some of) the algorithms contained herein. The recursion is expressed as a sequence
+     * of {@link TailCall}s which are run by a trampoline, so these functions use constant stack however long the input.
      */
     public static class Rec {
         private Rec() {
@@ -3238,16 +4509,16 @@ public final class Functional {
         public static <A> Iterable<A> filter(final Predicate<? super A> predicate, final Iterable<A> input) {
             notNull(predicate, "Rec.filter(Predicate<A>,Iterable<A>)", "predicate");
             notNull(input, "Rec.filter(Predicate<A>,Iterable<A>)", "input");
-            return filter(predicate, input.iterator(), new ArrayList<>());
+            return filter(predicate, input.iterator(), new ArrayList<>()).invoke();
         }
 
-        private static <A> Iterable<A> filter(final Predicate<? super A> f, final Iterator<A> input, final Collection<A> accumulator) {
+        private static <A> TailCall<Iterable<A>> filter(final Predicate<? super A> f, final Iterator<A> input, final Collection<A> accumulator) {
             if (input.hasNext()) {
                 final A next = input.next();
                 if (f.test(next)) accumulator.add(next);
-                return filter(f, input, accumulator);
+                return () -> filter(f, input, accumulator);
             }
-            return accumulator;
+            return TailCall.done(accumulator);
         }
 
         /**
@@ -3266,15 +4537,15 @@ public final class Functional {
         public static <A, B> Iterable<B> map(final Function<? super A, ? extends B> f, final Iterable<A> input) {
             notNull(f, "Rec.map(Function<A,B>,Iterable<A>)", "f");
             notNull(input, "Rec.map(Function<A,B>,Iterable<A>)", "input");
-            return map(f, input.iterator(), new ArrayList<>());
+            return Rec.<A, B>map(f, input.iterator(), new ArrayList<>()).invoke();
         }
 
-        private static <A, B> Iterable<B> map(final Function<? super A, ? extends B> f, final Iterator<A> input, final Collection<B> accumulator) {
+        private static <A, B> TailCall<Iterable<B>> map(final Function<? super A, ? extends B> f, final Iterator<A> input, final Collection<B> accumulator) {
             if (input.hasNext()) {
                 accumulator.add(f.apply(input.next()));
-                return map(f, input, accumulator);
+                return () -> map(f, input, accumulator);
             }
-            return accumulator;
+            return TailCall.done(accumulator);
         }
 
         /**
@@ -3292,15 +4563,15 @@ public final class Functional {
         public static <A, B> A fold(final BiFunction<? super A, ? super B, ? extends A> folder, final A initialValue, final Iterable<B> input) {
             notNull(folder, "Rec.fold(BiFunction<A,B,A>,A,Iterable<B>)", "folder");
             notNull(input, "Rec.fold(BiFunction<A,B,A>,A,Iterable<B>)", "input");
-            return fold(folder, initialValue, input.iterator());
+            return fold(folder, initialValue, input.iterator()).invoke();
         }
 
-        private static <A, B> A fold(final BiFunction<? super A, ? super B, ? extends A> f, final A initialValue, final Iterator<B> input) {
+        private static <A, B> TailCall<A> fold(final BiFunction<? super A, ? super B, ? extends A> f, final A initialValue, final Iterator<B> input) {
             if (input.hasNext()) {
-                final B next = input.next();
-                return fold(f, f.apply(initialValue, next), input);
+                final A state = f.apply(initialValue, input.next());
+                return () -> fold(f, state, input);
             }
-            return initialValue;
+            return TailCall.done(initialValue);
         }
 
         /**
@@ -3313,14 +4584,14 @@ public final class Functional {
         public static <A, B> List<A> unfold(final Function<? super B, Tuple2<A, B>> unspooler, final Predicate<? super B> finished, final B seed) {
             notNull(unspooler, "Rec.unfold(Function<B,Tuple2<A,B>>,Predicate<B>,B)", "unspooler");
             notNull(finished, "Rec.unfold(Function<B,Tuple2<A,B>>,Predicate<B>,B)", "finished");
-            return unfold(unspooler, finished, seed, new ArrayList<>());
+            return unfold(unspooler, finished, seed, new ArrayList<>()).invoke();
         }
 
-        private static <A, B> List<A> unfold(final Function<? super B, Tuple2<A, B>> unspool, final Predicate<? super B> finished, final B seed, final List<A> accumulator) {
-            if (finished.test(seed)) return accumulator;
+        private static <A, B> TailCall<List<A>> unfold(final Function<? super B, Tuple2<A, B>> unspool, final Predicate<? super B> finished, final B seed, final List<A> accumulator) {
+            if (finished.test(seed)) return TailCall.done(accumulator);
             final Tuple2<A, B> p = unspool.apply(seed);
             accumulator.add(p._1());
-            return unfold(unspool, finished, p._2(), accumulator);
+            return () -> unfold(unspool, finished, p._2(), accumulator);
         }
 
         /**
@@ -3331,14 +4602,14 @@ public final class Functional {
          * See <a href="http://en.wikipedia.org/wiki/Recursion_(computer_science)">Recursion</a>
          */
         public static <A, B> List<A> unfold(final Function<? super B, Option<Tuple2<A, B>>> unspool, final B seed) {
-            return unfold(unspool, seed, new ArrayList<>());
+            return unfold(unspool, seed, new ArrayList<>()).invoke();
         }
 
-        private static <A, B> List<A> unfold(final Function<? super B, Option<Tuple2<A, B>>> unspool, final B seed, final List<A> accumulator) {
+        private static <A, B> TailCall<List<A>> unfold(final Function<? super B, Option<Tuple2<A, B>>> unspool, final B seed, final List<A> accumulator) {
             final Option<Tuple2<A, B>> p = unspool.apply(seed);
-            if (p.isNone()) return accumulator;
+            if (p.isNone()) return TailCall.done(accumulator);
             accumulator.add(p.get()._1());
-            return unfold(unspool, p.get()._2(), accumulator);
+            return () -> unfold(unspool, p.get()._2(), accumulator);
         }
     }
         /*
@@ -3542,67 +4813,82 @@ public final class Functional {
 
                     @Override
                     public Iterator<Match<A, B>> iterator() {
-                        return null;
+                        return i.iterator();
+                    }
+
+                    @Override
+                    public Spliterator<Match<A, B>> spliterator() {
+                        return i.spliterator();
+                    }
+
+                    @Override
+                    public void forEach(final Consumer<? super Match<A, B>> action) {
+                        i.forEach(action);
                     }
 
                     @Override
                     public Iterable2<Match<A, B>> filter(final Predicate<? super Match<A, B>> f) {
-                        return null;
+                        return i.filter(f);
                     }
 
                     @Override
                     public <U> Iterable2<U> map(final Function<? super Match<A, B>, ? extends U> f) {
-                        return null;
+                        return i.map(f);
                     }
 
                     @Override
                     public <U> Iterable2<U> mapi(final BiFunction<Integer, Match<A, B>, ? extends U> f) {
-                        return null;
+                        return i.mapi(f);
                     }
 
                     @Override
                     public <U> Iterable2<U> choose(final Function<? super Match<A, B>, Option<U>> f) {
-                        return null;
+                        return i.choose(f);
                     }
 
                     @Override
                     public boolean exists(final Predicate<? super Match<A, B>> f) {
-                        return false;
+                        return i.exists(f);
                     }
 
                     @Override
                     public boolean forAll(final Predicate<? super Match<A, B>> f) {
-                        return false;
+                        return i.forAll(f);
                     }
 
                     @Override
                     public <U> boolean forAll2(final BiPredicate<? super U, ? super Match<A, B>> f, final Iterable<U> input1) {
-                        return false;
+                        return i.forAll2(f, input1);
                     }
 
                     @Override
                     public <U> U fold(final BiFunction<? super U, ? super Match<A, B>, ? extends U> f, final U seed) {
-                        return null;
+                        return i.fold(f, seed);
+                    }
+
+                    @Override
+                    public <U> U fold(final BiFunction<? super U, ? super Match<A, B>, ? extends U> f, final U seed, final BinaryOperator<U> combiner) {
+                        return i.fold(f, seed, combiner);
                     }
 
                     @Override
                     public <K, V> Map<K, V> toDictionary(final Function<? super Match<A, B>, ? extends K> keyFn, final Function<? super Match<A, B>, ? extends V> valueFn) {
-                        return null;
+                        return i.toDictionary(keyFn, valueFn);
                     }
 
                     @Override
                     public Match<A, B> last() {
-                        return null;
+                        return i.last();
                     }
 
                     @Override
                     public Iterable2<Match<A, B>> sortWith(final Comparator<Match<A, B>> f) {
-                        return null;
+                        return i.sortWith(f);
                     }
 
                     @Override
                     public Iterable2<Match<A, B>> concat(final Iterable2<Match<A, B>> list2) {
-                        return null;
+                        return i.concat(list2);
                     }
 
                     @Override
@@ -3612,82 +4898,92 @@ public final class Functional {
 
                     @Override
                     public int findIndex(final Predicate<? super Match<A, B>> f) {
-                        return 0;
+                        return i.findIndex(f);
                     }
 
                     @Override
                     public <U> Option<U> pick(final Function<? super Match<A, B>, Option<U>> f) {
-                        return null;
+                        return i.pick(f);
                     }
 
                     @Override
                     public <U> Iterable2<U> collect(final Function<? super Match<A, B>, ? extends Iterable<U>> f) {
-                        return null;
+                        return i.collect(f);
                     }
 
                     @Override
                     public Iterable2<Match<A, B>> take(final int howMany) {
-                        return null;
+                        return i.take(howMany);
                     }
 
                     @Override
                     public Iterable2<Match<A, B>> takeWhile(final Predicate<? super Match<A, B>> f) {
-                        return null;
+                        return i.takeWhile(f);
                     }
 
                     @Override
                     public Iterable2<Match<A, B>> skip(final int howMany) {
-                        return null;
+                        return i.skip(howMany);
                     }
 
                     @Override
                     public Iterable2<Match<A, B>> skipWhile(final Predicate<? super Match<A, B>> f) {
-                        return null;
+                        return i.skipWhile(f);
                     }
 
                     @Override
                     public String join(final String delimiter) {
-                        return null;
+                        return i.join(delimiter);
                     }
 
                     @Override
                     public Option<Match<A, B>> findLast(final Predicate<Match<A, B>> f) {
-                        return null;
+                        return i.findLast(f);
                     }
 
                     @Override
                     public Tuple2<List<Match<A, B>>, List<Match<A, B>>> partition(final Predicate<? super Match<A, B>> f) {
-                        return null;
+                        return i.partition(f);
                     }
 
                     @Override
                     public <U> Iterable2<Tuple2<Match<A, B>, U>> zip(final Iterable2<? extends U> l2) {
-                        return null;
+                        return i.zip(l2);
                     }
 
                     @Override
                     public <U, V> Iterable2<Tuple3<Match<A, B>, U, V>> zip3(final Iterable<? extends U> l2, final Iterable<? extends V> l3) {
-                        return null;
+                        return i.zip3(l2, l3);
                     }
 
                     @Override
                     public <U> U in(final Function<Iterable2<Match<A, B>>, U> f) {
-                        return null;
+                        return f.apply(this);
                     }
 
                     @Override
                     public <U> Map<U, List<Match<A, B>>> groupBy(final Function<? super Match<A, B>, ? extends U> keyFn) {
-                        return null;
+                        return i.groupBy(keyFn);
+                    }
+
+                    @Override
+                    public Iterable2<Match<A, B>> parallel() {
+                        return i.parallel();
+                    }
+
+                    @Override
+                    public Iterable2<Match<A, B>> parallel(final ForkJoinPool pool) {
+                        return i.parallel(pool);
                     }
 
                     @Override
                     public List<Match<A, B>> toList() {
-                        return null;
+                        return i.toList();
                     }
 
                     @Override
                     public java.util.Set<Match<A, B>> toSet() {
-                        return null;
+                        return i.toSet();
                     }
                 };
             }
@@ -3729,7 +5025,137 @@ public final class Functional {
             return Matches.of(Arrays.asList(match1, match2, match3, match4, match5));
         }
 
-        private static final class Match<A, B> {
+        /**
+         * Compiled switch statement, for use when the same set of cases is to be applied to many inputs. Each case is either
+         * keyed, in which case it is selected when 'keyFn' applied to the input equals its key, or unkeyed, in which case it
+         * is selected when its predicate is true. The keyed cases are held in a hash table, so a keyed case is found
+         * in constant time however many cases there are, and only the unkeyed cases are tested in turn.
+         * <p>
+         * As with {@link #findMatch(Object)}, the first case which applies is chosen, in the order in which the cases were
+         * given: an unkeyed case is only tested if it precedes the keyed case for the key of the input, if any.
+         * For example
+         * <pre>
+         *     final Function&lt;Event, String&gt; describe = Matcher.&lt;Event, String, String&gt;compile(Event::type)
+         *             .when("click", e -&gt; "clicked")
+         *             .when("key", e -&gt; "typed")
+         *             .when(e -&gt; e.isUrgent(), e -&gt; "urgent")
+         *             .orElse(e -&gt; "ignored");
+         * </pre>
+         *
+         * @param keyFn the function which extracts the key of each input
+         * @param <A>   the type of the input
+         * @param <K>   the type of the key
+         * @param <B>   the type of the result
+         * @return a DecisionTable to which the cases are to be added
+         */
+        public static <A, K, B> DecisionTable<A, K, B> compile(final Function<? super A, ? extends K> keyFn) {
+            notNull(keyFn, "Matcher.compile(Function<A,K>)", "keyFn");
+            return new DecisionTable<>(keyFn);
+        }
+
+        /**
+         * The cases of a compiled matcher. See {@link #compile(Function)}.
+         *
+         * @param <A> the type of the input
+         * @param <K> the type of the key
+         * @param <B> the type of the result
+         */
+        public static final class DecisionTable<A, K, B> {
+            private final Function<? super A, ? extends K> keyFn;
+            private final Map<K, Case<A, B>> keyed = new HashMap<>();
+            private final List<Case<A, B>> unkeyed = new ArrayList<>();
+            private int howManyCases;
+
+            private DecisionTable(final Function<? super A, ? extends K> keyFn) {
+                this.keyFn = keyFn;
+            }
+
+            /**
+             * Add a case which is selected when the key of the input equals 'key'. If there is already a case for 'key'
+             * then this case can never be selected and so it is ignored.
+             *
+             * @param key    the key
+             * @param result the function which is applied to the input if this case is selected
+             * @return this DecisionTable
+             */
+            public DecisionTable<A, K, B> when(final K key, final Function<? super A, ? extends B> result) {
+                notNull(result, "DecisionTable.when(K,Function<A,B>)", "result");
+                keyed.putIfAbsent(key, new Case<>(howManyCases++, null, result));
+                return this;
+            }
+
+            /**
+             * Add a case which is selected when 'predicate' is true for the input.
+             *
+             * @param predicate the test
+             * @param result    the function which is applied to the input if this case is selected
+             * @return this DecisionTable
+             */
+            public DecisionTable<A, K, B> when(final Predicate<? super A> predicate, final Function<? super A, ? extends B> result) {
+                notNull(predicate, "DecisionTable.when(Predicate<A>,Function<A,B>)", "predicate");
+                notNull(result, "DecisionTable.when(Predicate<A>,Function<A,B>)", "result");
+                unkeyed.add(new Case<>(howManyCases++, predicate, result));
+                return this;
+            }
+
+            /**
+             * @param defaultCase the function which is applied to the input if no case is selected
+             * @return the compiled matcher. Later changes to this DecisionTable do not affect it
+             */
+            public Function<A, B> orElse(final Function<? super A, ? extends B> defaultCase) {
+                notNull(defaultCase, "DecisionTable.orElse(Function<A,B>)", "defaultCase");
+                return new CompiledMatcher<>(keyFn, new HashMap<>(keyed), toArray(unkeyed), defaultCase);
+            }
+
+            @SuppressWarnings("unchecked")
+            private static <A, B> Case<A, B>[] toArray(final List<Case<A, B>> cases) {
+                return cases.toArray((Case<A, B>[]) new Case<?, ?>[cases.size()]);
+            }
+        }
+
+        private static final class Case<A, B> {
+            private final int position;
+            private final Predicate<? super A> check;
+            private final Function<? super A, ? extends B> result;
+
+            private Case(final int position, final Predicate<? super A> check, final Function<? super A, ? extends B> result) {
+                this.position = position;
+                this.check = check;
+                this.result = result;
+            }
+        }
+
+        private static final class CompiledMatcher<A, K, B> implements Function<A, B> {
+            private final Function<? super A, ? extends K> keyFn;
+            private final Map<K, Case<A, B>> keyed;
+            private final Case<A, B>[] unkeyed;
+            private final Function<? super A, ? extends B> defaultCase;
+
+            private CompiledMatcher(final Function<? super A, ? extends K> keyFn, final Map<K, Case<A, B>> keyed, final Case<A, B>[] unkeyed, final Function<? super A, ? extends B> defaultCase) {
+                this.keyFn = keyFn;
+                this.keyed = keyed;
+                this.unkeyed = unkeyed;
+                this.defaultCase = defaultCase;
+            }
+
+            public B apply(final A input) {
+                final Case<A, B> keyedCase = keyed.isEmpty() ? null : keyed.get(keyFn.apply(input));
+                final int limit = keyedCase == null ? Integer.MAX_VALUE : keyedCase.position;
+                for (final Case<A, B> unkeyedCase : unkeyed) {
+                    if (unkeyedCase.position > limit) break;
+                    if (unkeyedCase.check.test(input)) return unkeyedCase.result.apply(input);
+                }
+                return keyedCase == null ? defaultCase.apply(input) : keyedCase.result.apply(input);
+            }
+        }
+
+        /**
+         * A single case of {@link #findMatch(Object)}: a predicate and the function which is applied if it is true.
+         *
+         * @param <A> the type of the element passed to the predicate
+         * @param <B> the type of the result
+         */
+        public static final class Match<A, B> {
             private final Predicate<A> check;
             private final Function<A, B> result;
 
@@ -3754,10 +5180,9 @@ public final class Functional {
         private static <A, B> B switchBetween(final A input, final Matches<A, B> cases, final Function<A, B> defaultCase) {
             notNull(cases, "findMatch(A).from(Matches<A,B>).orElse(Function<A,B>)", "cases");
             notNull(defaultCase, "findMatch(A).from(Matches<A,B>).orElse(Function<A,B>)", "defaultCase");
-            return cases
-                    .find(abMatch -> abMatch.test(input)).toVavrOption()
-                    .map(c -> c.getResultsFor(input))
-                    .getOrElse(() -> defaultCase.apply(input));
+            for (final Match<A, B> match : cases)
+                if (match.test(input)) return match.getResultsFor(input);
+            return defaultCase.apply(input);
         }
     }
 
@@ -3847,7 +5272,13 @@ public final class Functional {
         return StreamSupport.stream(input.spliterator(), false);
     }
 
-    private static <T> T notNull(final T t, final String functionName, final String parameterName) {
+    /**
+     * Throw an IllegalArgumentException, with the message "functionName: parameterName must not be null", if 't' is null.
+     * This is the precondition check used throughout the package.
+     *
+     * @return 't'
+     */
+    static <T> T notNull(final T t, final String functionName, final String parameterName) {
         return notNull(t, functionName + ": " + parameterName + " must not be null");
     }
 
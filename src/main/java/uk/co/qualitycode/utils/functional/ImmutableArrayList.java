@@ -0,0 +1,271 @@
+package uk.co.qualitycode.utils.functional;
+
+import java.lang.reflect.Array;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * The List returned by the eager operators in {@link Functional}. The elements are held in an array which is trimmed to
+ * the number of elements, so there is no slack capacity and no wrapper between the caller and the array. The list
+ * cannot be modified; every mutator inherited from <tt>AbstractList</tt> throws <tt>UnsupportedOperationException</tt>.
+ * <p>
+ * Because the list can never change, {@link #subList(int, int)} is a view which shares the array and costs O(1), the
+ * hash code is computed once, and the operators in {@link Functional} use an ImmutableArrayList which they are given as
+ * it is rather than copying it first.
+ *
+ * @param <T> the type of the element in the list
+ */
+public final class ImmutableArrayList<T> extends AbstractList<T> implements RandomAccess {
+    private static final Object[] NO_ELEMENTS = new Object[0];
+    private static final ImmutableArrayList<?> EMPTY = new ImmutableArrayList<>(NO_ELEMENTS, 0, 0);
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final Object[] elements;
+    private final int offset;
+    private final int size;
+    private int hashCode;
+
+    private ImmutableArrayList(final Object[] elements, final int offset, final int size) {
+        this.elements = elements;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    /**
+     * Return an ImmutableArrayList containing the elements of 'input'. If 'input' is already an ImmutableArrayList then
+     * it is returned as it is.
+     *
+     * @param input the input sequence
+     * @param <T>   the type of the element in the input sequence
+     * @return an ImmutableArrayList containing the elements of 'input', in the same order
+     * @throws java.lang.IllegalArgumentException if the input sequence is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ImmutableArrayList<T> copyOf(final Iterable<? extends T> input) {
+        if (input == null) throw new IllegalArgumentException("ImmutableArrayList.copyOf(Iterable<T>): input must not be null");
+        if (input instanceof ImmutableArrayList<?>) return (ImmutableArrayList<T>) input;
+        if (input instanceof Collection<?>) {
+            // toArray may return the collection's own array, and it need not be an Object[] (JDK-6260652)
+            final Collection<?> collection = (Collection<?>) input;
+            return wrap(Arrays.copyOf(collection.toArray(), collection.size(), Object[].class));
+        }
+        return ImmutableArrayList.<T>builder(DEFAULT_CAPACITY).addAll(input).build();
+    }
+
+    @Override
+    public T get(final int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return elementAt(offset + index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOfRange(elements, offset, offset + size, Object[].class);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <U> U[] toArray(final U[] a) {
+        final U[] output = a.length >= size ? a : (U[]) Array.newInstance(a.getClass().getComponentType(), size);
+        System.arraycopy(elements, offset, output, 0, size);
+        if (output.length > size) output[size] = null;
+        return output;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int posn = offset;
+            private final int end = offset + size;
+
+            public boolean hasNext() {
+                return posn < end;
+            }
+
+            public T next() {
+                if (posn >= end) throw new NoSuchElementException();
+                return elementAt(posn++);
+            }
+        };
+    }
+
+    @Override
+    public void forEach(final Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        for (int i = offset, end = offset + size; i < end; ++i)
+            action.accept(elementAt(i));
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(elements, offset, offset + size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * A view of the elements from 'fromIndex', inclusive, to 'toIndex', exclusive. The view shares this list's array,
+     * so no elements are copied.
+     */
+    @Override
+    public ImmutableArrayList<T> subList(final int fromIndex, final int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", Size: " + size);
+        if (fromIndex == 0 && toIndex == size) return this;
+        if (fromIndex == toIndex) return empty();
+        return new ImmutableArrayList<>(elements, offset + fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * The element at 'index' of the array, which is only ever given elements of type T.
+     */
+    @SuppressWarnings("unchecked")
+    private T elementAt(final int index) {
+        return (T) elements[index];
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hashCode;
+        if (h == 0) {
+            h = 1;
+            for (int i = offset, end = offset + size; i < end; ++i)
+                h = 31 * h + Objects.hashCode(elements[i]);
+            hashCode = h;
+        }
+        return h;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ImmutableArrayList<?>)) return super.equals(o);
+        final ImmutableArrayList<?> other = (ImmutableArrayList<?>) o;
+        if (size != other.size) return false;
+        if (hashCode != 0 && other.hashCode != 0 && hashCode != other.hashCode) return false;
+        for (int i = 0; i < size; ++i)
+            if (!Objects.equals(elements[offset + i], other.elements[other.offset + i])) return false;
+        return true;
+    }
+
+    /**
+     * Create a builder which expects to be given 'expectedSize' elements. The builder grows if it is given more and the
+     * list it builds is trimmed if it is given fewer.
+     *
+     * @param expectedSize the number of elements, or an upper bound on the number of elements, that the list will hold
+     * @param <T>          the type of the element in the list
+     * @return a Builder
+     */
+    static <T> Builder<T> builder(final int expectedSize) {
+        return new Builder<>(expectedSize);
+    }
+
+    /**
+     * @param <T> the type of the element in the list
+     * @return the empty list
+     */
+    @SuppressWarnings("unchecked")
+    static <T> ImmutableArrayList<T> empty() {
+        return (ImmutableArrayList<T>) EMPTY;
+    }
+
+    /**
+     * Wrap 'elements' without copying. The caller must not retain a reference to the array.
+     *
+     * @param elements the elements of the list
+     * @param <T>      the type of the element in the list
+     * @return a list backed by 'elements'
+     */
+    static <T> ImmutableArrayList<T> wrap(final Object[] elements) {
+        return elements.length == 0 ? empty() : new ImmutableArrayList<>(elements, 0, elements.length);
+    }
+
+    /**
+     * The initial capacity to use for a sequence whose spliterator is 'spliterator'. This is the exact size when it is
+     * known, otherwise the estimate, which for a filtered sequence is an upper bound.
+     *
+     * @param spliterator the spliterator of the input sequence
+     * @return the initial capacity of a Builder
+     */
+    static int expectedSize(final Spliterator<?> spliterator) {
+        final long estimate = spliterator.estimateSize();
+        return estimate <= MAX_CAPACITY ? (int) estimate : DEFAULT_CAPACITY;
+    }
+
+    /**
+     * The initial capacity to use for 'input' without traversing it.
+     *
+     * @param input the input sequence
+     * @return the size of 'input' if it is a <tt>Collection</tt>, otherwise a default
+     */
+    static int expectedSize(final Iterable<?> input) {
+        return input instanceof Collection<?> ? ((Collection<?>) input).size() : DEFAULT_CAPACITY;
+    }
+
+    /**
+     * Accumulates the elements of an ImmutableArrayList. A Builder is used once; it must not be added to after
+     * {@link #build()} has been called.
+     *
+     * @param <T> the type of the element in the list
+     */
+    static final class Builder<T> {
+        private Object[] elements;
+        private int size;
+
+        private Builder(final int expectedSize) {
+            elements = expectedSize > 0 ? new Object[Math.min(expectedSize, MAX_CAPACITY)] : NO_ELEMENTS;
+        }
+
+        Builder<T> add(final T element) {
+            if (size == elements.length) grow(size + 1);
+            elements[size++] = element;
+            return this;
+        }
+
+        Builder<T> addAll(final Iterable<? extends T> input) {
+            if (input instanceof ImmutableArrayList<?>) {
+                final ImmutableArrayList<?> list = (ImmutableArrayList<?>) input;
+                if (size + list.size > elements.length) grow(size + list.size);
+                System.arraycopy(list.elements, list.offset, elements, size, list.size);
+                size += list.size;
+                return this;
+            }
+            if (input instanceof Collection<?>) {
+                final int required = size + ((Collection<?>) input).size();
+                if (required > elements.length) grow(required);
+            }
+            for (final T element : input)
+                add(element);
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        Builder<T> sort(final Comparator<? super T> comparator) {
+            Arrays.sort((T[]) elements, 0, size, comparator);
+            return this;
+        }
+
+        ImmutableArrayList<T> build() {
+            return wrap(size == elements.length ? elements : Arrays.copyOf(elements, size));
+        }
+
+        private void grow(final int minCapacity) {
+            final int grown = Math.max(elements.length + (elements.length >> 1), DEFAULT_CAPACITY);
+            elements = Arrays.copyOf(elements, Math.max(minCapacity, Math.min(grown, MAX_CAPACITY)));
+        }
+    }
+}
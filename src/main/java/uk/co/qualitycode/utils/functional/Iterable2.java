@@ -12,10 +12,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -36,6 +41,21 @@ public interface Iterable2<T> extends java.lang.Iterable<T> {
 
     <U> U fold(BiFunction<? super U, ? super T, ? extends U> f, U seed);
 
+    /**
+     * Fold the sequence using 'f'. A parallel Iterable2 folds contiguous chunks of the sequence, each starting from
+     * 'seed', and combines the results in order using 'combiner'. Therefore 'seed' must be an identity for 'combiner'
+     * and 'combiner' must be associative. A sequential Iterable2 does not use 'combiner'.
+     *
+     * @param f        the aggregation function
+     * @param seed     the initial value of the aggregation
+     * @param combiner the function used to combine the aggregations of two adjacent chunks
+     * @param <U>      the type of the aggregation
+     * @return the aggregated output
+     */
+    default <U> U fold(final BiFunction<? super U, ? super T, ? extends U> f, final U seed, final BinaryOperator<U> combiner) {
+        return fold(f, seed);
+    }
+
     <K, V> Map<K, V> toDictionary(final Function<? super T, ? extends K> keyFn, final Function<? super T, ? extends V> valueFn);
 
     T last();
@@ -75,6 +95,54 @@ public interface Iterable2<T> extends java.lang.Iterable<T> {
 
     <U> Map<U, List<T>> groupBy(final Function<? super T, ? extends U> keyFn);
 
+    /**
+     * @return an Iterable2 whose <tt>toList</tt>, <tt>fold</tt> with a combiner, <tt>collect</tt>, <tt>groupBy</tt>,
+     * <tt>toDictionary</tt>, <tt>exists</tt> and <tt>forAll</tt> are evaluated on the common <tt>ForkJoinPool</tt>,
+     * provided that the size of the sequence is bounded. <tt>map</tt>, <tt>filter</tt> and <tt>choose</tt> remain lazy
+     */
+    default Iterable2<T> parallel() {
+        return parallel(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param pool the pool on which the parallel operations are evaluated
+     * @return an Iterable2 whose <tt>toList</tt>, <tt>fold</tt> with a combiner, <tt>collect</tt>, <tt>groupBy</tt>,
+     * <tt>toDictionary</tt>, <tt>exists</tt> and <tt>forAll</tt> are evaluated on 'pool', provided that the size of
+     * the sequence is bounded. <tt>map</tt>, <tt>filter</tt> and <tt>choose</tt> remain lazy
+     */
+    default Iterable2<T> parallel(final ForkJoinPool pool) {
+        return new ParallelIterable2<>(this, pool);
+    }
+
+    /**
+     * @return a sequential Stream over this sequence. The Stream is built on the Spliterator of this sequence, so no
+     * elements are copied and any size which is known is reported to the Stream
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * @return a parallel Stream over this sequence. The Stream is split wherever the Spliterator of this sequence
+     * can be split
+     */
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Perform a mutable reduction of this sequence using 'collector'. The elements are pushed directly into the
+     * container of the collector, so no intermediate list is created.
+     *
+     * @param collector the reduction
+     * @param <A>       the type of the mutable container of the collector
+     * @param <R>       the type of the result
+     * @return the result of the reduction
+     */
+    default <A, R> R collect(final Collector<? super T, A, R> collector) {
+        return Sinks.collect(collector, this);
+    }
+
     /**
      * Note this is not intended to be a wrapper for a restartable sequence. If you want a restartable sequence turn
      * the underlying container into a concrete collection first.
@@ -92,6 +160,16 @@ public interface Iterable2<T> extends java.lang.Iterable<T> {
                 return i.iterator();
             }
 
+            @Override
+            public Spliterator<T> spliterator() {
+                return i.spliterator();
+            }
+
+            @Override
+            public void forEach(final Consumer<? super T> action) {
+                i.forEach(action);
+            }
+
             public Iterable2<T> filter(final Predicate<? super T> f) {
                 return of(Functional.Lazy.filter(f, i));
             }
@@ -203,20 +281,50 @@ public interface Iterable2<T> extends java.lang.Iterable<T> {
                 return Functional.groupBy(keyFn, i);
             }
 
+            @Override
+            public Iterable2<T> parallel(final ForkJoinPool pool) {
+                return new ParallelIterable2<>(i, pool);
+            }
+
             @Override
             public List<T> toList() {
-                return Collections.unmodifiableList(asStream().collect(Collectors.toList()));
+                return Sinks.toList(i);
             }
 
             @Override
             public Set<T> toSet() {
-                return Collections.unmodifiableSet(asStream().collect(Collectors.toSet()));
+                return Sinks.toSet(i);
             }
+        };
+    }
 
-            private Stream<T> asStream() {
-                return StreamSupport.stream(i.spliterator(), false);
+    /**
+     * Wrap 'stream' without buffering it. The elements are pulled from 'stream' as this sequence is traversed, and the
+     * Spliterator of 'stream' is used directly, so a parallel stream can still be split. As with the stream itself, the
+     * Iterable2 can only be traversed once.
+     *
+     * @param stream the input stream
+     * @param <T>    the type of the element in the stream
+     * @return an Iterable2 over the elements of 'stream'
+     */
+    static <T> Iterable2<T> ofStream(final Stream<T> stream) {
+        if (stream == null)
+            throw new IllegalArgumentException("Iterable2.ofStream(Stream<T>): stream must not be null");
+        return of(new java.lang.Iterable<T>() {
+            public Iterator<T> iterator() {
+                return stream.iterator();
             }
-        };
+
+            @Override
+            public Spliterator<T> spliterator() {
+                return stream.spliterator();
+            }
+
+            @Override
+            public void forEach(final Consumer<? super T> action) {
+                stream.forEachOrdered(action);
+            }
+        });
     }
 
     static <T> Iterable2<T> empty() {
@@ -247,6 +355,11 @@ public interface Iterable2<T> extends java.lang.Iterable<T> {
             };
         }
 
+        @Override
+        public Spliterator<T> spliterator() {
+            return Spliterators.emptySpliterator();
+        }
+
         public Iterable2<T> filter(final Predicate<? super T> f) {
             return this;
         }
@@ -356,6 +469,16 @@ public interface Iterable2<T> extends java.lang.Iterable<T> {
             return Collections.emptyMap();
         }
 
+        @Override
+        public Iterable2<T> parallel() {
+            return this;
+        }
+
+        @Override
+        public Iterable2<T> parallel(final ForkJoinPool pool) {
+            return this;
+        }
+
         @Override
         public List<T> toList() {
             return Collections.emptyList();
@@ -1,9 +1,18 @@
 package uk.co.qualitycode.utils.functional;
 
+import java.util.ArrayList;
+import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+/**
+ * An immutable, persistent singly-linked list.
+ * See <a href="http://en.wikipedia.org/wiki/Cons">Cons</a>
+ * <p>
+ * Every operation is iterative, so lists of any length can be processed in constant stack. Lists which are built
+ * from the end, such as the output of <tt>map</tt> and <tt>filter</tt>, are built with one cons cell per element.
+ */
 public final class LispList {
     public interface List<T> {
         T head();
@@ -11,42 +20,65 @@ public final class LispList {
         List<T> tail();
 
         boolean isEmpty();
+
+        /**
+         * @return the number of elements in this list
+         */
+        default int size() {
+            int size = 0;
+            for (List<T> l = this; !l.isEmpty(); l = l.tail())
+                ++size;
+            return size;
+        }
     }
 
     private static <T> List<T> reverse(final List<T> input, final List<T> accumulator) {
-        return input.isEmpty() ? accumulator : reverse(input.tail(), list(input.head(), accumulator));
+        List<T> output = accumulator;
+        for (List<T> l = input; !l.isEmpty(); l = l.tail())
+            output = list(l.head(), output);
+        return output;
     }
 
     public static <T> List<T> reverse(final List<T> input) {
         return reverse(input, nil());
     }
 
-    private static <T> List<T> filter(final Predicate<T> f, final List<T> input, final List<T> accumulator) {
-        return input.isEmpty()
-                ? accumulator
-                : filter(f, input.tail(), f.test(input.head()) ? list(input.head(), accumulator) : accumulator);
-    }
-
     public static <T> List<T> filter(final Predicate<T> f, final List<T> input) {
-        return reverse(filter(f, input, nil()));
+        final ArrayList<T> kept = new ArrayList<>();
+        for (List<T> l = input; !l.isEmpty(); l = l.tail())
+            if (f.test(l.head())) kept.add(l.head());
+        return fromEnd(kept);
     }
 
     public static <T, R> List<R> map(final Function<T, R> f, final List<T> input) {
-        return input.isEmpty()
-                ? (List<R>) nil()
-                : list(f.apply(input.head()), map(f, input.tail()));
+        final ArrayList<R> mapped = new ArrayList<>();
+        for (List<T> l = input; !l.isEmpty(); l = l.tail())
+            mapped.add(f.apply(l.head()));
+        return fromEnd(mapped);
     }
 
     public static <T, R> R fold(final BiFunction<R, T, R> f, final R initialValue, final List<T> input) {
-        return input.isEmpty()
-                ? initialValue
-                : fold(f, f.apply(initialValue, input.head()), input.tail());
+        R state = initialValue;
+        for (List<T> l = input; !l.isEmpty(); l = l.tail())
+            state = f.apply(state, l.head());
+        return state;
     }
 
     public static <T, R> R foldRight(final BiFunction<T, R, R> f, final R initialValue, final List<T> input) {
-        return input.isEmpty()
-                ? initialValue
-                : f.apply(input.head(), foldRight(f, initialValue, input.tail()));
+        final ArrayList<T> elements = new ArrayList<>();
+        for (List<T> l = input; !l.isEmpty(); l = l.tail())
+            elements.add(l.head());
+        R state = initialValue;
+        for (int i = elements.size() - 1; i >= 0; --i)
+            state = f.apply(elements.get(i), state);
+        return state;
+    }
+
+    private static <T> List<T> fromEnd(final ArrayList<T> elements) {
+        List<T> output = nil();
+        for (int i = elements.size() - 1; i >= 0; --i)
+            output = list(elements.get(i), output);
+        return output;
     }
 
     public static <T> List<T> cons(final T t, final List<T> l) {
@@ -75,70 +107,124 @@ public final class LispList {
     public static class EmptyListHasNoTail extends RuntimeException {
     }
 
-    private static LispList ll = new LispList();
-
-    public final class NonEmptyList<T> implements List<T> {
+    public static final class NonEmptyList<T> implements List<T> {
         final private T _head;
         final private List<T> _tail;
+        final private int size;
+        private int hash; // lazily computed; zero until then
 
         NonEmptyList(final T head, final List<T> tail) {
             _head = head;
             _tail = tail;
+            size = 1 + tail.size();
         }
 
-
         public T head() {
             return _head;
         }
 
-
         public List<T> tail() {
             return _tail;
         }
 
-
         public boolean isEmpty() {
             return false;
         }
 
+        @Override
+        public int size() {
+            return size;
+        }
+
         public boolean equals(final Object o) {
-            if (o == null) return false;
-            if (o instanceof NonEmptyList<?>)
-                return ((NonEmptyList<?>) o).head().equals(head()) && ((NonEmptyList<?>) o).tail().equals(tail());
-            else return false;
+            if (!(o instanceof NonEmptyList<?>)) return false;
+            List<?> l1 = this;
+            List<?> l2 = (List<?>) o;
+            while (l1 instanceof NonEmptyList<?> && l2 instanceof NonEmptyList<?>) {
+                if (l1 == l2) return true;
+                final NonEmptyList<?> n1 = (NonEmptyList<?>) l1;
+                final NonEmptyList<?> n2 = (NonEmptyList<?>) l2;
+                if (n1.size != n2.size || !Objects.equals(n1._head, n2._head)) return false;
+                l1 = n1._tail;
+                l2 = n2._tail;
+            }
+            return l1.equals(l2);
+        }
+
+        /**
+         * The hash of each cell combines the hash of its head with the hash of its tail. It is computed iteratively
+         * from the deepest cell whose hash is not yet known and is then cached in every cell on the way back.
+         */
+        public int hashCode() {
+            if (hash != 0) return hash;
+            final ArrayList<NonEmptyList<?>> pending = new ArrayList<>();
+            List<?> l = this;
+            while (l instanceof NonEmptyList<?> && ((NonEmptyList<?>) l).hash == 0) {
+                pending.add((NonEmptyList<?>) l);
+                l = l.tail();
+            }
+            int h = l.hashCode();
+            for (int i = pending.size() - 1; i >= 0; --i) {
+                final NonEmptyList<?> cell = pending.get(i);
+                h = 31 * h + Objects.hashCode(cell._head);
+                cell.hash = h;
+            }
+            return h;
         }
 
         public java.lang.String toString() {
-            return "( " + head() + ", " + tail().toString() + " )";
+            final StringBuilder sb = new StringBuilder();
+            int depth = 0;
+            List<?> l = this;
+            for (; l instanceof NonEmptyList<?>; l = l.tail(), ++depth)
+                sb.append("( ").append(l.head()).append(", ");
+            sb.append(l);
+            for (int i = 0; i < depth; ++i)
+                sb.append(" )");
+            return sb.toString();
         }
     }
 
-    public static <T> List<T> nil() {
-        return new List<T>() {
-            public T head() {
-                throw new EmptyListHasNoHead();
-            }
+    private static final class Nil implements List<Object> {
+        public Object head() {
+            throw new EmptyListHasNoHead();
+        }
 
-            public List<T> tail() {
-                throw new EmptyListHasNoTail();
-            }
+        public List<Object> tail() {
+            throw new EmptyListHasNoTail();
+        }
 
-            public boolean isEmpty() {
-                return true;
-            }
+        public boolean isEmpty() {
+            return true;
+        }
 
-            public boolean equals(final Object o) {
-                if (o == null) return false;
-                return o instanceof List<?> && ((List<?>) o).isEmpty();
-            }
+        @Override
+        public int size() {
+            return 0;
+        }
 
-            public java.lang.String toString() {
-                return "( )";
-            }
-        };
+        public boolean equals(final Object o) {
+            if (o == null) return false;
+            return o instanceof List<?> && ((List<?>) o).isEmpty();
+        }
+
+        public int hashCode() {
+            return 1;
+        }
+
+        public java.lang.String toString() {
+            return "( )";
+        }
+    }
+
+    private static final List<Object> NIL = new Nil();
+
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> nil() {
+        return (List<T>) NIL;
     }
 
     public static <T> List<T> list(final T head, final List<T> tail) {
-        return ll.new NonEmptyList<>(head, tail);
+        return new NonEmptyList<>(head, tail);
     }
 }
@@ -0,0 +1,261 @@
+package uk.co.qualitycode.utils.functional;
+
+import io.vavr.Tuple2;
+import io.vavr.Tuple3;
+import uk.co.qualitycode.utils.functional.monad.Option;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static uk.co.qualitycode.utils.functional.Functional.notNull;
+
+/**
+ * The Iterable2 returned by {@link Iterable2#parallel(ForkJoinPool)}. <tt>map</tt>, <tt>filter</tt> and <tt>choose</tt>
+ * are lazy, as they are for a sequential Iterable2; they are built on the Spliterators of {@link Functional.Lazy}, which
+ * split wherever their source can be split. <tt>toList</tt>, <tt>fold</tt> with a combiner, <tt>collect</tt>,
+ * <tt>groupBy</tt>, <tt>toDictionary</tt>, <tt>exists</tt> and <tt>forAll</tt> evaluate the sequence using a parallel
+ * Stream which is run on the given pool, so their output is in the same order as it would be sequentially.
+ * <p>
+ * Only a sequence whose size is bounded is split: one whose Spliterator is <tt>SIZED</tt> or gives a finite estimate
+ * of its size, as a Collection and any <tt>map</tt>, <tt>filter</tt> or <tt>choose</tt> of one do. Any other sequence,
+ * eg the output of <tt>init(f)</tt>, may be infinite and so is evaluated sequentially. Every other operation is
+ * evaluated sequentially. Every Iterable2 which is returned is itself parallel.
+ *
+ * @param <T> the type of the element in the sequence
+ */
+final class ParallelIterable2<T> implements Iterable2<T> {
+    private final Iterable<T> input;
+    private final Iterable2<T> sequential;
+    private final ForkJoinPool pool;
+
+    ParallelIterable2(final Iterable<T> input, final ForkJoinPool pool) {
+        this.input = input;
+        this.sequential = Iterable2.of(input);
+        this.pool = notNull(pool, "Iterable2.parallel(ForkJoinPool)", "pool");
+    }
+
+    private <U> Iterable2<U> inParallel(final Iterable<U> output) {
+        return new ParallelIterable2<>(output, pool);
+    }
+
+    public Iterator<T> iterator() {
+        return input.iterator();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return input.spliterator();
+    }
+
+    @Override
+    public void forEach(final Consumer<? super T> action) {
+        input.forEach(action);
+    }
+
+    /**
+     * Evaluate this sequence on the pool using 'inParallel' if its size is bounded, otherwise evaluate it on the calling
+     * thread using 'sequentially'. The Spliterator of the input is taken once, so this may be used with a sequence
+     * which can only be traversed once.
+     */
+    private <R> R evaluate(final Function<Stream<T>, R> inParallel, final Function<Iterable2<T>, R> sequentially) {
+        final Spliterator<T> spliterator = input.spliterator();
+        if (!isBounded(spliterator)) {
+            final Iterable<T> remaining = () -> Spliterators.iterator(spliterator);
+            return sequentially.apply(Iterable2.of(remaining));
+        }
+        return pool.submit(() -> inParallel.apply(StreamSupport.stream(spliterator, true))).join();
+    }
+
+    private static boolean isBounded(final Spliterator<?> spliterator) {
+        return spliterator.hasCharacteristics(Spliterator.SIZED) || spliterator.estimateSize() != Long.MAX_VALUE;
+    }
+
+    public Iterable2<T> filter(final Predicate<? super T> f) {
+        notNull(f, "Iterable2.filter(Predicate<T>)", "f");
+        return inParallel(sequential.filter(f));
+    }
+
+    public <U> Iterable2<U> map(final Function<? super T, ? extends U> f) {
+        notNull(f, "Iterable2.map(Function<T,U>)", "f");
+        return inParallel(sequential.map(f));
+    }
+
+    public <U> Iterable2<U> mapi(final BiFunction<Integer, T, ? extends U> f) {
+        return inParallel(sequential.mapi(f));
+    }
+
+    public <U> Iterable2<U> choose(final Function<? super T, Option<U>> f) {
+        notNull(f, "Iterable2.choose(Function<T,Option<U>>)", "f");
+        return inParallel(sequential.choose(f));
+    }
+
+    public boolean exists(final Predicate<? super T> f) {
+        notNull(f, "Iterable2.exists(Predicate<T>)", "f");
+        return evaluate(stream -> stream.anyMatch(f), i -> i.exists(f));
+    }
+
+    public boolean forAll(final Predicate<? super T> f) {
+        notNull(f, "Iterable2.forAll(Predicate<T>)", "f");
+        return evaluate(stream -> stream.allMatch(f), i -> i.forAll(f));
+    }
+
+    public <U> boolean forAll2(final BiPredicate<? super U, ? super T> f, final Iterable<U> input1) {
+        return sequential.forAll2(f, input1);
+    }
+
+    public <U> U fold(final BiFunction<? super U, ? super T, ? extends U> f, final U seed) {
+        return sequential.fold(f, seed);
+    }
+
+    public <U> U fold(final BiFunction<? super U, ? super T, ? extends U> f, final U seed, final BinaryOperator<U> combiner) {
+        notNull(f, "Iterable2.fold(BiFunction<U,T,U>,U,BinaryOperator<U>)", "f");
+        notNull(combiner, "Iterable2.fold(BiFunction<U,T,U>,U,BinaryOperator<U>)", "combiner");
+        return evaluate(stream -> stream.reduce(seed, f::apply, combiner), i -> i.fold(f, seed));
+    }
+
+    public <K, V> Map<K, V> toDictionary(final Function<? super T, ? extends K> keyFn, final Function<? super T, ? extends V> valueFn) {
+        notNull(keyFn, "Iterable2.toDictionary(Function<T,K>,Function<T,V>)", "keyFn");
+        notNull(valueFn, "Iterable2.toDictionary(Function<T,K>,Function<T,V>)", "valueFn");
+        final Collector<T, Map<K, V>, Map<K, V>> toDictionary = Collector.of(
+                HashMap::new,
+                (output, element) -> Functional.Parallel.putUnique(output, keyFn.apply(element), valueFn.apply(element)),
+                (output, chunk) -> {
+                    chunk.forEach((key, value) -> Functional.Parallel.putUnique(output, key, value));
+                    return output;
+                },
+                Collections::unmodifiableMap);
+        return evaluate(stream -> stream.collect(toDictionary), i -> i.toDictionary(keyFn, valueFn));
+    }
+
+    public T last() {
+        return sequential.last();
+    }
+
+    public Iterable2<T> sortWith(final Comparator<T> f) {
+        return inParallel(sequential.sortWith(f));
+    }
+
+    public Iterable2<T> concat(final Iterable2<T> list2) {
+        return inParallel(sequential.concat(list2));
+    }
+
+    public Option<T> find(final Predicate<? super T> f) {
+        return sequential.find(f);
+    }
+
+    public int findIndex(final Predicate<? super T> f) {
+        return sequential.findIndex(f);
+    }
+
+    public <U> Option<U> pick(final Function<? super T, Option<U>> f) {
+        return sequential.pick(f);
+    }
+
+    public <U> Iterable2<U> collect(final Function<? super T, ? extends Iterable<U>> f) {
+        return inParallel(sequential.collect(f));
+    }
+
+    public Iterable2<T> take(final int howMany) {
+        return inParallel(sequential.take(howMany));
+    }
+
+    public Iterable2<T> takeWhile(final Predicate<? super T> f) {
+        return inParallel(sequential.takeWhile(f));
+    }
+
+    public Iterable2<T> skip(final int howMany) {
+        return inParallel(sequential.skip(howMany));
+    }
+
+    public Iterable2<T> skipWhile(final Predicate<? super T> f) {
+        return inParallel(sequential.skipWhile(f));
+    }
+
+    public String join(final String delimiter) {
+        return sequential.join(delimiter);
+    }
+
+    public Option<T> findLast(final Predicate<T> f) {
+        return sequential.findLast(f);
+    }
+
+    public Tuple2<List<T>, List<T>> partition(final Predicate<? super T> f) {
+        return sequential.partition(f);
+    }
+
+    public <U> Iterable2<Tuple2<T, U>> zip(final Iterable2<? extends U> l2) {
+        return inParallel(sequential.zip(l2));
+    }
+
+    public <U, V> Iterable2<Tuple3<T, U, V>> zip3(final Iterable<? extends U> l2, final Iterable<? extends V> l3) {
+        return inParallel(sequential.zip3(l2, l3));
+    }
+
+    public <U> U in(final Function<Iterable2<T>, U> f) {
+        return f.apply(this);
+    }
+
+    public <U> Map<U, List<T>> groupBy(final Function<? super T, ? extends U> keyFn) {
+        notNull(keyFn, "Iterable2.groupBy(Function<T,U>)", "keyFn");
+        final Collector<T, Map<U, List<T>>, Map<U, List<T>>> groupBy = Collector.of(
+                HashMap::new,
+                (output, element) -> output.computeIfAbsent(keyFn.apply(element), key -> new ArrayList<>()).add(element),
+                (output, chunk) -> {
+                    chunk.forEach((key, group) -> output.merge(key, group, (l1, l2) -> {
+                        l1.addAll(l2);
+                        return l1;
+                    }));
+                    return output;
+                },
+                output -> {
+                    output.replaceAll((key, group) -> Collections.unmodifiableList(group));
+                    return Collections.unmodifiableMap(output);
+                });
+        return evaluate(stream -> stream.collect(groupBy), i -> i.groupBy(keyFn));
+    }
+
+    @Override
+    public <A, R> R collect(final Collector<? super T, A, R> collector) {
+        notNull(collector, "Iterable2.collect(Collector<T,A,R>)", "collector");
+        return evaluate(stream -> stream.collect(collector), i -> i.collect(collector));
+    }
+
+    public Iterable2<T> parallel() {
+        return parallel(ForkJoinPool.commonPool());
+    }
+
+    public Iterable2<T> parallel(final ForkJoinPool pool) {
+        return new ParallelIterable2<>(input, pool);
+    }
+
+    /**
+     * A Collection has nothing left to evaluate, so it is converted sequentially. Otherwise the pending stages are
+     * evaluated in parallel.
+     */
+    public List<T> toList() {
+        if (input instanceof Collection<?>) return sequential.toList();
+        return evaluate(stream -> ImmutableArrayList.wrap(stream.toArray()), Iterable2::toList);
+    }
+
+    public Set<T> toSet() {
+        return sequential.toSet();
+    }
+}
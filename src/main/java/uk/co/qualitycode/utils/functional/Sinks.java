@@ -0,0 +1,137 @@
+package uk.co.qualitycode.utils.functional;
+
+import uk.co.qualitycode.utils.functional.monad.Option;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+
+import static uk.co.qualitycode.utils.functional.Functional.notNull;
+
+/**
+ * Push-based (internal iteration) implementations of the terminal operations used by {@link Iterable2}.
+ * Rather than pulling each element through a chain of Iterators, the elements are pushed from the source into a sink.
+ * When the input is a chain of {@link Functional.Lazy} stages which have been fused, the source is traversed
+ * directly and no Iterator is created for the pipeline at all. Terminal operations which always visit every element
+ * simply use {@link Iterable#forEach(java.util.function.Consumer)}, which the fused stages override.
+ * <p>
+ * <tt>find</tt> and <tt>exists</tt> stop as soon as the result is known, as does <tt>forAll</tt>. Because
+ * <tt>takeWhile</tt> ends its sequence when its predicate fails, any terminal operation applied to it stops there too.
+ * <p>
+ * The eager functions of the same names in {@link Functional} check their arguments and then delegate to these, so
+ * there is one implementation of each. Only <tt>collect</tt>, which has no counterpart there, checks its own.
+ */
+final class Sinks {
+    private Sinks() {
+    }
+
+    /**
+     * Push the elements of 'input' into 'sink' until 'sink' returns false or 'input' is exhausted.
+     *
+     * @param input the input sequence
+     * @param sink  the consumer. Return false to stop the traversal
+     * @param <T>   the type of the element in the input sequence
+     */
+    static <T> void forEachWhile(final Iterable<T> input, final Predicate<? super T> sink) {
+        if (input instanceof Functional.Lazy.Stage)
+            ((Functional.Lazy.Stage<T>) input).forEachWhile(sink);
+        else {
+            final Iterator<T> iterator = input.iterator();
+            while (iterator.hasNext())
+                if (!sink.test(iterator.next())) break;
+        }
+    }
+
+    static <T> boolean exists(final Predicate<? super T> predicate, final Iterable<T> input) {
+        final Cell<Boolean> found = new Cell<>(false);
+        forEachWhile(input, t -> {
+            if (predicate.test(t)) {
+                found.value = true;
+                return false;
+            }
+            return true;
+        });
+        return found.value;
+    }
+
+    static <T> boolean forAll(final Predicate<? super T> predicate, final Iterable<T> input) {
+        final Cell<Boolean> all = new Cell<>(true);
+        forEachWhile(input, t -> {
+            if (!predicate.test(t)) {
+                all.value = false;
+                return false;
+            }
+            return true;
+        });
+        return all.value;
+    }
+
+    static <T, A> A fold(final BiFunction<? super A, ? super T, ? extends A> folder, final A initialValue, final Iterable<T> input) {
+        final Cell<A> state = new Cell<>(initialValue);
+        input.forEach(t -> state.value = folder.apply(state.value, t));
+        return state.value;
+    }
+
+    static <T> Option<T> find(final Predicate<? super T> f, final Iterable<T> input) {
+        final Cell<Option<T>> found = new Cell<>(Option.none());
+        forEachWhile(input, t -> {
+            if (f.test(t)) {
+                found.value = Option.of(t);
+                return false;
+            }
+            return true;
+        });
+        return found.value;
+    }
+
+    static <T, U> Map<U, List<T>> groupBy(final Function<? super T, ? extends U> keyFn, final Iterable<T> input) {
+        final Map<U, List<T>> output = new HashMap<>();
+        input.forEach(t -> output.computeIfAbsent(keyFn.apply(t), key -> new ArrayList<>()).add(t));
+        output.replaceAll((key, list) -> Collections.unmodifiableList(list));
+        return Collections.unmodifiableMap(output);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, A, R> R collect(final Collector<? super T, A, R> collector, final Iterable<T> input) {
+        notNull(collector, "collect(Collector<T,A,R>,Iterable<T>)", "collector");
+        notNull(input, "collect(Collector<T,A,R>,Iterable<T>)", "input");
+
+        final A container = collector.supplier().get();
+        final BiConsumer<A, ? super T> accumulator = collector.accumulator();
+        input.forEach(t -> accumulator.accept(container, t));
+        return collector.characteristics().contains(Collector.Characteristics.IDENTITY_FINISH)
+                ? (R) container
+                : collector.finisher().apply(container);
+    }
+
+    static <T> List<T> toList(final Iterable<T> input) {
+        if (input instanceof ImmutableArrayList<?>) return (List<T>) input;
+        final ImmutableArrayList.Builder<T> output = ImmutableArrayList.builder(ImmutableArrayList.expectedSize(input));
+        input.forEach(output::add);
+        return output.build();
+    }
+
+    static <T> Set<T> toSet(final Iterable<T> input) {
+        final Set<T> output = new HashSet<>();
+        input.forEach(output::add);
+        return Collections.unmodifiableSet(output);
+    }
+
+    private static final class Cell<A> {
+        private A value;
+
+        private Cell(final A value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package uk.co.qualitycode.utils.functional;
+
+/**
+ * A step in a tail-recursive computation.
+ * See <a href="http://en.wikipedia.org/wiki/Trampoline_(computing)">Trampoline</a>
+ * <p>
+ * Rather than calling itself, a tail-recursive function returns a TailCall which describes the next call, or
+ * {@link #done(Object)} when it has finished. {@link #invoke()} then runs the steps one after another in a loop, so the
+ * computation uses constant stack however many steps it takes.
+ * <pre>{@code
+ * TailCall<Long> factorial(final long n, final long acc) {
+ *     return n <= 1 ? TailCall.done(acc) : () -> factorial(n - 1, n * acc);
+ * }
+ * long result = factorial(20, 1).invoke();
+ * }</pre>
+ *
+ * @param <T> the type of the result of the computation
+ */
+@FunctionalInterface
+public interface TailCall<T> {
+    /**
+     * Take the next step of the computation
+     *
+     * @return the next step
+     */
+    TailCall<T> apply();
+
+    /**
+     * @return true if this is the final step of the computation and {@link #result()} is available, false otherwise
+     */
+    default boolean isComplete() {
+        return false;
+    }
+
+    /**
+     * @return the result of the computation
+     * @throws UnsupportedOperationException if the computation is not complete
+     */
+    default T result() {
+        throw new UnsupportedOperationException("TailCall.result(): the computation is not complete");
+    }
+
+    /**
+     * Run the computation to completion in constant stack
+     *
+     * @return the result of the computation
+     */
+    default T invoke() {
+        TailCall<T> step = this;
+        while (!step.isComplete())
+            step = step.apply();
+        return step.result();
+    }
+
+    /**
+     * @param value the result of the computation
+     * @param <T>   the type of the result
+     * @return the final step of a computation, whose result is 'value'
+     */
+    static <T> TailCall<T> done(final T value) {
+        return new TailCall<T>() {
+            @Override
+            public TailCall<T> apply() {
+                throw new UnsupportedOperationException("TailCall.apply(): the computation is already complete");
+            }
+
+            @Override
+            public boolean isComplete() {
+                return true;
+            }
+
+            @Override
+            public T result() {
+                return value;
+            }
+        };
+    }
+}
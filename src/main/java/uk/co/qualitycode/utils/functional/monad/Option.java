@@ -1,5 +1,6 @@
 package uk.co.qualitycode.utils.functional.monad;
 
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -7,43 +8,59 @@ import java.util.function.Supplier;
 
 /**
  * Option is an facade over the Vavr Option that supplies {@link #bind(Function)} and {@link #lift(BiFunction, Option, Option)}.
+ * The value is held directly rather than in a Vavr Option, which is only created if {@link #toVavrOption()} is called,
+ * and every None is the same instance, so creating an Option costs at most one allocation.
  * See http://en.wikipedia.org/wiki/Option_type
  * {@see http://en.wikipedia.org/wiki/Monad_(functional_programming)}
  */
 public final class Option<T> {
-    private final io.vavr.control.Option<T> t;
+    private static final Option<?> NONE = new Option<>(null, io.vavr.control.Option.none());
 
-    private Option(final io.vavr.control.Option<T> t) {
-        this.t = t;
+    private final T value;
+    private io.vavr.control.Option<T> vavrOption; // created on demand by toVavrOption()
+
+    private Option(final T value, final io.vavr.control.Option<T> vavrOption) {
+        this.value = value;
+        this.vavrOption = vavrOption;
     }
 
     public static <T> Option<T> of(final T t) {
-        return new Option<>(io.vavr.control.Option.of(t));
+        return t == null ? none() : new Option<>(t, null);
     }
 
     public static <T> Option<T> of(final Optional<T> t) {
-        return t==null?none():new Option<>(io.vavr.control.Option.ofOptional(t));
+        return t == null || !t.isPresent() ? none() : new Option<>(t.get(), null);
     }
 
     public static <T> Option<T> of(final io.vavr.control.Option<T> t) {
-        return t==null?none():new Option<>(t);
+        return t == null || t.isEmpty() ? none() : new Option<>(t.get(), t);
     }
 
+    /**
+     * Factory method which returns the shared Option with no underlying value, ie a None
+     *
+     * @return the Option None
+     */
+    @SuppressWarnings("unchecked")
     public static <T> Option<T> none() {
-        return new Option<>(io.vavr.control.Option.none());
+        return (Option<T>) NONE;
     }
 
-    public boolean isNone() { return t.isEmpty(); }
-    public boolean isSome() { return t.isDefined(); }
+    public boolean isNone() { return this == NONE; }
+    public boolean isSome() { return this != NONE; }
 
-    public T get() { return t.get(); }
+    public T get() {
+        if (isNone()) throw new NoSuchElementException("No value present");
+        return value;
+    }
 
-    public T getOrElse(final T t) { return this.t.getOrElse(t); }
+    public T getOrElse(final T t) { return isSome() ? value : t; }
 
-    public T getOrElse(final Supplier<T> supplier) { return t.getOrElse(supplier); }
+    public T getOrElse(final Supplier<T> supplier) { return isSome() ? value : supplier.get(); }
 
     public <X extends Throwable> T getOrElseThrow(final Supplier<X> supplier) throws X {
-        return t.getOrElseThrow(supplier);
+        if (isNone()) throw supplier.get();
+        return value;
     }
 
     /**
@@ -52,7 +69,7 @@ public final class Option<T> {
      * @return the Optional containing <tt>t</tt>
      */
     public Optional<T> toJavaOptional() {
-        return t.toJavaOptional();
+        return isSome() ? Optional.ofNullable(value) : Optional.empty();
     }
 
     /**
@@ -61,7 +78,9 @@ public final class Option<T> {
      * @return the Option containing <tt>t</tt>
      */
     public io.vavr.control.Option<T> toVavrOption() {
-        return t;
+        if (vavrOption == null)
+            vavrOption = io.vavr.control.Option.some(value);
+        return vavrOption;
     }
 
     /**
@@ -73,7 +92,7 @@ public final class Option<T> {
      * @return an Option containing the result of the function <tt>f</tt> or empty
      */
     public <U> Option<U> bind(final Function<T, Option<U>> f) {
-        return t.map(f).getOrElse(Option::none);
+        return isSome() ? f.apply(value) : none();
     }
 
     /**
@@ -89,8 +108,8 @@ public final class Option<T> {
      * @return an Option containing the result of the lifted function as applied to <tt>o1</tt> and <tt>o2</tt> or empty
      */
     public static <A, B, C> Option<C> lift(final BiFunction<A, B, C> f, final Option<A> o1, final Option<B> o2) {
-        return o1.toVavrOption().isDefined() && o2.toVavrOption().isDefined()
-                ? of(f.apply(o1.toVavrOption().get(), o2.toVavrOption().get()))
-                : new Option<>(io.vavr.control.Option.none());
+        return o1.isSome() && o2.isSome()
+                ? of(f.apply(o1.value, o2.value))
+                : none();
     }
 }
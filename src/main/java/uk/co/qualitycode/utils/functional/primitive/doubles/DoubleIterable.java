@@ -0,0 +1,10 @@
+package uk.co.qualitycode.utils.functional.primitive.doubles;
+
+public interface DoubleIterable {
+    /**
+     * Returns an iterator over a set of elements of type double.
+     *
+     * @return an Iterator.
+     */
+    DoubleIterator iterator();
+}
@@ -0,0 +1,36 @@
+package uk.co.qualitycode.utils.functional.primitive.doubles;
+
+import java.util.NoSuchElementException;
+
+public interface DoubleIterator {
+    boolean hasNext();
+
+    double next();
+
+    void remove();
+}
+
+class DoubleIteratorImpl implements DoubleIterator {
+    private final double[] backingStore;
+    private final int size;
+    private int position;
+
+    DoubleIteratorImpl(final double[] array, final int size) {
+        backingStore = array;
+        this.size = size;
+        position = 0;
+    }
+
+    public boolean hasNext() {
+        return position < size;
+    }
+
+    public double next() {
+        if (position >= size) throw new NoSuchElementException();
+        return backingStore[position++];
+    }
+
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,109 @@
+package uk.co.qualitycode.utils.functional.primitive.doubles;
+
+import java.util.Arrays;
+
+/**
+ * An immutable list of primitive doubles. Use a {@link DoubleListBuilder} to accumulate a list of unknown length.
+ */
+public final class DoubleList implements DoubleIterable {
+    private static final DoubleList EMPTY = new DoubleList(0, new double[0]);
+
+    private final double[] backingStore;
+    private final int size;
+
+    public DoubleList(final double[] array) {
+        this(array.length, Arrays.copyOf(array, array.length));
+    }
+
+    public DoubleList(final double[] array, final int size) {
+        this(size, Arrays.copyOf(array, size));
+    }
+
+    private DoubleList(final int size, final double[] backingStore) {
+        this.backingStore = backingStore;
+        this.size = size;
+    }
+
+    /**
+     * @return the empty DoubleList
+     */
+    public static DoubleList empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Adopt 'array' without copying it. Only the first 'size' elements of 'array' are part of the list.
+     * The caller must not modify 'array' afterwards. See {@link DoubleListBuilder#build()}.
+     *
+     * @param array the backing store of the new list
+     * @param size  the number of elements of 'array' which are in use
+     * @return a new DoubleList which shares 'array'
+     */
+    static DoubleList wrap(final double[] array, final int size) {
+        return size == 0 ? EMPTY : new DoubleList(size, array);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public double get(final int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return backingStore[index];
+    }
+
+    public boolean contains(final double d) {
+        for (int i = 0; i < size; ++i)
+            if (Double.compare(backingStore[i], d) == 0) return true;
+        return false;
+    }
+
+    public DoubleIterator iterator() {
+        return new DoubleIteratorImpl(backingStore, size);
+    }
+
+    public double[] toArray() {
+        return Arrays.copyOf(backingStore, size);
+    }
+
+    /**
+     * Copy the contents of this list into 'destination', starting at 'position'.
+     */
+    void copyInto(final double[] destination, final int position) {
+        System.arraycopy(backingStore, 0, destination, position, size);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DoubleList)) return false;
+        final DoubleList other = (DoubleList) o;
+        if (size != other.size) return false;
+        for (int i = 0; i < size; ++i)
+            if (Double.compare(backingStore[i], other.backingStore[i]) != 0) return false;
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; ++i)
+            result = 31 * result + Double.hashCode(backingStore[i]);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; ++i) {
+            if (i > 0) sb.append(", ");
+            sb.append(backingStore[i]);
+        }
+        return sb.append(']').toString();
+    }
+}
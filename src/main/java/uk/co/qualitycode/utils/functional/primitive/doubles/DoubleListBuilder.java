@@ -0,0 +1,116 @@
+package uk.co.qualitycode.utils.functional.primitive.doubles;
+
+import java.util.Arrays;
+
+/**
+ * A growable buffer of doubles from which an immutable {@link DoubleList} can be built without boxing.
+ * The buffer grows geometrically so appending is amortised O(1). {@link #build()} hands the buffer to the
+ * DoubleList without copying it and so the builder cannot be used once it has been built.
+ */
+public final class DoubleListBuilder {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private double[] buffer;
+    private int size;
+    private boolean built;
+
+    public DoubleListBuilder() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity the number of elements which can be appended before the buffer needs to grow
+     */
+    public DoubleListBuilder(final int initialCapacity) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("DoubleListBuilder(int): initialCapacity must not be negative");
+        buffer = new double[initialCapacity];
+    }
+
+    /**
+     * Append 'd' to the buffer.
+     *
+     * @param d the element to be appended
+     * @return this builder
+     */
+    public DoubleListBuilder add(final double d) {
+        ensureNotBuilt("DoubleListBuilder.add(double)");
+        if (size == buffer.length)
+            grow(size + 1);
+        buffer[size++] = d;
+        return this;
+    }
+
+    /**
+     * Append all the elements of 'input' to the buffer.
+     *
+     * @param input the elements to be appended
+     * @return this builder
+     */
+    public DoubleListBuilder addAll(final double[] input) {
+        if (input == null)
+            throw new IllegalArgumentException("DoubleListBuilder.addAll(double[]): input must not be null");
+        ensureNotBuilt("DoubleListBuilder.addAll(double[])");
+        ensureCapacity(size + input.length);
+        System.arraycopy(input, 0, buffer, size, input.length);
+        size += input.length;
+        return this;
+    }
+
+    /**
+     * Append all the elements of 'input' to the buffer. If 'input' is a DoubleList then its elements are copied in bulk.
+     *
+     * @param input the elements to be appended
+     * @return this builder
+     */
+    public DoubleListBuilder addAll(final DoubleIterable input) {
+        if (input == null)
+            throw new IllegalArgumentException("DoubleListBuilder.addAll(DoubleIterable): input must not be null");
+        ensureNotBuilt("DoubleListBuilder.addAll(DoubleIterable)");
+        if (input instanceof DoubleList) {
+            final DoubleList list = (DoubleList) input;
+            ensureCapacity(size + list.size());
+            list.copyInto(buffer, size);
+            size += list.size();
+        } else {
+            final DoubleIterator iterator = input.iterator();
+            while (iterator.hasNext())
+                add(iterator.next());
+        }
+        return this;
+    }
+
+    /**
+     * @return the number of elements which have been appended
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return a DoubleList containing the elements which have been appended. The buffer is not copied, so after this
+     * call the builder can no longer be used.
+     *
+     * @return an immutable DoubleList
+     */
+    public DoubleList build() {
+        ensureNotBuilt("DoubleListBuilder.build()");
+        built = true;
+        return DoubleList.wrap(buffer, size);
+    }
+
+    private void ensureCapacity(final int required) {
+        if (required > buffer.length)
+            grow(required);
+    }
+
+    private void grow(final int required) {
+        final int newCapacity = Math.max(required, buffer.length + (buffer.length >> 1) + 1);
+        buffer = Arrays.copyOf(buffer, newCapacity);
+    }
+
+    private void ensureNotBuilt(final String functionName) {
+        if (built)
+            throw new IllegalStateException(functionName + ": the DoubleList has already been built");
+    }
+}
@@ -0,0 +1,20 @@
+package uk.co.qualitycode.utils.functional.primitive.doubles;
+
+/**
+ * The Func interface is designed to represent lambda / anonymous functions which are defined and used in situ. This models
+ * a function that takes one argument and returns a primitive double.
+ * See <a href="http://en.wikipedia.org/wiki/Anonymous_function">Lambda function</a>
+ *
+ * @param <A> the type of the input argument
+ * @see <a href="http://en.wikipedia.org/wiki/Closure_(computer_programming)">Closure</a>
+ */
+@FunctionalInterface
+public interface Func_T_double<A> {
+    /**
+     * Call <tt>apply</tt> to evaluate the function object
+     *
+     * @param a the input value
+     * @return a double
+     */
+    double apply(A a);
+}
@@ -0,0 +1,22 @@
+package uk.co.qualitycode.utils.functional.primitive.doubles;
+
+import java.util.function.DoubleFunction;
+
+/**
+ * The Func interface is designed to represent lambda / anonymous functions which are defined and used in situ. This models
+ * a function that takes one argument and returns an element of type A.
+ * See <a href="http://en.wikipedia.org/wiki/Anonymous_function">Lambda function</a>
+ *
+ * @param <A> the type of the return value
+ * @see <a href="http://en.wikipedia.org/wiki/Closure_(computer_programming)">Closure</a>
+ */
+@FunctionalInterface
+public interface Func_double_T<A> extends DoubleFunction<A> {
+    /**
+     * Call <tt>apply</tt> to evaluate the function object
+     *
+     * @param a the input value
+     * @return an element of type A
+     */
+    A apply(double a);
+}
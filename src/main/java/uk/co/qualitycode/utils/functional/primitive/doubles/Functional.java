@@ -0,0 +1,397 @@
+package uk.co.qualitycode.utils.functional.primitive.doubles;
+
+import io.vavr.Tuple2;
+import uk.co.qualitycode.utils.functional.monad.Option;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Herein are contained some standard algorithms from functional programming tailored for use with the Java
+ * primitive type double. None of the functions which accept or return a {@link DoubleIterable} box its elements.
+ * See <a href="http://en.wikipedia.org/wiki/Functional_programming">Functional Programming</a>
+ * for more information
+ */
+public final class Functional {
+    private Functional() {
+    }
+
+    /**
+     * A generator function which returns the successive values starting at 'startFrom'. Use it with <tt>init</tt>.
+     *
+     * @param startFrom the first value to be generated
+     * @return a function which maps the unity-based position 'i' to 'startFrom + i - 1'
+     */
+    public static Func_double_double range(final double startFrom) {
+        return i -> startFrom + i - 1;
+    }
+
+    /**
+     * The init function, not dissimilar to list comprehensions, which is used to return a new finite list whose contents are
+     * determined by successive calls to the function f.
+     * init: (double -> A) -> int -> A list
+     *
+     * @param f       generator function used to produce the individual elements of the output list. This function is called by init
+     *                with the unity-based position of the current element in the output list being produced. Therefore, the first time
+     *                f is called it will receive a literal '1' as its argument; the second time '2'; etc.
+     * @param howMany the number of elements in the output list
+     * @param <T>     the type of the element in the output list
+     * @return a list of 'howMany' elements of type 'T' which were generated by the function 'f'
+     */
+    public static <T> List<T> init(final Func_double_T<? extends T> f, final int howMany) {
+        notNull(f, "Functional.init(Func_double_T<T>,int)", "f");
+        if (howMany < 1)
+            throw new IllegalArgumentException("Functional.init(Func_double_T<T>,int): howMany must be positive");
+
+        final List<T> output = new ArrayList<>(howMany);
+        for (int i = 1; i <= howMany; ++i)
+            output.add(f.apply(i));
+        return Collections.unmodifiableList(output);
+    }
+
+    /**
+     * The init function, not dissimilar to list comprehensions, which is used to return a new finite list whose contents are
+     * determined by successive calls to the function f.
+     * init: (double -> double) -> int -> double list
+     *
+     * @param f       generator function used to produce the individual elements of the output list. This function is called by init
+     *                with the unity-based position of the current element in the output list being produced. Therefore, the first time
+     *                f is called it will receive a literal '1' as its argument; the second time '2'; etc.
+     * @param howMany the number of elements in the output list
+     * @return a list of 'howMany' elements which were generated by the function 'f'
+     */
+    public static DoubleList init(final Func_double_double f, final int howMany) {
+        notNull(f, "Functional.init(Func_double_double,int)", "f");
+        if (howMany < 1)
+            throw new IllegalArgumentException("Functional.init(Func_double_double,int): howMany must be positive");
+
+        final double[] output = new double[howMany];
+        for (int i = 0; i < howMany; ++i)
+            output[i] = f.apply(i + 1);
+        return DoubleList.wrap(output, howMany);
+    }
+
+    /**
+     * See <a href="http://en.wikipedia.org/wiki/Map_(higher-order_function)">Map</a>
+     * This is a 1-to-1 transformation. Every element in the input sequence will be transformed into an element in the output sequence.
+     * map: (double -> B) -> double list -> B list
+     *
+     * @param f     a transformation function which takes a double and returns an object of type B
+     * @param input a sequence to be fed into f
+     * @param <B>   the type of the element in the output sequence
+     * @return a list of type B containing the transformed values.
+     */
+    public static <B> List<B> map(final Func_double_T<? extends B> f, final DoubleIterable input) {
+        notNull(f, "Functional.map(Func_double_T<B>,DoubleIterable)", "f");
+        notNull(input, "Functional.map(Func_double_T<B>,DoubleIterable)", "input");
+
+        final List<B> output = input instanceof DoubleList ? new ArrayList<>(((DoubleList) input).size()) : new ArrayList<>();
+        final DoubleIterator iterator = input.iterator();
+        while (iterator.hasNext())
+            output.add(f.apply(iterator.next()));
+        return Collections.unmodifiableList(output);
+    }
+
+    /**
+     * See <a href="http://en.wikipedia.org/wiki/Map_(higher-order_function)">Map</a>
+     * This is a 1-to-1 transformation. Every element in the input sequence will be transformed into an element in the output sequence.
+     * map: (double -> double) -> double list -> double list
+     * No element is boxed. An implicitly-typed lambda matches this and {@link #map(Func_double_T, DoubleIterable)} equally, so
+     * pass a {@link Func_double_double} variable or cast the lambda.
+     *
+     * @param f     a transformation function which takes a double and returns a double
+     * @param input a sequence to be fed into f
+     * @return a list containing the transformed values.
+     */
+    public static DoubleList map(final Func_double_double f, final DoubleIterable input) {
+        notNull(f, "Functional.map(Func_double_double,DoubleIterable)", "f");
+        notNull(input, "Functional.map(Func_double_double,DoubleIterable)", "input");
+
+        final DoubleListBuilder output = input instanceof DoubleList ? new DoubleListBuilder(((DoubleList) input).size()) : new DoubleListBuilder();
+        final DoubleIterator iterator = input.iterator();
+        while (iterator.hasNext())
+            output.add(f.apply(iterator.next()));
+        return output.build();
+    }
+
+    /**
+     * See <a href="http://en.wikipedia.org/wiki/Map_(higher-order_function)">Map</a>
+     * This is a 1-to-1 transformation. Every element in the input sequence will be transformed into an element in the output sequence.
+     * map: (A -> double) -> A list -> double list
+     *
+     * @param f     a transformation function which takes an object of type A and returns a double
+     * @param input a sequence to be fed into f
+     * @param <A>   the type of the element in the input sequence
+     * @return a list containing the transformed values.
+     */
+    public static <A> DoubleList map(final Func_T_double<? super A> f, final Iterable<A> input) {
+        notNull(f, "Functional.map(Func_T_double<A>,Iterable<A>)", "f");
+        notNull(input, "Functional.map(Func_T_double<A>,Iterable<A>)", "input");
+
+        final DoubleListBuilder output = input instanceof Collection<?> ? new DoubleListBuilder(((Collection<?>) input).size()) : new DoubleListBuilder();
+        for (final A a : input)
+            output.add(f.apply(a));
+        return output.build();
+    }
+
+    /**
+     * See <a href="http://en.wikipedia.org/wiki/Filter_(higher-order_function)">Filter</a>
+     * filter: (double -> bool) -> double list -> double list
+     *
+     * @param predicate a filter function. This is passed each input element in turn and returns either true or false. If true then
+     *                  the input element is passed through to the output otherwise it is ignored.
+     * @param input     a sequence of doubles
+     * @return a list which contains zero or more of the elements of the input sequence. Each element is included only if the filter
+     * function returns true for the element.
+     */
+    public static DoubleList filter(final Predicate_double predicate, final DoubleIterable input) {
+        notNull(predicate, "Functional.filter(Predicate_double,DoubleIterable)", "predicate");
+        notNull(input, "Functional.filter(Predicate_double,DoubleIterable)", "input");
+
+        final DoubleListBuilder output = new DoubleListBuilder();
+        final DoubleIterator iterator = input.iterator();
+        while (iterator.hasNext()) {
+            final double a = iterator.next();
+            if (predicate.test(a))
+                output.add(a);
+        }
+        return output.build();
+    }
+
+    /**
+     * See <a href="http://en.wikipedia.org/wiki/Fold_(higher-order_function)">Fold</a>
+     * fold: aggregate the elements of the input sequence given a seed and an aggregation function.
+     * fold: (A -> double -> A) -> A -> double list -> A
+     *
+     * @param f            aggregation function
+     * @param initialValue seed for the algorithm
+     * @param input        input sequence
+     * @param <A>          the type of the initialValue / seed
+     * @return aggregated value
+     */
+    public static <A> A fold(final Func2_T_double_T<? super A, ? extends A> f, final A initialValue, final DoubleIterable input) {
+        notNull(f, "Functional.fold(Func2_T_double_T<A,A>,A,DoubleIterable)", "f");
+        notNull(input, "Functional.fold(Func2_T_double_T<A,A>,A,DoubleIterable)", "input");
+
+        A state = initialValue;
+        final DoubleIterator iterator = input.iterator();
+        while (iterator.hasNext())
+            state = f.apply(state, iterator.next());
+        return state;
+    }
+
+    /**
+     * See <a href="http://en.wikipedia.org/wiki/Fold_(higher-order_function)">Fold</a>
+     * fold: aggregate the elements of the input sequence given a seed and an aggregation function. Neither the state nor the
+     * elements are boxed.
+     * fold: (double -> double -> double) -> double -> double list -> double
+     *
+     * @param f            aggregation function
+     * @param initialValue seed for the algorithm
+     * @param input        input sequence
+     * @return aggregated value
+     */
+    public static double fold(final Func2_double_double_double f, final double initialValue, final DoubleIterable input) {
+        notNull(f, "Functional.fold(Func2_double_double_double,double,DoubleIterable)", "f");
+        notNull(input, "Functional.fold(Func2_double_double_double,double,DoubleIterable)", "input");
+
+        double state = initialValue;
+        final DoubleIterator iterator = input.iterator();
+        while (iterator.hasNext())
+            state = f.apply(state, iterator.next());
+        return state;
+    }
+
+    /**
+     * choose: this is a map transformation with the difference being that the number of elements in the output sequence may
+     * be between zero and the number of elements in the input sequence.
+     * See <a href="http://en.wikipedia.org/wiki/Map_(higher-order_function)">Map</a>
+     * choose: (double -> B option) -> double list -> B list
+     *
+     * @param f     map function. This transforms the input element into an Option
+     * @param input input sequence
+     * @param <B>   the type of the element in the output sequence
+     * @return a list of transformed elements, numbering less than or equal to the number of input elements
+     */
+    public static <B> List<B> choose(final Func_double_T<Option<B>> f, final DoubleIterable input) {
+        notNull(f, "Functional.choose(Func_double_T<Option<B>>,DoubleIterable)", "f");
+        notNull(input, "Functional.choose(Func_double_T<Option<B>>,DoubleIterable)", "input");
+
+        final List<B> output = new ArrayList<>();
+        final DoubleIterator iterator = input.iterator();
+        while (iterator.hasNext()) {
+            final Option<B> intermediate = f.apply(iterator.next());
+            if (intermediate.isSome())
+                output.add(intermediate.get());
+        }
+        return Collections.unmodifiableList(output);
+    }
+
+    /**
+     * choose: this is a map transformation with the difference being that the number of elements in the output sequence may
+     * be between zero and the number of elements in the input sequence.
+     * See <a href="http://en.wikipedia.org/wiki/Map_(higher-order_function)">Map</a>
+     * choose: (double -> double option) -> double list -> double list
+     *
+     * @param f     map function. This transforms the input element into an Option_double
+     * @param input input sequence
+     * @return a list of transformed elements, numbering less than or equal to the number of input elements
+     */
+    public static DoubleList choose(final Func_double_Option_double f, final DoubleIterable input) {
+        notNull(f, "Functional.choose(Func_double_Option_double,DoubleIterable)", "f");
+        notNull(input, "Functional.choose(Func_double_Option_double,DoubleIterable)", "input");
+
+        final DoubleListBuilder output = new DoubleListBuilder();
+        final DoubleIterator iterator = input.iterator();
+        while (iterator.hasNext()) {
+            final Option_double intermediate = f.apply(iterator.next());
+            if (intermediate.isSome())
+                output.add(intermediate.get());
+        }
+        return output.build();
+    }
+
+    /**
+     * Find the first element from the input sequence for which the supplied predicate returns true
+     * find: (double -> bool) -> double list -> double
+     *
+     * @param f     predicate
+     * @param input sequence
+     * @return the first element from the input sequence for which the supplied predicate returns true
+     * @throws java.lang.IllegalArgumentException if f or input are null
+     * @throws java.util.NoSuchElementException   if no element is found that satisfies the predicate
+     */
+    public static double find(final Predicate_double f, final DoubleIterable input) {
+        notNull(f, "Functional.find(Predicate_double,DoubleIterable)", "f");
+        notNull(input, "Functional.find(Predicate_double,DoubleIterable)", "input");
+
+        final DoubleIterator iterator = input.iterator();
+        while (iterator.hasNext()) {
+            final double a = iterator.next();
+            if (f.test(a))
+                return a;
+        }
+        throw new NoSuchElementException();
+    }
+
+    /**
+     * As <tt>find</tt> except that here we return an Option_double which is None if no element satisfies the predicate
+     * tryFind: (double -> bool) -> double list -> double option
+     *
+     * @param f     predicate
+     * @param input sequence
+     * @return the first element from the input sequence for which the supplied predicate returns true or None
+     * @throws java.lang.IllegalArgumentException if f or input are null
+     */
+    public static Option_double tryFind(final Predicate_double f, final DoubleIterable input) {
+        notNull(f, "Functional.tryFind(Predicate_double,DoubleIterable)", "f");
+        notNull(input, "Functional.tryFind(Predicate_double,DoubleIterable)", "input");
+
+        final DoubleIterator iterator = input.iterator();
+        while (iterator.hasNext()) {
+            final double a = iterator.next();
+            if (f.test(a))
+                return Option_double.of(a);
+        }
+        return Option_double.none();
+    }
+
+    /**
+     * partition is a group function. Given a predicate and an input sequence, 'partition' returns a pair of lists, the first list
+     * containing those elements from the input sequence for which the predicate returned true, the second list containing those
+     * elements from the input sequence for which the predicate returned false.
+     * partition: (double -> bool) -> double list -> double list * double list
+     *
+     * @param f     predicate used to split the input sequence into two groups
+     * @param input the input sequence
+     * @return a pair of lists, the first being the 'true' and the second being the 'false'
+     */
+    public static Tuple2<DoubleList, DoubleList> partition(final Predicate_double f, final DoubleIterable input) {
+        notNull(f, "Functional.partition(Predicate_double,DoubleIterable)", "f");
+        notNull(input, "Functional.partition(Predicate_double,DoubleIterable)", "input");
+
+        final DoubleListBuilder left = new DoubleListBuilder();
+        final DoubleListBuilder right = new DoubleListBuilder();
+        final DoubleIterator iterator = input.iterator();
+        while (iterator.hasNext()) {
+            final double a = iterator.next();
+            if (f.test(a))
+                left.add(a);
+            else
+                right.add(a);
+        }
+        return new Tuple2<>(left.build(), right.build());
+    }
+
+    /**
+     * The Convolution operator
+     * See <a href="http://en.wikipedia.org/wiki/Zip_(higher-order_function)">Zip</a>
+     *
+     * @param l1 input sequence
+     * @param l2 input sequence
+     * @return list of pairs; the first element from each of the two input sequences is the first pair in the output sequence and so on,
+     * in order. If the sequences do not have the same number of elements then an exception is thrown.
+     * @throws java.lang.IllegalArgumentException if either input sequence is null or if the sequences have differing lengths.
+     */
+    public static List<Tuple2<Double, Double>> zip(final DoubleIterable l1, final DoubleIterable l2) {
+        return zip(Tuple2::new, l1, l2);
+    }
+
+    /**
+     * The Convolution operator, combining the pairs of elements with 'f' so that they need not be boxed
+     * See <a href="http://en.wikipedia.org/wiki/Zip_(higher-order_function)">Zip</a>
+     *
+     * @param f   the function which combines an element from each of the two input sequences
+     * @param l1  input sequence
+     * @param l2  input sequence
+     * @param <C> the type of the element in the output sequence
+     * @return list of the results of 'f'; 'f' is applied to the first element from each of the two input sequences to produce the first
+     * element of the output sequence and so on, in order. If the sequences do not have the same number of elements then an exception is thrown.
+     * @throws java.lang.IllegalArgumentException if either input sequence is null or if the sequences have differing lengths.
+     */
+    public static <C> List<C> zip(final Func2_double_double_T<? extends C> f, final DoubleIterable l1, final DoubleIterable l2) {
+        notNull(f, "Functional.zip(Func2_double_double_T<C>,DoubleIterable,DoubleIterable)", "f");
+        notNull(l1, "Functional.zip(Func2_double_double_T<C>,DoubleIterable,DoubleIterable)", "l1");
+        notNull(l2, "Functional.zip(Func2_double_double_T<C>,DoubleIterable,DoubleIterable)", "l2");
+
+        final List<C> output;
+        if (l1 instanceof DoubleList && l2 instanceof DoubleList) {
+            if (((DoubleList) l1).size() != ((DoubleList) l2).size())
+                throw new IllegalArgumentException("Functional.zip(Func2_double_double_T<C>,DoubleIterable,DoubleIterable): l1 and l2 have differing numbers of elements");
+            output = new ArrayList<>(((DoubleList) l1).size());
+        } else output = new ArrayList<>();
+        final DoubleIterator l1_it = l1.iterator();
+        final DoubleIterator l2_it = l2.iterator();
+
+        while (l1_it.hasNext() && l2_it.hasNext()) output.add(f.apply(l1_it.next(), l2_it.next()));
+        if (l1_it.hasNext() || l2_it.hasNext())
+            throw new IllegalArgumentException("Functional.zip(Func2_double_double_T<C>,DoubleIterable,DoubleIterable): l1 and l2 have differing numbers of elements");
+
+        return Collections.unmodifiableList(output);
+    }
+
+    /**
+     * Convert a sequence of boxed Doubles into a DoubleList
+     *
+     * @param input the input sequence
+     * @return a DoubleList containing the elements of 'input' in order
+     */
+    public static DoubleList toDoubleList(final Iterable<Double> input) {
+        notNull(input, "Functional.toDoubleList(Iterable<Double>)", "input");
+
+        final DoubleListBuilder output = input instanceof Collection<?> ? new DoubleListBuilder(((Collection<?>) input).size()) : new DoubleListBuilder();
+        final Iterator<Double> iterator = input.iterator();
+        while (iterator.hasNext())
+            output.add(iterator.next());
+        return output.build();
+    }
+
+    private static <T> T notNull(final T t, final String functionName, final String parameterName) {
+        if (t == null) throw new IllegalArgumentException(functionName + ": " + parameterName + " must not be null");
+        return t;
+    }
+}
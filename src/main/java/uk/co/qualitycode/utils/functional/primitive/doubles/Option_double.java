@@ -0,0 +1,136 @@
+package uk.co.qualitycode.utils.functional.primitive.doubles;
+
+import uk.co.qualitycode.utils.functional.monad.OptionNoValueAccessException;
+
+/**
+ * Option is an implementation of the <tt>option monad</tt> specialised for primitive doubles.
+ * See http://en.wikipedia.org/wiki/Option_type
+ * {@see http://en.wikipedia.org/wiki/Monad_(functional_programming)}
+ */
+public final class Option_double {
+    private static final Option_double NONE = new Option_double();
+
+    private final double _t;
+    private final boolean isSet;
+
+    private Option_double() {
+        isSet = false;
+        _t = 0;
+    }
+
+    private Option_double(final double t) {
+        isSet = true;
+        _t = t;
+    }
+
+    /**
+     * If this Option has a value then return it otherwise throw an exception. It is not intended that this method is called
+     * without a prior call to {@link #isSome()}
+     *
+     * @return the underlying value of the Option
+     * @throws OptionNoValueAccessException
+     */
+    public double get() {
+        if (isSet) return _t;
+        else throw new OptionNoValueAccessException();
+    }
+
+    /**
+     * Factory method which wraps <tt>t</tt> in an Option
+     *
+     * @param t the value which is to be wrapped in an Option
+     * @return the Option containing <tt>t</tt>
+     */
+    public static Option_double of(final double t) {
+        return new Option_double(t);
+    }
+
+    /**
+     * Factory method which returns an Option with no underlying value, ie a None
+     *
+     * @return the Option None
+     */
+    public static Option_double none() {
+        return NONE;
+    }
+
+    /**
+     * Predicate. Does this Option object have a value?
+     *
+     * @return true if this Option has a value, false otherwise
+     */
+    public boolean isSome() {
+        return isSet;
+    }
+
+    /**
+     * Predicate. Does this Option have a value?
+     *
+     * @return true if this Option does not have a value, false otherwise.
+     */
+    public boolean isNone() {
+        return !isSet;
+    }
+
+    /**
+     * Equality operator. Two Options are equal if they are both None or if they are both Some and their underlying values
+     * are equal as determined by {@link Double#compare(double, double)}, so that NaN is equal to itself.
+     *
+     * @param o the Option which we wish to compare for equality with <tt>this</tt>.
+     * @return true if they compare equally, false otherwise
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (!(o instanceof Option_double)) return false;
+        final Option_double other = (Option_double) o;
+        return isSet == other.isSet && (!isSet || Double.compare(_t, other._t) == 0);
+    }
+
+    /**
+     * Return the hashCode of this Option
+     *
+     * @return an integer hashcode
+     */
+    @Override
+    public int hashCode() {
+        return isNone() ? -1 : 3 * Double.hashCode(_t);
+    }
+
+    /**
+     * Return a rendering of this Option as a String. That is, "Option( value )" or "None"
+     *
+     * @return the string representation of the Option.
+     */
+    @Override
+    public String toString() {
+        return isSome()
+                ? "Option( " + _t + " )"
+                : "None";
+    }
+
+    /**
+     * Apply a function to the underlying data if {@link #isSome()} and return the result otherwise return {@link #none()}
+     * {@see http://en.wikipedia.org/wiki/Monad_(functional_programming)}
+     *
+     * @param f the function to be bound
+     * @return an Option containing either {@link #none()} or the result of the function <tt>f</tt>
+     */
+    public Option_double bind(final Func_double_Option_double f) {
+        if (isSome()) return f.apply(_t);
+        else return none();
+    }
+
+    /**
+     * Given two monadic Options apply the supplied binary function to them if they are both {@link #isSome()} and return
+     * a wrapped Option containing the result or {@link #none()}.
+     *
+     * @param f  the binary function to be lifted
+     * @param o1 the first Option to be passed to the lift function <tt>f</tt>
+     * @param o2 the second Option to be passed to the lift function <tt>f</tt>
+     * @return an Option containing the result of the lifted function as applied to <tt>o1</tt> and <tt>o2</tt> or {@link #none()}
+     */
+    public static Option_double lift(final Func2_double_double_double f, final Option_double o1, final Option_double o2) {
+        if (o1.isSome() && o2.isSome()) return of(f.apply(o1.get(), o2.get()));
+        else return none();
+    }
+}
@@ -0,0 +1,19 @@
+package uk.co.qualitycode.utils.functional.primitive.doubles;
+
+/**
+ * The Func interface is designed to represent lambda / anonymous functions which are defined and used in situ. This models
+ * a function that takes one argument and returns a boolean.
+ * See <a href="http://en.wikipedia.org/wiki/Anonymous_function">Lambda function</a>
+ *
+ * @see <a href="http://en.wikipedia.org/wiki/Closure_(computer_programming)">Closure</a>
+ */
+@FunctionalInterface
+public interface Predicate_double {
+    /**
+     * Call <tt>test</tt> to evaluate the function object
+     *
+     * @param a the input value
+     * @return true if the input satisfies the predicate, false otherwise
+     */
+    boolean test(double a);
+}
@@ -4,6 +4,9 @@ import io.vavr.Tuple2;
 import io.vavr.Tuple3;
 import uk.co.qualitycode.utils.functional.monad.Option;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -18,8 +21,6 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
-import static uk.co.qualitycode.utils.functional.primitive.integer.Iterators.reverse;
-
 /**
  * Herein are contained some standard algorithms from functional programming tailored for use with Java
  * primitive types.
@@ -31,27 +32,76 @@ public final class Functional {
     }
 
     /**
-     * Concatenate all of the input elements into a single string where each element is separated from the next by the supplied delimiter
+     * Concatenate all of the input elements into a single string where each element is separated from the next by the supplied delimiter.
+     * The StringBuilder is sized exactly before any digits are written to it, unless the output is too long for a String,
+     * in which case the StringBuilder fails as it grows.
      *
-     * @param delimiter used to separate consecutive elements in the output
+     * @param delimiter used to separate consecutive elements in the output, if null it will be replaced with empty string ""
      * @param ints      input sequence, each element of which will be converted to a string
      * @return a string containing the string representation of each input element separated by the supplied delimiter
      */
     public static String join(final String delimiter, final IntList ints) {
         if (ints == null) return "";
-        final IntIterator it = ints.iterator();
-        final StringBuilder sb = new StringBuilder();
-        boolean isFirst = true;
-        while (it.hasNext()) {
-            if (!isFirst) sb.append(delimiter);
-            sb.append(it.next());
-            isFirst = false;
+        final String separator = delimiter == null ? "" : delimiter;
+        long length = (long) separator.length() * Math.max(ints.size - 1, 0);
+        for (int pos = 0; pos < ints.size; ++pos)
+            length += stringLength(ints.backingStore[pos]);
+        final StringBuilder sb = length <= Integer.MAX_VALUE ? new StringBuilder((int) length) : new StringBuilder();
+        return join(sb, separator, ints).toString();
+    }
+
+    /**
+     * Write all of the input elements to 'out', each element separated from the next by the supplied delimiter. The
+     * digits of each element are written directly; no String is created for any element.
+     *
+     * @param out       the destination, eg a <tt>StringBuilder</tt> or a <tt>Writer</tt>
+     * @param delimiter used to separate consecutive elements in the output, if null it will be replaced with empty string ""
+     * @param ints      input sequence. If null then nothing is written
+     * @param <A>       the type of the destination
+     * @return 'out'
+     * @throws java.lang.IllegalArgumentException if 'out' is null
+     * @throws java.io.UncheckedIOException       if 'out' throws an IOException
+     */
+    public static <A extends Appendable> A join(final A out, final String delimiter, final IntIterable ints) {
+        if (out == null) throw new IllegalArgumentException("join(Appendable,String,IntIterable): out must not be null");
+        if (ints == null) return out;
+        final String separator = delimiter == null ? "" : delimiter;
+        final char[] digits = new char[MAX_INT_LENGTH];
+        try {
+            if (ints instanceof IntList) {
+                final IntList list = (IntList) ints;
+                for (int pos = 0; pos < list.size; ++pos) {
+                    if (pos > 0) out.append(separator);
+                    append(out, list.backingStore[pos], digits);
+                }
+            } else {
+                final IntIterator it = ints.iterator();
+                boolean isFirst = true;
+                while (it.hasNext()) {
+                    if (!isFirst) out.append(separator);
+                    append(out, it.next(), digits);
+                    isFirst = false;
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
         }
-        return sb.toString();
+        return out;
     }
 
     /**
-     * Analogue of string.Join for List<T> with the addition of a user-defined map function
+     * The number of characters allowed for each transformed element when <tt>join</tt> presizes its StringBuilder.
+     */
+    private static final int ESTIMATED_ELEMENT_LENGTH = 8;
+
+    /**
+     * The largest StringBuilder that <tt>join</tt> allocates up front; a longer output grows it as it is appended.
+     */
+    private static final int MAX_ESTIMATED_LENGTH = 1 << 24;
+
+    /**
+     * Analogue of string.Join for List<T> with the addition of a user-defined map function. The transformed values are
+     * appended as they are produced; they are not collected first.
      *
      * @param separator inserted between each transformed element
      * @param l         the input sequence
@@ -62,7 +112,56 @@ public final class Functional {
         if (l == null) throw new IllegalArgumentException("l");
         if (fn == null) throw new IllegalArgumentException("fn");
 
-        return uk.co.qualitycode.utils.functional.Functional.join(separator, map(fn, l));
+        final String delimiter = separator == null ? "" : separator;
+        final StringBuilder sb = l instanceof IntList
+                ? new StringBuilder((int) Math.min(((IntList) l).size * ((long) ESTIMATED_ELEMENT_LENGTH + delimiter.length()), MAX_ESTIMATED_LENGTH))
+                : new StringBuilder();
+        final IntIterator it = l.iterator();
+        boolean isFirst = true;
+        while (it.hasNext()) {
+            if (!isFirst) sb.append(delimiter);
+            sb.append(fn.apply(it.next()));
+            isFirst = false;
+        }
+        return sb.toString();
+    }
+
+    private static final int MAX_INT_LENGTH = 11;
+
+    private static void append(final Appendable out, final int i, final char[] digits) throws IOException {
+        if (out instanceof StringBuilder) {
+            ((StringBuilder) out).append(i);
+            return;
+        }
+        final int start = formatInt(i, digits);
+        if (out instanceof Writer) ((Writer) out).write(digits, start, digits.length - start);
+        else
+            for (int pos = start; pos < digits.length; ++pos)
+                out.append(digits[pos]);
+    }
+
+    /**
+     * Write the decimal digits of 'i' to the end of 'digits', working with the negated value so that
+     * <tt>Integer.MIN_VALUE</tt> needs no special case.
+     *
+     * @return the index in 'digits' of the first character
+     */
+    private static int formatInt(final int i, final char[] digits) {
+        int pos = digits.length;
+        int negated = i < 0 ? i : -i;
+        do {
+            digits[--pos] = (char) ('0' - negated % 10);
+            negated /= 10;
+        } while (negated != 0);
+        if (i < 0) digits[--pos] = '-';
+        return pos;
+    }
+
+    private static int stringLength(final int i) {
+        int length = i < 0 ? 2 : 1;
+        for (int negated = i < 0 ? i : -i; negated <= -10; negated /= 10)
+            ++length;
+        return length;
     }
 
     /**
@@ -128,10 +227,8 @@ public final class Functional {
         if (f == null) throw new IllegalArgumentException("f");
         if (input == null) throw new IllegalArgumentException("input");
 
-        final IntIterable reversed = reverse(input);
-        final IntIterator iterator = reversed.iterator();
-        while (iterator.hasNext()) {
-            final int a = iterator.next();
+        for (int i = input.size - 1; i >= 0; --i) {
+            final int a = input.backingStore[i];
             if (f.test(a))
                 return a;
         }
@@ -291,10 +388,10 @@ public final class Functional {
         if (f == null) throw new IllegalArgumentException("f");
         if (howMany < 1) throw new IllegalArgumentException("howMany");
 
-        final int[] output = new int[howMany];
+        final IntListBuilder output = new IntListBuilder(howMany);
         for (int i = 1; i <= howMany; ++i)
-            output[i - 1] = f.apply(i);
-        return new IntList(output);
+            output.add(f.apply(i));
+        return output.build();
     }
 
     /**
@@ -328,12 +425,11 @@ public final class Functional {
      * @return a list of type B containing the transformed values.
      */
     public static <B> IntList map(final Func_T_int<? super B> f, final Iterable<B> input) {
-        final int[] output = input instanceof Collection<?> ? new int[((Collection<?>) input).size()] : new int[]{};
-        int pos = 0;
+        final IntListBuilder output = input instanceof Collection<?> ? new IntListBuilder(((Collection<?>) input).size()) : new IntListBuilder();
         for (final B b : input)
-            output[pos++] = f.apply(b);
+            output.add(f.apply(b));
 
-        return new IntList(output);
+        return output.build();
     }
 
     /**
@@ -473,15 +569,22 @@ public final class Functional {
      * function returns true for the element.
      */
     public static IntList filter(final Predicate_int pred, final IntIterable input) {
-        final int[] output = input instanceof IntList ? new int[((IntList) input).size()] : new int[]{};
+        final IntListBuilder output = builderFor(input);
         final IntIterator iterator = input.iterator();
-        int pos = 0;
         while (iterator.hasNext()) {
             final int element = iterator.next();
             if (pred.test(element))
-                output[pos++] = element;
+                output.add(element);
         }
-        return new IntList(output, pos);
+        return output.build();
+    }
+
+    /**
+     * A builder for the output of a function which keeps some of the elements of 'input'. An IntList input gives the
+     * largest possible size, so the builder never grows; <tt>build</tt> trims any large excess.
+     */
+    private static IntListBuilder builderFor(final IntIterable input) {
+        return input instanceof IntList ? new IntListBuilder(((IntList) input).size()) : new IntListBuilder();
     }
 
     /**
@@ -607,16 +710,41 @@ public final class Functional {
      * @return a list of transformed elements, numbering less than or equal to the number of input elements
      */
     public static IntList choose(final Func_int_Option_int f, final IntIterable input) {
-        final int[] results = input instanceof IntList ? new int[(((IntList) input).size())] : new int[]{};
+        final IntListBuilder results = builderFor(input);
         final IntIterator iterator = input.iterator();
-        int counter = 0;
         while (iterator.hasNext()) {
             final int a = iterator.next();
             final Option_int intermediate = f.apply(a);
             if (intermediate.isSome())
-                results[counter++] = intermediate.get();
+                results.add(intermediate.get());
+        }
+        return results.build();
+    }
+
+    /**
+     * choose: this is a map transformation with the difference being that the number of elements in the output sequence may
+     * be between zero and the number of elements in the input sequence. Unlike
+     * {@link #choose(Func_int_Option_int, IntIterable)}, 'f' returns a sentinel rather than an Option and so nothing is
+     * allocated per element.
+     * See <a href="http://en.wikipedia.org/wiki/Map_(higher-order_function)">Map</a>
+     * choose: (A -> B option) -> A list -> B list
+     *
+     * @param f     map function. This transforms the input element into an int or {@link IntChooser#NONE}
+     * @param input input sequence
+     * @return a list of transformed elements, numbering less than or equal to the number of input elements
+     */
+    public static IntList choose(final IntChooser f, final IntIterable input) {
+        if (f == null) throw new IllegalArgumentException("f");
+        if (input == null) throw new IllegalArgumentException("input");
+
+        final IntListBuilder results = builderFor(input);
+        final IntIterator iterator = input.iterator();
+        while (iterator.hasNext()) {
+            final long intermediate = f.apply(iterator.next());
+            if (intermediate != IntChooser.NONE)
+                results.add((int) intermediate);
         }
-        return new IntList(results, counter);
+        return results.build();
     }
 
     /**
@@ -808,7 +936,8 @@ public final class Functional {
     }
 
     /**
-     * Return the final element from the input sequence
+     * Return the final element from the input sequence. The last element of an <tt>IntList</tt> is read directly; any
+     * other sequence is traversed.
      *
      * @param input input sequence
      * @return the last element from the input sequence
@@ -817,15 +946,16 @@ public final class Functional {
     public static int last(final IntIterable input) {
         if (input == null) throw new IllegalArgumentException("Functional.last(Iterable<T>): input must not be null");
 
-        boolean isSet = false;
-        int state = 0;
+        if (input instanceof IntList) {
+            final IntList list = (IntList) input;
+            if (list.size == 0) throw new IllegalArgumentException("Functional.last(Iterable): input is empty");
+            return list.backingStore[list.size - 1];
+        }
+
         final IntIterator iterator = input.iterator();
         if (!iterator.hasNext()) throw new IllegalArgumentException("Functional.last(Iterable): input is empty");
-        while (iterator.hasNext()) {
-            final int element = iterator.next();
-            state = element;
-            isSet = true;
-        }
+        int state = iterator.next();
+        while (iterator.hasNext()) state = iterator.next();
 
         return state;
     }
@@ -857,9 +987,69 @@ public final class Functional {
         if (list2 == null)
             throw new IllegalArgumentException("Functional.concat(List<T>,List<T>): list2 must not be null");
 
-        final int[] first = list1.extractBackingStoreWithoutCopy();
-        final int[] second = list2.extractBackingStoreWithoutCopy();
-        return new IntList(first, second);
+        return new IntListBuilder(list1.size() + list2.size())
+                .addAll(list1)
+                .addAll(list2)
+                .build();
+    }
+
+    /**
+     * chunk: given a sequence return a sequence of lists, each containing the next 'size' elements of the input. The last
+     * list contains the remaining elements and so may contain fewer than 'size' elements. The lists are produced lazily,
+     * one at a time, and no element is boxed. If 'input' is an IntList then each list is copied from it in bulk.
+     * That is, chunk(2,[1,2,3,4,5]) is [[1,2],[3,4],[5]]
+     *
+     * @param size  the number of elements in each list
+     * @param input the input sequence
+     * @return a lazily-evaluated sequence of lists, each of which contains up to 'size' consecutive elements of 'input'
+     */
+    public static Iterable<IntList> chunk(final int size, final IntIterable input) {
+        if (size < 1)
+            throw new IllegalArgumentException("Functional.chunk(int,IntIterable): size must be positive");
+        if (input == null)
+            throw new IllegalArgumentException("Functional.chunk(int,IntIterable): input must not be null");
+
+        if (input instanceof IntList) {
+            final IntList list = (IntList) input;
+            return () -> new Iterator<IntList>() {
+                private int from;
+
+                public boolean hasNext() {
+                    return from < list.size();
+                }
+
+                public IntList next() {
+                    if (!hasNext())
+                        throw new NoSuchElementException("Functional.chunk(int,IntIterable): cannot seek beyond the end of the sequence");
+                    final int to = from + Math.min(size, list.size() - from);
+                    final IntList chunk = IntList.wrap(Arrays.copyOfRange(list.backingStore, from, to), to - from);
+                    from = to;
+                    return chunk;
+                }
+            };
+        }
+
+        return () -> new Iterator<IntList>() {
+            private final IntIterator position = input.iterator();
+            private int capacity;
+
+            public boolean hasNext() {
+                return position.hasNext();
+            }
+
+            public IntList next() {
+                if (!hasNext())
+                    throw new NoSuchElementException("Functional.chunk(int,IntIterable): cannot seek beyond the end of the sequence");
+                // the length of the input is not known, so the first chunk grows as it is filled and each later chunk
+                // is presized to the length of the one before it, which is 'size' unless the input has run out
+                final IntListBuilder chunk = capacity == 0 ? new IntListBuilder() : new IntListBuilder(capacity);
+                do
+                    chunk.add(position.next());
+                while (chunk.size() < size && position.hasNext());
+                capacity = chunk.size();
+                return chunk.build();
+            }
+        };
     }
 
     /**
@@ -1452,6 +1642,6 @@ public final class Functional {
         final int[] ints = new int[howMany];
         Arrays.fill(ints, constant);
 
-        return new IntList(ints);
+        return IntList.wrap(ints, howMany);
     }
 }
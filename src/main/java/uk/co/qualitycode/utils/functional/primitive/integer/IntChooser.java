@@ -0,0 +1,27 @@
+package uk.co.qualitycode.utils.functional.primitive.integer;
+
+/**
+ * A chooser for {@link Functional#choose(IntChooser, IntIterable)} which signals 'no value' with a sentinel instead of
+ * returning an {@link Option_int}, so choosing allocates nothing per element. The chosen int is widened to a long and
+ * {@link #NONE}, which lies outside the range of int, means that nothing is chosen.
+ * <pre>{@code
+ * IntChooser halveEvens = i -> i % 2 == 0 ? i / 2 : IntChooser.NONE;
+ * }</pre>
+ *
+ * @see <a href="http://en.wikipedia.org/wiki/Sentinel_value">Sentinel value</a>
+ */
+@FunctionalInterface
+public interface IntChooser {
+    /**
+     * The value returned by {@link #apply(int)} when nothing is chosen
+     */
+    long NONE = Long.MIN_VALUE;
+
+    /**
+     * Call <tt>apply</tt> to evaluate the function object
+     *
+     * @param a the input value
+     * @return the chosen int, widened to a long, or {@link #NONE}
+     */
+    long apply(int a);
+}
@@ -10,20 +10,25 @@ public interface IntIterator {
 
 class IntIteratorImpl implements IntIterator {
     private final int[] backingStore;
+    private final int size;
     private int position;
 
     private IntIteratorImpl() {
-        backingStore = new int[0];
-        position = 0;
+        this(new int[0]);
     }
 
     public IntIteratorImpl(final int[] array) {
+        this(array, array.length);
+    }
+
+    IntIteratorImpl(final int[] array, final int size) {
         backingStore = array;
+        this.size = size;
         position = 0;
     }
 
     public boolean hasNext() {
-        return position < backingStore.length;
+        return position < size;
     }
 
     public int next() {
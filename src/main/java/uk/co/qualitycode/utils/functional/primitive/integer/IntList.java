@@ -6,66 +6,119 @@ import java.util.List;
 import java.util.ListIterator;
 
 public class IntList implements IntIterable {
-    private final int[] backingStore;
+    final int[] backingStore;
+    final int size;
 
     public IntList() {
-        backingStore = new int[0];
+        this(0, new int[0]);
     }
 
     public IntList(final int size) {
-        backingStore = new int[size];
+        this(size, new int[size]);
     }
 
     public IntList(final int[] array) {
-        backingStore = Arrays.copyOf(array, array.length);
+        this(array.length, Arrays.copyOf(array, array.length));
     }
 
     public IntList(final int[] array, final int size) {
-        backingStore = Arrays.copyOf(array, size);
+        this(size, Arrays.copyOf(array, size));
     }
 
-    IntList(final int[] array1, final int[] array2) {
-        backingStore = new int[array1.length + array2.length];
-        System.arraycopy(array1, 0, backingStore, 0, array1.length);
-        System.arraycopy(array2, 0, backingStore, array1.length, array2.length);
+    IntList(final int size, final int[] backingStore) {
+        this.backingStore = backingStore;
+        this.size = size;
     }
 
-    int[] extractBackingStoreWithoutCopy() {
-        return backingStore;
+    /**
+     * Adopt 'array' without copying it. Only the first 'size' elements of 'array' are part of the list.
+     * The caller must not modify 'array' afterwards. See {@link IntListBuilder#build()}.
+     *
+     * @param array the backing store of the new list
+     * @param size  the number of elements of 'array' which are in use
+     * @return a new IntList which shares 'array'
+     */
+    static IntList wrap(final int[] array, final int size) {
+        return new IntList(size, array);
     }
 
     public int size() {
-        return backingStore.length;
+        return size;
     }
 
     public boolean isEmpty() {
-        return backingStore.length == 0;
+        return size == 0;
     }
 
+    /**
+     * Linear scan for 'i'. If the list is to be searched repeatedly then use {@link #sorted()}.
+     *
+     * @param i the element to be found
+     * @return true if this list contains 'i', false otherwise
+     */
     public boolean contains(final int i) {
-        return Arrays.binarySearch(backingStore, i) >= 0;
+        return indexOf(i) >= 0;
+    }
+
+    /**
+     * @param i the element to be found
+     * @return the position of the first occurrence of 'i' in this list or -1 if it is not present
+     */
+    public int indexOf(final int i) {
+        for (int pos = 0; pos < size; ++pos)
+            if (backingStore[pos] == i) return pos;
+        return -1;
+    }
+
+    /**
+     * @param i the element to be found
+     * @return the position of the last occurrence of 'i' in this list or -1 if it is not present
+     */
+    public int lastIndexOf(final int i) {
+        for (int pos = size - 1; pos >= 0; --pos)
+            if (backingStore[pos] == i) return pos;
+        return -1;
+    }
+
+    /**
+     * Return a copy of this list in ascending order. The result remembers that it is sorted and so its searches are
+     * O(log n) and it supports merge-based set operations.
+     *
+     * @return a sorted copy of this list
+     */
+    public SortedIntList sorted() {
+        final int[] copy = Arrays.copyOf(backingStore, size);
+        Arrays.sort(copy);
+        return new SortedIntList(size, copy);
     }
 
 
     public IntIterator iterator() {
-        return new IntIteratorImpl(backingStore);
+        return new IntIteratorImpl(backingStore, size);
     }
 
     public int[] toArray() {
-        return Arrays.copyOf(backingStore, backingStore.length);
+        return Arrays.copyOf(backingStore, size);
+    }
+
+    /**
+     * Copy the contents of this list into 'destination', starting at 'position'.
+     */
+    void copyInto(final int[] destination, final int position) {
+        System.arraycopy(backingStore, 0, destination, position, size);
     }
 
     @SuppressWarnings("unchecked")
     public <T> T[] toArray(final T[] a) {
-        if (a.length < backingStore.length) {
+        if (a.length < size) {
             // Make a new array of a's runtime type, but my contents:
-            final Integer[] temp = new Integer[backingStore.length];
-            for (int i = 0; i < backingStore.length; ++i) temp[i] = backingStore[i];
-            return (T[]) Arrays.copyOf(temp, backingStore.length, a.getClass());
+            final Integer[] temp = new Integer[size];
+            for (int i = 0; i < size; ++i) temp[i] = backingStore[i];
+            return (T[]) Arrays.copyOf(temp, size, a.getClass());
         }
-        System.arraycopy(backingStore, 0, a, 0, backingStore.length);
-        if (a.length > backingStore.length)
-            a[backingStore.length] = null;
+        for (int i = 0; i < size; ++i) a[i] = (T) Integer.valueOf(backingStore[i]);
+        if (a.length > size)
+            a[size] = null;
         return a;
     }
 
@@ -102,6 +155,8 @@ public class IntList implements IntIterable {
     }
 
     public int get(final int index) {
+        if (index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
         return backingStore[index];
     }
 
@@ -118,11 +173,11 @@ public class IntList implements IntIterable {
     }
 
     public int indexOf(final Object o) {
-        return 0;
+        return o instanceof Integer ? indexOf((int) (Integer) o) : -1;
     }
 
     public int lastIndexOf(final Object o) {
-        return 0;
+        return o instanceof Integer ? lastIndexOf((int) (Integer) o) : -1;
     }
 
     public ListIterator<Integer> listIterator() {
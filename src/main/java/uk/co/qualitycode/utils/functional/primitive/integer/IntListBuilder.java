@@ -0,0 +1,119 @@
+package uk.co.qualitycode.utils.functional.primitive.integer;
+
+import java.util.Arrays;
+
+/**
+ * A growable buffer of ints from which an immutable {@link IntList} can be built without boxing.
+ * The buffer grows geometrically so appending is amortised O(1). {@link #build()} hands the buffer to the
+ * IntList, copying it only if most of it is unused, and so the builder cannot be used once it has been built.
+ */
+public final class IntListBuilder {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private int[] buffer;
+    private int size;
+    private boolean built;
+
+    public IntListBuilder() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity the number of elements which can be appended before the buffer needs to grow
+     */
+    public IntListBuilder(final int initialCapacity) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("IntListBuilder(int): initialCapacity must not be negative");
+        buffer = new int[initialCapacity];
+    }
+
+    /**
+     * Append 'i' to the buffer.
+     *
+     * @param i the element to be appended
+     * @return this builder
+     */
+    public IntListBuilder add(final int i) {
+        ensureNotBuilt("IntListBuilder.add(int)");
+        if (size == buffer.length)
+            grow(size + 1);
+        buffer[size++] = i;
+        return this;
+    }
+
+    /**
+     * Append all the elements of 'input' to the buffer.
+     *
+     * @param input the elements to be appended
+     * @return this builder
+     */
+    public IntListBuilder addAll(final int[] input) {
+        if (input == null)
+            throw new IllegalArgumentException("IntListBuilder.addAll(int[]): input must not be null");
+        ensureNotBuilt("IntListBuilder.addAll(int[])");
+        ensureCapacity(size + input.length);
+        System.arraycopy(input, 0, buffer, size, input.length);
+        size += input.length;
+        return this;
+    }
+
+    /**
+     * Append all the elements of 'input' to the buffer. If 'input' is an IntList then its elements are copied in bulk.
+     *
+     * @param input the elements to be appended
+     * @return this builder
+     */
+    public IntListBuilder addAll(final IntIterable input) {
+        if (input == null)
+            throw new IllegalArgumentException("IntListBuilder.addAll(IntIterable): input must not be null");
+        ensureNotBuilt("IntListBuilder.addAll(IntIterable)");
+        if (input instanceof IntList) {
+            final IntList list = (IntList) input;
+            ensureCapacity(size + list.size());
+            list.copyInto(buffer, size);
+            size += list.size();
+        } else {
+            final IntIterator iterator = input.iterator();
+            while (iterator.hasNext())
+                add(iterator.next());
+        }
+        return this;
+    }
+
+    /**
+     * @return the number of elements which have been appended
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return an IntList containing the elements which have been appended. The buffer is not copied unless more than
+     * half of it is unused, eg because the initial capacity was an upper bound, in which case the IntList is given a
+     * trimmed copy. After this call the builder can no longer be used.
+     *
+     * @return an immutable IntList
+     */
+    public IntList build() {
+        ensureNotBuilt("IntListBuilder.build()");
+        built = true;
+        if (buffer.length > DEFAULT_CAPACITY && buffer.length - size > size)
+            return IntList.wrap(Arrays.copyOf(buffer, size), size);
+        return IntList.wrap(buffer, size);
+    }
+
+    private void ensureCapacity(final int required) {
+        if (required > buffer.length)
+            grow(required);
+    }
+
+    private void grow(final int required) {
+        final int newCapacity = Math.max(required, buffer.length + (buffer.length >> 1) + 1);
+        buffer = Arrays.copyOf(buffer, newCapacity);
+    }
+
+    private void ensureNotBuilt(final String functionName) {
+        if (built)
+            throw new IllegalStateException(functionName + ": the IntList has already been built");
+    }
+}
@@ -4,10 +4,22 @@ import uk.co.qualitycode.utils.functional.monad.OptionNoValueAccessException;
 
 /**
  * Option is an implementation of the <tt>option monad</tt>.
+ * There is a single None and, as with {@link Integer#valueOf(int)}, the Options of the values from -128 to 127 are
+ * cached, so those Options do not cause any allocation.
  * See http://en.wikipedia.org/wiki/Option_type
  * {@see http://en.wikipedia.org/wiki/Monad_(functional_programming)}
  */
 public final class Option_int {
+    private static final Option_int NONE = new Option_int();
+    private static final int CACHE_LOW = -128;
+    private static final int CACHE_HIGH = 127;
+    private static final Option_int[] CACHE = new Option_int[CACHE_HIGH - CACHE_LOW + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; ++i)
+            CACHE[i] = new Option_int(CACHE_LOW + i);
+    }
+
     private final int _t;
     private final boolean isSet;
 
@@ -46,12 +58,12 @@ public final class Option_int {
     }
 
     /**
-     * Factory method which returns an Option with no underlying value, ie a None
+     * Factory method which returns the shared Option with no underlying value, ie a None
      *
      * @return the Option None
      */
     public static Option_int none() {
-        return new Option_int();
+        return NONE;
     }
 
     /**
@@ -83,14 +95,9 @@ public final class Option_int {
      * @return true if they compare equally, false otherwise
      */
     public boolean equals(final Object o) {
-        if (o instanceof Option_int) {
-            final Option_int other = (Option_int) o;
-            try {
-                return isSome() == other.isSome() && get() == other.get();
-            } catch (final OptionNoValueAccessException ex) {
-                return isNone() && other.isNone(); // every None is considered to be the same
-            }
-        } else return false;
+        if (!(o instanceof Option_int)) return false;
+        final Option_int other = (Option_int) o;
+        return isSet == other.isSet && (!isSet || _t == other._t); // every None is considered to be the same
     }
 
     /**
@@ -121,7 +128,7 @@ public final class Option_int {
      * @return the Option containing <tt>t</tt>
      */
     public static Option_int toOption(final int t) {
-        return new Option_int(t);
+        return t >= CACHE_LOW && t <= CACHE_HIGH ? CACHE[t - CACHE_LOW] : new Option_int(t);
     }
 
     /**
@@ -0,0 +1,148 @@
+package uk.co.qualitycode.utils.functional.primitive.integer;
+
+import java.util.Arrays;
+
+/**
+ * An {@link IntList} whose elements are known to be in ascending order. Obtain one from {@link IntList#sorted()}.
+ * <p>
+ * Because the order is known, <tt>contains</tt>, <tt>indexOf</tt> and <tt>lastIndexOf</tt> use a binary search and so
+ * are O(log n). The set operations <tt>intersection</tt>, <tt>union</tt> and <tt>difference</tt> merge the two sorted
+ * inputs in a single O(n + m) pass without hashing. Their outputs are sorted and contain no duplicates.
+ */
+public final class SortedIntList extends IntList {
+    SortedIntList(final int size, final int[] backingStore) {
+        super(size, backingStore);
+    }
+
+    @Override
+    public boolean contains(final int i) {
+        return Arrays.binarySearch(backingStore, 0, size, i) >= 0;
+    }
+
+    /**
+     * @param i the element to be found
+     * @return the position of the first occurrence of 'i' in this list or -1 if it is not present
+     */
+    @Override
+    public int indexOf(final int i) {
+        final int pos = lowerBound(i);
+        return pos < size && backingStore[pos] == i ? pos : -1;
+    }
+
+    /**
+     * @param i the element to be found
+     * @return the position of the last occurrence of 'i' in this list or -1 if it is not present
+     */
+    @Override
+    public int lastIndexOf(final int i) {
+        final int pos = upperBound(i) - 1;
+        return pos >= 0 && backingStore[pos] == i ? pos : -1;
+    }
+
+    /**
+     * @return this list, which is already sorted
+     */
+    @Override
+    public SortedIntList sorted() {
+        return this;
+    }
+
+    /**
+     * See <a href="http://en.wikipedia.org/wiki/Intersection_(set_theory)">Intersection</a>
+     *
+     * @param other a sorted list
+     * @return the sorted, distinct elements which are in both this list and 'other'
+     */
+    public SortedIntList intersection(final SortedIntList other) {
+        if (other == null)
+            throw new IllegalArgumentException("SortedIntList.intersection(SortedIntList): other must not be null");
+
+        final int[] output = new int[Math.min(size, other.size)];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            final int a = backingStore[i];
+            final int b = other.backingStore[j];
+            if (a < b) ++i;
+            else if (b < a) ++j;
+            else {
+                if (n == 0 || output[n - 1] != a) output[n++] = a;
+                ++i;
+                ++j;
+            }
+        }
+        return new SortedIntList(n, output);
+    }
+
+    /**
+     * See <a href="http://en.wikipedia.org/wiki/Union_(set_theory)">Union</a>
+     *
+     * @param other a sorted list
+     * @return the sorted, distinct elements which are in either this list or 'other'
+     */
+    public SortedIntList union(final SortedIntList other) {
+        if (other == null)
+            throw new IllegalArgumentException("SortedIntList.union(SortedIntList): other must not be null");
+
+        final int[] output = new int[size + other.size];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            final int next;
+            if (j == other.size || (i < size && backingStore[i] < other.backingStore[j])) next = backingStore[i++];
+            else if (i == size || other.backingStore[j] < backingStore[i]) next = other.backingStore[j++];
+            else {
+                next = backingStore[i++];
+                ++j;
+            }
+            if (n == 0 || output[n - 1] != next) output[n++] = next;
+        }
+        return new SortedIntList(n, output);
+    }
+
+    /**
+     * See <a href="http://en.wikipedia.org/wiki/Complement_(set_theory)#Relative_complement">Relative complement</a>
+     *
+     * @param other a sorted list
+     * @return the sorted, distinct elements which are in this list but not in 'other'
+     */
+    public SortedIntList difference(final SortedIntList other) {
+        if (other == null)
+            throw new IllegalArgumentException("SortedIntList.difference(SortedIntList): other must not be null");
+
+        final int[] output = new int[size];
+        int n = 0;
+        int j = 0;
+        for (int i = 0; i < size; ++i) {
+            final int a = backingStore[i];
+            while (j < other.size && other.backingStore[j] < a) ++j;
+            if ((j == other.size || other.backingStore[j] != a) && (n == 0 || output[n - 1] != a))
+                output[n++] = a;
+        }
+        return new SortedIntList(n, output);
+    }
+
+    private int lowerBound(final int i) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (backingStore[mid] < i) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private int upperBound(final int i) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (backingStore[mid] <= i) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+}
@@ -0,0 +1,26 @@
+package uk.co.qualitycode.utils.functional.primitive.longs;
+
+import java.util.function.LongBinaryOperator;
+
+/**
+ * The Func2 interface is designed to represent lambda / anonymous functions which are defined and used in situ. This models
+ * a function that takes two arguments.
+ * See <a href="http://en.wikipedia.org/wiki/Anonymous_function">Lambda function</a>
+ *
+ * @see <a href="http://en.wikipedia.org/wiki/Closure_(computer_programming)">Closure</a>
+ */
+@FunctionalInterface
+public interface Func2_long_long_long extends LongBinaryOperator {
+    /**
+     * Call <tt>apply</tt> to evaluate the function object
+     *
+     * @param a the first input value
+     * @param b the second input value
+     * @return a long
+     */
+    long apply(long a, long b);
+
+    default long applyAsLong(final long a, final long b) {
+        return apply(a, b);
+    }
+}
@@ -0,0 +1,397 @@
+package uk.co.qualitycode.utils.functional.primitive.longs;
+
+import io.vavr.Tuple2;
+import uk.co.qualitycode.utils.functional.monad.Option;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Herein are contained some standard algorithms from functional programming tailored for use with the Java
+ * primitive type long. None of the functions which accept or return a {@link LongIterable} box its elements.
+ * See <a href="http://en.wikipedia.org/wiki/Functional_programming">Functional Programming</a>
+ * for more information
+ */
+public final class Functional {
+    private Functional() {
+    }
+
+    /**
+     * A generator function which returns the successive values starting at 'startFrom'. Use it with <tt>init</tt>.
+     *
+     * @param startFrom the first value to be generated
+     * @return a function which maps the unity-based position 'i' to 'startFrom + i - 1'
+     */
+    public static Func_long_long range(final long startFrom) {
+        return i -> startFrom + i - 1;
+    }
+
+    /**
+     * The init function, not dissimilar to list comprehensions, which is used to return a new finite list whose contents are
+     * determined by successive calls to the function f.
+     * init: (long -> A) -> int -> A list
+     *
+     * @param f       generator function used to produce the individual elements of the output list. This function is called by init
+     *                with the unity-based position of the current element in the output list being produced. Therefore, the first time
+     *                f is called it will receive a literal '1' as its argument; the second time '2'; etc.
+     * @param howMany the number of elements in the output list
+     * @param <T>     the type of the element in the output list
+     * @return a list of 'howMany' elements of type 'T' which were generated by the function 'f'
+     */
+    public static <T> List<T> init(final Func_long_T<? extends T> f, final int howMany) {
+        notNull(f, "Functional.init(Func_long_T<T>,int)", "f");
+        if (howMany < 1)
+            throw new IllegalArgumentException("Functional.init(Func_long_T<T>,int): howMany must be positive");
+
+        final List<T> output = new ArrayList<>(howMany);
+        for (int i = 1; i <= howMany; ++i)
+            output.add(f.apply(i));
+        return Collections.unmodifiableList(output);
+    }
+
+    /**
+     * The init function, not dissimilar to list comprehensions, which is used to return a new finite list whose contents are
+     * determined by successive calls to the function f.
+     * init: (long -> long) -> int -> long list
+     *
+     * @param f       generator function used to produce the individual elements of the output list. This function is called by init
+     *                with the unity-based position of the current element in the output list being produced. Therefore, the first time
+     *                f is called it will receive a literal '1' as its argument; the second time '2'; etc.
+     * @param howMany the number of elements in the output list
+     * @return a list of 'howMany' elements which were generated by the function 'f'
+     */
+    public static LongList init(final Func_long_long f, final int howMany) {
+        notNull(f, "Functional.init(Func_long_long,int)", "f");
+        if (howMany < 1)
+            throw new IllegalArgumentException("Functional.init(Func_long_long,int): howMany must be positive");
+
+        final long[] output = new long[howMany];
+        for (int i = 0; i < howMany; ++i)
+            output[i] = f.apply(i + 1);
+        return LongList.wrap(output, howMany);
+    }
+
+    /**
+     * See <a href="http://en.wikipedia.org/wiki/Map_(higher-order_function)">Map</a>
+     * This is a 1-to-1 transformation. Every element in the input sequence will be transformed into an element in the output sequence.
+     * map: (long -> B) -> long list -> B list
+     *
+     * @param f     a transformation function which takes a long and returns an object of type B
+     * @param input a sequence to be fed into f
+     * @param <B>   the type of the element in the output sequence
+     * @return a list of type B containing the transformed values.
+     */
+    public static <B> List<B> map(final Func_long_T<? extends B> f, final LongIterable input) {
+        notNull(f, "Functional.map(Func_long_T<B>,LongIterable)", "f");
+        notNull(input, "Functional.map(Func_long_T<B>,LongIterable)", "input");
+
+        final List<B> output = input instanceof LongList ? new ArrayList<>(((LongList) input).size()) : new ArrayList<>();
+        final LongIterator iterator = input.iterator();
+        while (iterator.hasNext())
+            output.add(f.apply(iterator.next()));
+        return Collections.unmodifiableList(output);
+    }
+
+    /**
+     * See <a href="http://en.wikipedia.org/wiki/Map_(higher-order_function)">Map</a>
+     * This is a 1-to-1 transformation. Every element in the input sequence will be transformed into an element in the output sequence.
+     * map: (long -> long) -> long list -> long list
+     * No element is boxed. An implicitly-typed lambda matches this and {@link #map(Func_long_T, LongIterable)} equally, so
+     * pass a {@link Func_long_long} variable or cast the lambda.
+     *
+     * @param f     a transformation function which takes a long and returns a long
+     * @param input a sequence to be fed into f
+     * @return a list containing the transformed values.
+     */
+    public static LongList map(final Func_long_long f, final LongIterable input) {
+        notNull(f, "Functional.map(Func_long_long,LongIterable)", "f");
+        notNull(input, "Functional.map(Func_long_long,LongIterable)", "input");
+
+        final LongListBuilder output = input instanceof LongList ? new LongListBuilder(((LongList) input).size()) : new LongListBuilder();
+        final LongIterator iterator = input.iterator();
+        while (iterator.hasNext())
+            output.add(f.apply(iterator.next()));
+        return output.build();
+    }
+
+    /**
+     * See <a href="http://en.wikipedia.org/wiki/Map_(higher-order_function)">Map</a>
+     * This is a 1-to-1 transformation. Every element in the input sequence will be transformed into an element in the output sequence.
+     * map: (A -> long) -> A list -> long list
+     *
+     * @param f     a transformation function which takes an object of type A and returns a long
+     * @param input a sequence to be fed into f
+     * @param <A>   the type of the element in the input sequence
+     * @return a list containing the transformed values.
+     */
+    public static <A> LongList map(final Func_T_long<? super A> f, final Iterable<A> input) {
+        notNull(f, "Functional.map(Func_T_long<A>,Iterable<A>)", "f");
+        notNull(input, "Functional.map(Func_T_long<A>,Iterable<A>)", "input");
+
+        final LongListBuilder output = input instanceof Collection<?> ? new LongListBuilder(((Collection<?>) input).size()) : new LongListBuilder();
+        for (final A a : input)
+            output.add(f.apply(a));
+        return output.build();
+    }
+
+    /**
+     * See <a href="http://en.wikipedia.org/wiki/Filter_(higher-order_function)">Filter</a>
+     * filter: (long -> bool) -> long list -> long list
+     *
+     * @param predicate a filter function. This is passed each input element in turn and returns either true or false. If true then
+     *                  the input element is passed through to the output otherwise it is ignored.
+     * @param input     a sequence of longs
+     * @return a list which contains zero or more of the elements of the input sequence. Each element is included only if the filter
+     * function returns true for the element.
+     */
+    public static LongList filter(final Predicate_long predicate, final LongIterable input) {
+        notNull(predicate, "Functional.filter(Predicate_long,LongIterable)", "predicate");
+        notNull(input, "Functional.filter(Predicate_long,LongIterable)", "input");
+
+        final LongListBuilder output = new LongListBuilder();
+        final LongIterator iterator = input.iterator();
+        while (iterator.hasNext()) {
+            final long a = iterator.next();
+            if (predicate.test(a))
+                output.add(a);
+        }
+        return output.build();
+    }
+
+    /**
+     * See <a href="http://en.wikipedia.org/wiki/Fold_(higher-order_function)">Fold</a>
+     * fold: aggregate the elements of the input sequence given a seed and an aggregation function.
+     * fold: (A -> long -> A) -> A -> long list -> A
+     *
+     * @param f            aggregation function
+     * @param initialValue seed for the algorithm
+     * @param input        input sequence
+     * @param <A>          the type of the initialValue / seed
+     * @return aggregated value
+     */
+    public static <A> A fold(final Func2_T_long_T<? super A, ? extends A> f, final A initialValue, final LongIterable input) {
+        notNull(f, "Functional.fold(Func2_T_long_T<A,A>,A,LongIterable)", "f");
+        notNull(input, "Functional.fold(Func2_T_long_T<A,A>,A,LongIterable)", "input");
+
+        A state = initialValue;
+        final LongIterator iterator = input.iterator();
+        while (iterator.hasNext())
+            state = f.apply(state, iterator.next());
+        return state;
+    }
+
+    /**
+     * See <a href="http://en.wikipedia.org/wiki/Fold_(higher-order_function)">Fold</a>
+     * fold: aggregate the elements of the input sequence given a seed and an aggregation function. Neither the state nor the
+     * elements are boxed.
+     * fold: (long -> long -> long) -> long -> long list -> long
+     *
+     * @param f            aggregation function
+     * @param initialValue seed for the algorithm
+     * @param input        input sequence
+     * @return aggregated value
+     */
+    public static long fold(final Func2_long_long_long f, final long initialValue, final LongIterable input) {
+        notNull(f, "Functional.fold(Func2_long_long_long,long,LongIterable)", "f");
+        notNull(input, "Functional.fold(Func2_long_long_long,long,LongIterable)", "input");
+
+        long state = initialValue;
+        final LongIterator iterator = input.iterator();
+        while (iterator.hasNext())
+            state = f.apply(state, iterator.next());
+        return state;
+    }
+
+    /**
+     * choose: this is a map transformation with the difference being that the number of elements in the output sequence may
+     * be between zero and the number of elements in the input sequence.
+     * See <a href="http://en.wikipedia.org/wiki/Map_(higher-order_function)">Map</a>
+     * choose: (long -> B option) -> long list -> B list
+     *
+     * @param f     map function. This transforms the input element into an Option
+     * @param input input sequence
+     * @param <B>   the type of the element in the output sequence
+     * @return a list of transformed elements, numbering less than or equal to the number of input elements
+     */
+    public static <B> List<B> choose(final Func_long_T<Option<B>> f, final LongIterable input) {
+        notNull(f, "Functional.choose(Func_long_T<Option<B>>,LongIterable)", "f");
+        notNull(input, "Functional.choose(Func_long_T<Option<B>>,LongIterable)", "input");
+
+        final List<B> output = new ArrayList<>();
+        final LongIterator iterator = input.iterator();
+        while (iterator.hasNext()) {
+            final Option<B> intermediate = f.apply(iterator.next());
+            if (intermediate.isSome())
+                output.add(intermediate.get());
+        }
+        return Collections.unmodifiableList(output);
+    }
+
+    /**
+     * choose: this is a map transformation with the difference being that the number of elements in the output sequence may
+     * be between zero and the number of elements in the input sequence.
+     * See <a href="http://en.wikipedia.org/wiki/Map_(higher-order_function)">Map</a>
+     * choose: (long -> long option) -> long list -> long list
+     *
+     * @param f     map function. This transforms the input element into an Option_long
+     * @param input input sequence
+     * @return a list of transformed elements, numbering less than or equal to the number of input elements
+     */
+    public static LongList choose(final Func_long_Option_long f, final LongIterable input) {
+        notNull(f, "Functional.choose(Func_long_Option_long,LongIterable)", "f");
+        notNull(input, "Functional.choose(Func_long_Option_long,LongIterable)", "input");
+
+        final LongListBuilder output = new LongListBuilder();
+        final LongIterator iterator = input.iterator();
+        while (iterator.hasNext()) {
+            final Option_long intermediate = f.apply(iterator.next());
+            if (intermediate.isSome())
+                output.add(intermediate.get());
+        }
+        return output.build();
+    }
+
+    /**
+     * Find the first element from the input sequence for which the supplied predicate returns true
+     * find: (long -> bool) -> long list -> long
+     *
+     * @param f     predicate
+     * @param input sequence
+     * @return the first element from the input sequence for which the supplied predicate returns true
+     * @throws java.lang.IllegalArgumentException if f or input are null
+     * @throws java.util.NoSuchElementException   if no element is found that satisfies the predicate
+     */
+    public static long find(final Predicate_long f, final LongIterable input) {
+        notNull(f, "Functional.find(Predicate_long,LongIterable)", "f");
+        notNull(input, "Functional.find(Predicate_long,LongIterable)", "input");
+
+        final LongIterator iterator = input.iterator();
+        while (iterator.hasNext()) {
+            final long a = iterator.next();
+            if (f.test(a))
+                return a;
+        }
+        throw new NoSuchElementException();
+    }
+
+    /**
+     * As <tt>find</tt> except that here we return an Option_long which is None if no element satisfies the predicate
+     * tryFind: (long -> bool) -> long list -> long option
+     *
+     * @param f     predicate
+     * @param input sequence
+     * @return the first element from the input sequence for which the supplied predicate returns true or None
+     * @throws java.lang.IllegalArgumentException if f or input are null
+     */
+    public static Option_long tryFind(final Predicate_long f, final LongIterable input) {
+        notNull(f, "Functional.tryFind(Predicate_long,LongIterable)", "f");
+        notNull(input, "Functional.tryFind(Predicate_long,LongIterable)", "input");
+
+        final LongIterator iterator = input.iterator();
+        while (iterator.hasNext()) {
+            final long a = iterator.next();
+            if (f.test(a))
+                return Option_long.of(a);
+        }
+        return Option_long.none();
+    }
+
+    /**
+     * partition is a group function. Given a predicate and an input sequence, 'partition' returns a pair of lists, the first list
+     * containing those elements from the input sequence for which the predicate returned true, the second list containing those
+     * elements from the input sequence for which the predicate returned false.
+     * partition: (long -> bool) -> long list -> long list * long list
+     *
+     * @param f     predicate used to split the input sequence into two groups
+     * @param input the input sequence
+     * @return a pair of lists, the first being the 'true' and the second being the 'false'
+     */
+    public static Tuple2<LongList, LongList> partition(final Predicate_long f, final LongIterable input) {
+        notNull(f, "Functional.partition(Predicate_long,LongIterable)", "f");
+        notNull(input, "Functional.partition(Predicate_long,LongIterable)", "input");
+
+        final LongListBuilder left = new LongListBuilder();
+        final LongListBuilder right = new LongListBuilder();
+        final LongIterator iterator = input.iterator();
+        while (iterator.hasNext()) {
+            final long a = iterator.next();
+            if (f.test(a))
+                left.add(a);
+            else
+                right.add(a);
+        }
+        return new Tuple2<>(left.build(), right.build());
+    }
+
+    /**
+     * The Convolution operator
+     * See <a href="http://en.wikipedia.org/wiki/Zip_(higher-order_function)">Zip</a>
+     *
+     * @param l1 input sequence
+     * @param l2 input sequence
+     * @return list of pairs; the first element from each of the two input sequences is the first pair in the output sequence and so on,
+     * in order. If the sequences do not have the same number of elements then an exception is thrown.
+     * @throws java.lang.IllegalArgumentException if either input sequence is null or if the sequences have differing lengths.
+     */
+    public static List<Tuple2<Long, Long>> zip(final LongIterable l1, final LongIterable l2) {
+        return zip(Tuple2::new, l1, l2);
+    }
+
+    /**
+     * The Convolution operator, combining the pairs of elements with 'f' so that they need not be boxed
+     * See <a href="http://en.wikipedia.org/wiki/Zip_(higher-order_function)">Zip</a>
+     *
+     * @param f   the function which combines an element from each of the two input sequences
+     * @param l1  input sequence
+     * @param l2  input sequence
+     * @param <C> the type of the element in the output sequence
+     * @return list of the results of 'f'; 'f' is applied to the first element from each of the two input sequences to produce the first
+     * element of the output sequence and so on, in order. If the sequences do not have the same number of elements then an exception is thrown.
+     * @throws java.lang.IllegalArgumentException if either input sequence is null or if the sequences have differing lengths.
+     */
+    public static <C> List<C> zip(final Func2_long_long_T<? extends C> f, final LongIterable l1, final LongIterable l2) {
+        notNull(f, "Functional.zip(Func2_long_long_T<C>,LongIterable,LongIterable)", "f");
+        notNull(l1, "Functional.zip(Func2_long_long_T<C>,LongIterable,LongIterable)", "l1");
+        notNull(l2, "Functional.zip(Func2_long_long_T<C>,LongIterable,LongIterable)", "l2");
+
+        final List<C> output;
+        if (l1 instanceof LongList && l2 instanceof LongList) {
+            if (((LongList) l1).size() != ((LongList) l2).size())
+                throw new IllegalArgumentException("Functional.zip(Func2_long_long_T<C>,LongIterable,LongIterable): l1 and l2 have differing numbers of elements");
+            output = new ArrayList<>(((LongList) l1).size());
+        } else output = new ArrayList<>();
+        final LongIterator l1_it = l1.iterator();
+        final LongIterator l2_it = l2.iterator();
+
+        while (l1_it.hasNext() && l2_it.hasNext()) output.add(f.apply(l1_it.next(), l2_it.next()));
+        if (l1_it.hasNext() || l2_it.hasNext())
+            throw new IllegalArgumentException("Functional.zip(Func2_long_long_T<C>,LongIterable,LongIterable): l1 and l2 have differing numbers of elements");
+
+        return Collections.unmodifiableList(output);
+    }
+
+    /**
+     * Convert a sequence of boxed Longs into a LongList
+     *
+     * @param input the input sequence
+     * @return a LongList containing the elements of 'input' in order
+     */
+    public static LongList toLongList(final Iterable<Long> input) {
+        notNull(input, "Functional.toLongList(Iterable<Long>)", "input");
+
+        final LongListBuilder output = input instanceof Collection<?> ? new LongListBuilder(((Collection<?>) input).size()) : new LongListBuilder();
+        final Iterator<Long> iterator = input.iterator();
+        while (iterator.hasNext())
+            output.add(iterator.next());
+        return output.build();
+    }
+
+    private static <T> T notNull(final T t, final String functionName, final String parameterName) {
+        if (t == null) throw new IllegalArgumentException(functionName + ": " + parameterName + " must not be null");
+        return t;
+    }
+}
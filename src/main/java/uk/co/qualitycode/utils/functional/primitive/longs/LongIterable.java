@@ -0,0 +1,10 @@
+package uk.co.qualitycode.utils.functional.primitive.longs;
+
+public interface LongIterable {
+    /**
+     * Returns an iterator over a set of elements of type long.
+     *
+     * @return an Iterator.
+     */
+    LongIterator iterator();
+}
@@ -0,0 +1,36 @@
+package uk.co.qualitycode.utils.functional.primitive.longs;
+
+import java.util.NoSuchElementException;
+
+public interface LongIterator {
+    boolean hasNext();
+
+    long next();
+
+    void remove();
+}
+
+class LongIteratorImpl implements LongIterator {
+    private final long[] backingStore;
+    private final int size;
+    private int position;
+
+    LongIteratorImpl(final long[] array, final int size) {
+        backingStore = array;
+        this.size = size;
+        position = 0;
+    }
+
+    public boolean hasNext() {
+        return position < size;
+    }
+
+    public long next() {
+        if (position >= size) throw new NoSuchElementException();
+        return backingStore[position++];
+    }
+
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,109 @@
+package uk.co.qualitycode.utils.functional.primitive.longs;
+
+import java.util.Arrays;
+
+/**
+ * An immutable list of primitive longs. Use a {@link LongListBuilder} to accumulate a list of unknown length.
+ */
+public final class LongList implements LongIterable {
+    private static final LongList EMPTY = new LongList(0, new long[0]);
+
+    private final long[] backingStore;
+    private final int size;
+
+    public LongList(final long[] array) {
+        this(array.length, Arrays.copyOf(array, array.length));
+    }
+
+    public LongList(final long[] array, final int size) {
+        this(size, Arrays.copyOf(array, size));
+    }
+
+    private LongList(final int size, final long[] backingStore) {
+        this.backingStore = backingStore;
+        this.size = size;
+    }
+
+    /**
+     * @return the empty LongList
+     */
+    public static LongList empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Adopt 'array' without copying it. Only the first 'size' elements of 'array' are part of the list.
+     * The caller must not modify 'array' afterwards. See {@link LongListBuilder#build()}.
+     *
+     * @param array the backing store of the new list
+     * @param size  the number of elements of 'array' which are in use
+     * @return a new LongList which shares 'array'
+     */
+    static LongList wrap(final long[] array, final int size) {
+        return size == 0 ? EMPTY : new LongList(size, array);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long get(final int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return backingStore[index];
+    }
+
+    public boolean contains(final long l) {
+        for (int i = 0; i < size; ++i)
+            if (backingStore[i] == l) return true;
+        return false;
+    }
+
+    public LongIterator iterator() {
+        return new LongIteratorImpl(backingStore, size);
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(backingStore, size);
+    }
+
+    /**
+     * Copy the contents of this list into 'destination', starting at 'position'.
+     */
+    void copyInto(final long[] destination, final int position) {
+        System.arraycopy(backingStore, 0, destination, position, size);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LongList)) return false;
+        final LongList other = (LongList) o;
+        if (size != other.size) return false;
+        for (int i = 0; i < size; ++i)
+            if (backingStore[i] != other.backingStore[i]) return false;
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; ++i)
+            result = 31 * result + Long.hashCode(backingStore[i]);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; ++i) {
+            if (i > 0) sb.append(", ");
+            sb.append(backingStore[i]);
+        }
+        return sb.append(']').toString();
+    }
+}
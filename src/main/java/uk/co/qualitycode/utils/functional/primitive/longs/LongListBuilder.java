@@ -0,0 +1,116 @@
+package uk.co.qualitycode.utils.functional.primitive.longs;
+
+import java.util.Arrays;
+
+/**
+ * A growable buffer of longs from which an immutable {@link LongList} can be built without boxing.
+ * The buffer grows geometrically so appending is amortised O(1). {@link #build()} hands the buffer to the
+ * LongList without copying it and so the builder cannot be used once it has been built.
+ */
+public final class LongListBuilder {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private long[] buffer;
+    private int size;
+    private boolean built;
+
+    public LongListBuilder() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity the number of elements which can be appended before the buffer needs to grow
+     */
+    public LongListBuilder(final int initialCapacity) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("LongListBuilder(int): initialCapacity must not be negative");
+        buffer = new long[initialCapacity];
+    }
+
+    /**
+     * Append 'l' to the buffer.
+     *
+     * @param l the element to be appended
+     * @return this builder
+     */
+    public LongListBuilder add(final long l) {
+        ensureNotBuilt("LongListBuilder.add(long)");
+        if (size == buffer.length)
+            grow(size + 1);
+        buffer[size++] = l;
+        return this;
+    }
+
+    /**
+     * Append all the elements of 'input' to the buffer.
+     *
+     * @param input the elements to be appended
+     * @return this builder
+     */
+    public LongListBuilder addAll(final long[] input) {
+        if (input == null)
+            throw new IllegalArgumentException("LongListBuilder.addAll(long[]): input must not be null");
+        ensureNotBuilt("LongListBuilder.addAll(long[])");
+        ensureCapacity(size + input.length);
+        System.arraycopy(input, 0, buffer, size, input.length);
+        size += input.length;
+        return this;
+    }
+
+    /**
+     * Append all the elements of 'input' to the buffer. If 'input' is a LongList then its elements are copied in bulk.
+     *
+     * @param input the elements to be appended
+     * @return this builder
+     */
+    public LongListBuilder addAll(final LongIterable input) {
+        if (input == null)
+            throw new IllegalArgumentException("LongListBuilder.addAll(LongIterable): input must not be null");
+        ensureNotBuilt("LongListBuilder.addAll(LongIterable)");
+        if (input instanceof LongList) {
+            final LongList list = (LongList) input;
+            ensureCapacity(size + list.size());
+            list.copyInto(buffer, size);
+            size += list.size();
+        } else {
+            final LongIterator iterator = input.iterator();
+            while (iterator.hasNext())
+                add(iterator.next());
+        }
+        return this;
+    }
+
+    /**
+     * @return the number of elements which have been appended
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return a LongList containing the elements which have been appended. The buffer is not copied, so after this
+     * call the builder can no longer be used.
+     *
+     * @return an immutable LongList
+     */
+    public LongList build() {
+        ensureNotBuilt("LongListBuilder.build()");
+        built = true;
+        return LongList.wrap(buffer, size);
+    }
+
+    private void ensureCapacity(final int required) {
+        if (required > buffer.length)
+            grow(required);
+    }
+
+    private void grow(final int required) {
+        final int newCapacity = Math.max(required, buffer.length + (buffer.length >> 1) + 1);
+        buffer = Arrays.copyOf(buffer, newCapacity);
+    }
+
+    private void ensureNotBuilt(final String functionName) {
+        if (built)
+            throw new IllegalStateException(functionName + ": the LongList has already been built");
+    }
+}
@@ -0,0 +1,60 @@
+package uk.co.qualitycode.utils.functional;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class Functional_Cached_Test {
+    @Test
+    void preconditions() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Lazy.cached(null))
+                .withMessage("Lazy.cached(Iterable<T>): input must not be null");
+    }
+
+    @Test
+    void cachedReplaysWithoutRecomputation() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Iterable<Integer> output = Functional.Lazy.cached(
+                Functional.Lazy.map(i -> {
+                    calls.incrementAndGet();
+                    return i * 2;
+                }, Arrays.asList(1, 2, 3)));
+        assertThat(output).containsExactly(2, 4, 6);
+        assertThat(output).containsExactly(2, 4, 6);
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void cachedPullsOnlyAsFarAsTheFurthestTraversal() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Iterable<Integer> output = Functional.Lazy.cached(Functional.Lazy.init(i -> calls.incrementAndGet()));
+        assertThat(Functional.take(3, output)).containsExactly(1, 2, 3);
+        assertThat(calls).hasValue(3);
+        assertThat(Functional.take(5, output)).containsExactly(1, 2, 3, 4, 5);
+        assertThat(calls).hasValue(5);
+    }
+
+    @Test
+    void cachedIteratorsAreIndependent() {
+        final Iterable<Integer> output = Functional.Lazy.cached(Functional.Lazy.map(Function.identity(), Arrays.asList(1, 2)));
+        final Iterator<Integer> first = output.iterator();
+        final Iterator<Integer> second = output.iterator();
+        assertThat(first.next()).isEqualTo(1);
+        assertThat(first.next()).isEqualTo(2);
+        assertThat(second.next()).isEqualTo(1);
+        assertThat(first.hasNext()).isFalse();
+        assertThat(second.next()).isEqualTo(2);
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(second::next)
+                .withMessage("Lazy.cached(Iterable<T>): cannot seek beyond the end of the sequence");
+    }
+}
@@ -0,0 +1,88 @@
+package uk.co.qualitycode.utils.functional;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+
+class Functional_Chunk_Test {
+    @Test
+    void preconditions() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Lazy.chunk(0, mock(Iterable.class)))
+                .withMessage("Lazy.chunk(int,Iterable<T>): size must be positive");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Lazy.chunk(1, null))
+                .withMessage("Lazy.chunk(int,Iterable<T>): input must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Lazy.chunk(0))
+                .withMessage("Lazy.chunk(int): size must be positive");
+    }
+
+    @Test
+    void lastChunkIsPartial() {
+        final Iterable<List<Integer>> output = Functional.Lazy.chunk(2, Arrays.asList(1, 2, 3, 4, 5));
+        assertThat(output).containsExactly(Arrays.asList(1, 2), Arrays.asList(3, 4), Collections.singletonList(5));
+    }
+
+    @Test
+    void chunksOfAnExactMultiple() {
+        final Iterable<List<Integer>> output = Functional.Lazy.<Integer>chunk(3).apply(Functional.init(Function.identity(), 6));
+        assertThat(output).containsExactly(Arrays.asList(1, 2, 3), Arrays.asList(4, 5, 6));
+    }
+
+    @Test
+    void chunkLargerThanTheInputHoldsTheWholeInput() {
+        assertThat(Functional.Lazy.chunk(Integer.MAX_VALUE, Arrays.asList(1, 2, 3))).containsExactly(Arrays.asList(1, 2, 3));
+        assertThat(Functional.Lazy.chunk(Integer.MAX_VALUE, Functional.Lazy.init(Function.identity(), 3))).containsExactly(Arrays.asList(1, 2, 3));
+        final List<Integer> input = Functional.init(Function.identity(), 3 * Functional.Lazy.MAX_INITIAL_CAPACITY);
+        assertThat(Functional.Lazy.chunk(2 * Functional.Lazy.MAX_INITIAL_CAPACITY, input))
+                .containsExactly(input.subList(0, 2 * Functional.Lazy.MAX_INITIAL_CAPACITY), input.subList(2 * Functional.Lazy.MAX_INITIAL_CAPACITY, input.size()));
+    }
+
+    @Test
+    void chunkOfEmptyInputIsEmpty() {
+        assertThat(Functional.Lazy.chunk(3, Collections.emptyList())).isEmpty();
+    }
+
+    @Test
+    void chunkOnlyReadsTheInputAsFarAsRequired() {
+        final AtomicInteger howManyRead = new AtomicInteger();
+        final Iterable<Integer> input = Functional.Lazy.map(i -> {
+            howManyRead.incrementAndGet();
+            return i;
+        }, Functional.Lazy.init(Function.identity()));
+        final Iterator<List<Integer>> chunks = Functional.Lazy.chunk(500, input).iterator();
+        assertThat(chunks.next()).hasSize(500).startsWith(1).endsWith(500);
+        assertThat(chunks.next()).startsWith(501);
+        assertThat(howManyRead.get()).isEqualTo(1000);
+    }
+
+    @Test
+    void cannotSeekBeyondTheEnd() {
+        final Iterator<List<Integer>> chunks = Functional.Lazy.chunk(2, Arrays.asList(1)).iterator();
+        chunks.next();
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(chunks::next)
+                .withMessage("Lazy.chunk(int,Iterable<T>): cannot seek beyond the end of the sequence");
+    }
+
+    @Test
+    void cannotIterateTwice() {
+        final Iterable<List<Integer>> output = Functional.Lazy.chunk(2, Arrays.asList(1, 2, 3));
+        output.iterator();
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(output::iterator)
+                .withMessage("Lazy.chunk(int,Iterable<T>): this Iterable does not allow multiple Iterators");
+    }
+}
@@ -0,0 +1,165 @@
+package uk.co.qualitycode.utils.functional;
+
+import org.junit.jupiter.api.Test;
+import uk.co.qualitycode.utils.functional.monad.Option;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+
+class Functional_Concurrent_Test {
+    private final List<Integer> input = Functional.init(Function.identity(), 50);
+
+    private static <T> T sleep(final long millis, final T t) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return t;
+    }
+
+    @Test
+    void preconditions() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Concurrent.map(null, mock(Collection.class), 1))
+                .withMessage("Concurrent.map(Function<A,B>,Collection<A>,int): f must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Concurrent.map(mock(Function.class), null, 1))
+                .withMessage("Concurrent.map(Function<A,B>,Collection<A>,int): input must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Concurrent.map(mock(Function.class), mock(Collection.class), 0))
+                .withMessage("Concurrent.map(Function<A,B>,Collection<A>,int): maxConcurrency must be positive");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Concurrent.choose(null, mock(Collection.class), 1))
+                .withMessage("Concurrent.choose(Function<A,Option<B>>,Collection<A>,int): chooser must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Concurrent.choose(mock(Function.class), null, 1))
+                .withMessage("Concurrent.choose(Function<A,Option<B>>,Collection<A>,int): input must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Concurrent.choose(mock(Function.class), mock(Collection.class), 0))
+                .withMessage("Concurrent.choose(Function<A,Option<B>>,Collection<A>,int): maxConcurrency must be positive");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Concurrent.flatMap(null, mock(Collection.class), 1))
+                .withMessage("Concurrent.flatMap(Function<A,B>,Collection<A>,int): f must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Concurrent.flatMap(mock(Function.class), null, 1))
+                .withMessage("Concurrent.flatMap(Function<A,B>,Collection<A>,int): input must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Concurrent.flatMap(mock(Function.class), mock(Collection.class), 0))
+                .withMessage("Concurrent.flatMap(Function<A,B>,Collection<A>,int): maxConcurrency must be positive");
+    }
+
+    @Test
+    void mapPreservesTheOrderOfTheInput() {
+        final List<Integer> output = Functional.Concurrent.map(i -> sleep(50 - i, 2 * i), input, 10);
+        assertThat(output).containsExactlyElementsOf(Functional.map(i -> 2 * i, input));
+    }
+
+    @Test
+    void mapTakesAboutAsLongAsTheSlowestElement() {
+        final long start = System.nanoTime();
+        Functional.Concurrent.map(i -> sleep(200, i), input, input.size());
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(50 * 200 / 2);
+    }
+
+    @Test
+    void mapDoesNotExceedMaxConcurrency() {
+        final AtomicInteger current = new AtomicInteger();
+        final AtomicInteger max = new AtomicInteger();
+        Functional.Concurrent.map(i -> {
+            max.accumulateAndGet(current.incrementAndGet(), Math::max);
+            sleep(5, i);
+            return current.decrementAndGet();
+        }, input, 3);
+        assertThat(max.get()).isBetween(1, 3);
+    }
+
+    @Test
+    void elementsRunOnSharedDaemonThreads() {
+        final List<Boolean> daemon = Functional.Concurrent.map(i -> Thread.currentThread().isDaemon(), input, 4);
+        assertThat(daemon).containsOnly(true);
+        assertThat(Functional.Concurrent.map(i -> i, input, 4)).containsExactlyElementsOf(input);
+    }
+
+    @Test
+    void chooseIsEquivalentToSequentialChoose() {
+        final Function<Integer, Option<String>> chooser = i -> i % 3 == 0 ? Option.of(i.toString()) : Option.none();
+        assertThat(Functional.Concurrent.choose(chooser, input, 8)).containsExactlyElementsOf(Functional.choose(chooser, input));
+    }
+
+    @Test
+    void flatMapIsEquivalentToSequentialFlatMap() {
+        final Function<Integer, List<Integer>> f = i -> Functional.isOdd(i) ? Arrays.asList(i, -i) : Arrays.asList();
+        assertThat(Functional.Concurrent.flatMap(f, input, 8)).containsExactlyElementsOf(Functional.flatMap(f, input));
+    }
+
+    @Test
+    void emptyInputGivesEmptyOutput() {
+        assertThat(Functional.Concurrent.map(i -> i, Arrays.<Integer>asList(), 1)).isEmpty();
+    }
+
+    @Test
+    void exceptionsAreRethrownToTheCaller() {
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> Functional.Concurrent.map(i -> {
+                    if (i == 25) throw new IllegalStateException("bang");
+                    return i;
+                }, input, 4))
+                .withMessage("bang");
+    }
+
+    @Test
+    void aLateFailureIsRethrownWithoutWaitingForEarlierElements() {
+        final long start = System.nanoTime();
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> Functional.Concurrent.map(i -> {
+                    if (i == 50) throw new IllegalStateException("bang");
+                    return sleep(10_000, i);
+                }, input, input.size()))
+                .withMessage("bang");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(5_000);
+    }
+
+    @Test
+    void interruptingTheCallerCancelsTheElements() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch cancelled = new CountDownLatch(1);
+        final AtomicReference<Throwable> thrown = new AtomicReference<>();
+        final Thread caller = new Thread(() -> {
+            try {
+                Functional.Concurrent.map(i -> {
+                    started.countDown();
+                    try {
+                        Thread.sleep(60_000);
+                    } catch (final InterruptedException e) {
+                        cancelled.countDown();
+                    }
+                    return i;
+                }, input, 2);
+            } catch (final Throwable t) {
+                thrown.set(t);
+            }
+        });
+        caller.start();
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        caller.interrupt();
+        caller.join(10_000);
+
+        assertThat(caller.isAlive()).isFalse();
+        assertThat(thrown.get()).isInstanceOf(CancellationException.class);
+        assertThat(cancelled.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -115,6 +115,15 @@ class Functional_Filter_Test {
             assertThat(evenElems).containsExactly(2, 4);
         }
 
+        @Test
+        void filterYieldsANullElementWhichThePredicateAccepts() {
+            final Collection<Integer> l = Arrays.asList(1, null, 3, null);
+            final Iterable<Integer> output = Functional.Lazy.filter(i -> i == null || i > 1, l);
+
+            assertThat(output).containsExactly(null, 3, null);
+            assertThat(Functional.filter(i -> i == null || i > 1, l)).containsExactly(null, 3, null);
+        }
+
         @Override
         protected Collection<Integer> initialValues() {
             return Arrays.asList(1, 2, 3, 4, 5);
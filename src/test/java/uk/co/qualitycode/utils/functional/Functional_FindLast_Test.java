@@ -4,13 +4,20 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import uk.co.qualitycode.utils.functional.monad.Option;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
 import static uk.co.qualitycode.utils.functional.Functional.findLast;
 import static uk.co.qualitycode.utils.functional.assertions.OptionAssert.assertThat;
@@ -126,4 +133,47 @@ class Functional_FindLast_Test {
             assertThat(lastFunc.apply(l)).hasValue(10);
         }
     }
+
+    @Nested
+    class ScansBackwards {
+        private final List<Integer> input = Functional.init(Function.identity(), 10);
+        private final AtomicInteger tested = new AtomicInteger();
+
+        private boolean isEven(final Integer i) {
+            tested.incrementAndGet();
+            return Functional.isEven(i);
+        }
+
+        @Test
+        void fromAList() {
+            assertThat(findLast(this::isEven, (Iterable<Integer>) input)).hasValue(10);
+            assertEquals(1, tested.get());
+            assertThat(findLast(this::isEven, new LinkedList<>(input))).hasValue(10);
+            assertEquals(2, tested.get());
+        }
+
+        @Test
+        void fromADeque() {
+            assertThat(findLast(this::isEven, new ArrayDeque<>(input))).hasValue(10);
+            assertEquals(1, tested.get());
+        }
+
+        @Test
+        void fromANavigableSet() {
+            assertThat(findLast(this::isEven, new TreeSet<>(Arrays.asList(4, 9, 1, 7)))).hasValue(4);
+            assertEquals(3, tested.get());
+        }
+
+        @Test
+        void fromAnEmptySequence() {
+            assertThat(findLast(this::isEven, Collections.<Integer>emptyList())).isEmpty();
+            assertThat(findLast(this::isEven, Functional.Lazy.map(Function.identity(), Collections.<Integer>emptyList()))).isEmpty();
+        }
+
+        @Test
+        void otherSequencesAreScannedForwards() {
+            assertThat(findLast(this::isEven, Functional.Lazy.map(Function.identity(), input))).hasValue(10);
+            assertEquals(10, tested.get());
+        }
+    }
 }
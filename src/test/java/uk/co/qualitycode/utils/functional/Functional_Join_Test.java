@@ -2,12 +2,17 @@ package uk.co.qualitycode.utils.functional;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
@@ -63,4 +68,66 @@ class Functional_Join_Test {
         final Function<Integer, String> f = id -> "'" + id + "'";
         assertThat(Functional.join(",", ids, f)).isEqualTo(expected);
     }
+
+    @Test
+    void joinToAppendablePreconditions() {
+        assertAll(
+                () -> assertThatIllegalArgumentException()
+                        .isThrownBy(() -> Functional.join((StringBuilder) null, ",", new ArrayList<>()))
+                        .withMessage("join(Appendable,String,Iterable<T>): out must not be null"),
+                () -> assertThatIllegalArgumentException()
+                        .isThrownBy(() -> Functional.join((StringBuilder) null, ",", new ArrayList<>(), Object::toString))
+                        .withMessage("join(Appendable,String,Iterable<T>,Function<T,String>): out must not be null"),
+                () -> assertThatIllegalArgumentException()
+                        .isThrownBy(() -> Functional.join(new StringBuilder(), ",", new ArrayList<>(), null))
+                        .withMessage("join(Appendable,String,Iterable<T>,Function<T,String>): tfm must not be null"));
+    }
+
+    @Test
+    void joinToAWriter() {
+        final Collection<Integer> ids = Functional.init(FunctionalTest.triplingGenerator, 5);
+        final StringWriter out = new StringWriter();
+        assertThat(Functional.join(out, ",", ids)).isSameAs(out);
+        assertThat(out.toString()).isEqualTo("3,6,9,12,15");
+    }
+
+    @Test
+    void joinAppendsToWhatIsAlreadyInTheStringBuilder() {
+        final StringBuilder out = new StringBuilder("ids: ");
+        Functional.join(out, ", ", Arrays.asList(-1L, 2L, 3L));
+        Functional.join(out.append(" names: "), null, Arrays.asList("a", "b"));
+        assertThat(out.toString()).isEqualTo("ids: -1, 2, 3 names: ab");
+    }
+
+    @Test
+    void joinToAppendableWithNullSequenceWritesNothing() {
+        assertThat(Functional.join(new StringBuilder("x"), ",", null).toString()).isEqualTo("x");
+        assertThat(Functional.join(new StringBuilder("x"), ",", null, Object::toString).toString()).isEqualTo("x");
+    }
+
+    @Test
+    void joinWithMapToAWriter() {
+        final Collection<Integer> ids = Functional.init(FunctionalTest.triplingGenerator, 5);
+        final StringWriter out = new StringWriter();
+        Functional.join(out, ",", ids, id -> "'" + id + "'");
+        assertThat(out.toString()).isEqualTo("'3','6','9','12','15'");
+    }
+
+    @Test
+    void joinWrapsAnIOException() {
+        final Writer out = new Writer() {
+            public void write(final char[] cbuf, final int off, final int len) throws IOException {
+                throw new IOException("closed");
+            }
+
+            public void flush() {
+            }
+
+            public void close() {
+            }
+        };
+        assertThatExceptionOfType(UncheckedIOException.class)
+                .isThrownBy(() -> Functional.join(out, ",", Arrays.asList(1, 2)))
+                .withCauseInstanceOf(IOException.class);
+    }
 }
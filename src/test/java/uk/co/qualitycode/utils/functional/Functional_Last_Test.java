@@ -2,9 +2,13 @@ package uk.co.qualitycode.utils.functional;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.TreeSet;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -38,4 +42,27 @@ class Functional_Last_Test {
         final Integer[] input = new Integer[]{1, 2, 3, 4, 5};
         assertThat(Functional.last(input)).isEqualTo(5);
     }
+
+    @Test
+    void lastFromListsDequesAndSortedSets() {
+        final List<Integer> input = Functional.init(Function.identity(), 5);
+        assertThat(Functional.last(new LinkedList<>(input))).isEqualTo(5);
+        assertThat(Functional.last(new ArrayDeque<>(input))).isEqualTo(5);
+        assertThat(Functional.last(new TreeSet<>(Arrays.asList(3, 5, 1)))).isEqualTo(5);
+        assertThat(Functional.last(Functional.skip(3, input))).isEqualTo(5);
+    }
+
+    @Test
+    void lastFromIterable() {
+        final Iterable<Integer> doubled = Functional.Lazy.map(i -> i * 2, Arrays.asList(1, 2, 3));
+        assertThat(Functional.last(doubled)).isEqualTo(6);
+        final Integer last = Functional.last(Arrays.asList(1, 2, null));
+        assertThat(last).isNull();
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.last(Functional.Lazy.filter(i -> false, Arrays.asList(1, 2, 3))))
+                .withMessage("last(Iterable<T>): input must not be empty");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.last(new ArrayDeque<>()))
+                .withMessage("last(Iterable<T>): input must not be empty");
+    }
 }
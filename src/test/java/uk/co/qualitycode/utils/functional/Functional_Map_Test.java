@@ -2,6 +2,7 @@ package uk.co.qualitycode.utils.functional;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import uk.co.qualitycode.utils.functional.monad.Option;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -102,6 +103,28 @@ class Functional_Map_Test {
             assertThat(output).containsExactly("1", "2", "3", "4", "5");
         }
 
+        @Test
+        void chainedStagesAreEquivalentToSeparateStages() {
+            final Iterable<Integer> input = Functional.init(Function.identity(), 10);
+            final Iterable<String> output =
+                    Functional.Lazy.map(stringify(),
+                            Functional.Lazy.mapi((pos, i) -> pos * 100 + i,
+                                    Functional.Lazy.choose(i -> i % 3 == 0 ? Option.none() : Option.of(i),
+                                            Functional.Lazy.filter(Functional::isEven,
+                                                    Functional.Lazy.map(doublingGenerator, input)))));
+            assertThat(output).containsExactly("2", "104", "208", "310", "414", "516", "620");
+        }
+
+        @Test
+        void chainedStagesClaimTheIteratorOfEveryStage() {
+            final Iterable<Integer> doubled = Functional.Lazy.map(doublingGenerator, Arrays.asList(1, 2, 3));
+            final Iterable<String> output = Functional.Lazy.map(stringify(), doubled);
+            output.iterator();
+            assertThatExceptionOfType(UnsupportedOperationException.class)
+                    .isThrownBy(doubled::iterator)
+                    .withMessage("Lazy.map(Function<T,R>,Iterable<T>): this Iterable does not allow multiple Iterators");
+        }
+
         @Override
         protected Collection<Integer> initialValues() {
             return Functional.init(Function.identity(), 5);
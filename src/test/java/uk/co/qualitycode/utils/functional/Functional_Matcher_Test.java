@@ -2,12 +2,16 @@ package uk.co.qualitycode.utils.functional;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.Mockito.mock;
+import static uk.co.qualitycode.utils.functional.Functional.Matcher.compile;
 import static uk.co.qualitycode.utils.functional.Functional.Matcher.findMatch;
 import static uk.co.qualitycode.utils.functional.Functional.Matcher.matcher;
 import static uk.co.qualitycode.utils.functional.Functional.Matcher.matchers;
@@ -51,4 +55,92 @@ class Functional_Matcher_Test {
                         .orElse(Functional.constant(0)))
                 .isEqualTo(0);
     }
+
+    @Test
+    void matchesDelegatesToItsCases() {
+        final Functional.Matcher.Matches<Integer, Integer> cases = matchers(
+                matcher(Functional.lessThan(5), Functional.constant(-1)),
+                matcher(Functional.greaterThan(5), Functional.constant(1)));
+        assertThat(cases).hasSize(2);
+        assertThat(cases.toList()).hasSize(2);
+        assertThat(cases.take(1).toList()).hasSize(1);
+        assertThat(cases.skip(1).toList()).containsExactly(cases.last());
+        assertThat(cases.mapi((i, m) -> i).toList()).containsExactly(0, 1);
+        assertThat(cases.exists(m -> m == cases.last())).isTrue();
+        assertThat(cases.findIndex(m -> m == cases.last())).isEqualTo(1);
+        final int size = cases.in(c -> c.toList().size());
+        assertThat(size).isEqualTo(2);
+    }
+
+    @Test
+    void compilePreconditions() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> compile(null))
+                .withMessage("Matcher.compile(Function<A,K>): keyFn must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> compile(Function.identity()).when(1, null))
+                .withMessage("DecisionTable.when(K,Function<A,B>): result must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> compile(Function.identity()).when((Predicate<Object>) null, mock(Function.class)))
+                .withMessage("DecisionTable.when(Predicate<A>,Function<A,B>): predicate must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> compile(Function.identity()).when(mock(Predicate.class), null))
+                .withMessage("DecisionTable.when(Predicate<A>,Function<A,B>): result must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> compile(Function.identity()).orElse(null))
+                .withMessage("DecisionTable.orElse(Function<A,B>): defaultCase must not be null");
+    }
+
+    @Test
+    void compiledMatcherSelectsKeyedCases() {
+        final Function<String, String> matcher = Functional.Matcher.<String, Character, String>compile(s -> s.charAt(0))
+                .when('a', s -> "apple")
+                .when('b', s -> "banana")
+                .when('c', s -> "cherry")
+                .orElse(s -> "unknown");
+        assertThat(Functional.map(matcher, Arrays.asList("a1", "b2", "c3", "d4"))).containsExactly("apple", "banana", "cherry", "unknown");
+    }
+
+    @Test
+    void compiledMatcherChoosesTheFirstCaseWhichApplies() {
+        final Function<Integer, String> matcher = Functional.Matcher.<Integer, Integer, String>compile(i -> i % 10)
+                .when(i -> i > 100, i -> "big")
+                .when(1, i -> "one")
+                .when(i -> i > 50, i -> "medium")
+                .when(1, i -> "ignored")
+                .when(2, i -> "two")
+                .orElse(i -> "other");
+        assertThat(matcher.apply(101)).isEqualTo("big");
+        assertThat(matcher.apply(71)).isEqualTo("one");
+        assertThat(matcher.apply(72)).isEqualTo("medium");
+        assertThat(matcher.apply(22)).isEqualTo("two");
+        assertThat(matcher.apply(73)).isEqualTo("medium");
+        assertThat(matcher.apply(3)).isEqualTo("other");
+        assertThat(matcher.apply(11)).isEqualTo("one");
+    }
+
+    @Test
+    void compiledMatcherDoesNotTestUnkeyedCasesAfterTheKeyedCase() {
+        final AtomicInteger howManyTests = new AtomicInteger();
+        final Function<Integer, Integer> matcher = Functional.Matcher.<Integer, Integer, Integer>compile(Function.identity())
+                .when(1, i -> 1)
+                .when(i -> howManyTests.incrementAndGet() > 0, i -> 0)
+                .orElse(i -> -1);
+        assertThat(matcher.apply(1)).isEqualTo(1);
+        assertThat(howManyTests.get()).isZero();
+        assertThat(matcher.apply(2)).isEqualTo(0);
+        assertThat(howManyTests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void compiledMatcherIsEquivalentToFindMatch() {
+        final Functional.Matcher.DecisionTable<Integer, Integer, Integer> table = compile(i -> i % 50);
+        for (int key = 0; key < 50; ++key) {
+            final int result = key * key;
+            table.when(key, i -> result);
+        }
+        final Function<Integer, Integer> matcher = table.orElse(i -> -1);
+        final List<Integer> input = Functional.init(Function.identity(), 1000);
+        assertThat(Functional.map(matcher, input)).containsExactlyElementsOf(Functional.map(i -> (i % 50) * (i % 50), input));
+    }
 }
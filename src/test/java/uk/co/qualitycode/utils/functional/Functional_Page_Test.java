@@ -0,0 +1,152 @@
+package uk.co.qualitycode.utils.functional;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+
+class Functional_Page_Test {
+    private final List<Integer> input = Functional.init(Function.identity(), 10);
+
+    @Test
+    void preconditions() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.page(0, mock(List.class)))
+                .withMessage("page(int,List<T>): pageSize must be positive");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.page(1, null))
+                .withMessage("page(int,List<T>): input must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.page(-1))
+                .withMessage("page(int): pageSize must be positive");
+    }
+
+    @Test
+    void lastPageHoldsTheRemainder() {
+        assertThat(Functional.page(4, input)).containsExactly(
+                input.subList(0, 4),
+                input.subList(4, 8),
+                input.subList(8, 10));
+    }
+
+    @Test
+    void pagesAreViewsOfAnImmutableArrayList() {
+        final ImmutableArrayList<Integer> list = ImmutableArrayList.copyOf(input);
+        assertThat(Functional.page(5, list)).allSatisfy(page -> assertThat(page).isInstanceOf(ImmutableArrayList.class));
+        assertThat(Functional.page(10, list)).containsExactly(list);
+        assertThat(Functional.page(10, list).iterator().next()).isSameAs(list);
+    }
+
+    @Test
+    void pagesOfAnyOtherRandomAccessListAreReadOnlyViews() {
+        final List<Integer> list = new ArrayList<>(input);
+        final List<Integer> first = Functional.page(3, list).iterator().next();
+        list.set(0, -1);
+        assertThat(first).containsExactly(-1, 2, 3);
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> first.set(0, 1));
+    }
+
+    @Test
+    void aListWithoutRandomAccessIsCopiedOnce() {
+        final List<Integer> list = new LinkedList<>(input);
+        final Iterator<List<Integer>> pages = Functional.page(3, list).iterator();
+        list.set(0, -1);
+        assertThat(pages.next()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void emptyInputHasNoPages() {
+        final Iterator<List<Integer>> pages = Functional.page(3, Collections.<Integer>emptyList()).iterator();
+        assertThat(pages.hasNext()).isFalse();
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(pages::next);
+    }
+
+    @Test
+    void curriedPage() {
+        assertThat(Functional.<Integer>page(7).apply(input)).containsExactly(input.subList(0, 7), input.subList(7, 10));
+    }
+
+    @Test
+    void takeCopiesAMutableList() {
+        final List<Integer> list = new ArrayList<>(input);
+        final List<Integer> taken = Functional.take(3, list);
+        list.set(0, -1);
+        list.add(0, 0);
+        assertThat(taken).containsExactly(1, 2, 3);
+        assertThat(taken.toString()).isEqualTo("[1, 2, 3]");
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> taken.set(0, 1));
+    }
+
+    @Test
+    void takeViewSkipTakeWhileAndSkipWhileAreReadOnlyViewsOfARandomAccessList() {
+        final List<Integer> list = new ArrayList<>(input);
+        final List<Integer> taken = Functional.takeView(3, list);
+        final List<Integer> skipped = Functional.skip(7, list);
+        final List<Integer> takenWhile = Functional.takeWhile(i -> i < 4, list);
+        final List<Integer> skippedWhile = Functional.skipWhile(i -> i < 8, list);
+        list.set(0, -1);
+        list.set(9, -10);
+        assertThat(taken).containsExactly(-1, 2, 3);
+        assertThat(skipped).containsExactly(8, 9, -10);
+        assertThat(takenWhile).containsExactly(-1, 2, 3);
+        assertThat(skippedWhile).containsExactly(8, 9, -10);
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> taken.set(0, 1));
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> skippedWhile.add(1));
+    }
+
+    @Test
+    void takeView() {
+        assertThat(Functional.takeView(3, input)).containsExactly(1, 2, 3);
+        assertThat(Functional.takeView(0, input)).isEmpty();
+        assertThat(Functional.takeView(20, input)).isEqualTo(input);
+        assertThat(Functional.takeView(3, new LinkedList<>(input))).containsExactly(1, 2, 3);
+        final ImmutableArrayList<Integer> list = ImmutableArrayList.copyOf(input);
+        assertThat(Functional.takeView(3, list)).isInstanceOf(ImmutableArrayList.class).containsExactly(1, 2, 3);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.takeView(-1, input))
+                .withMessage("takeView(int,List<T>): howMany must not be negative");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.takeView(1, null))
+                .withMessage("takeView(int,List<T>): input must not be null");
+    }
+
+    @Test
+    void skipOfAnIterableTakesASnapshotOfAMutableList() {
+        final List<Integer> list = new ArrayList<>(input);
+        final List<Integer> skipped = Functional.skip(7, (Iterable<Integer>) list);
+        list.set(9, -10);
+        list.add(0, 0);
+        assertThat(skipped).containsExactly(8, 9, 10);
+
+        final ImmutableArrayList<Integer> immutable = ImmutableArrayList.copyOf(input);
+        assertThat(Functional.skip(0, (Iterable<Integer>) immutable)).isSameAs(immutable);
+    }
+
+    @Test
+    void takeSkipTakeWhileAndSkipWhileOfAnImmutableArrayListAreViews() {
+        final ImmutableArrayList<Integer> list = ImmutableArrayList.copyOf(input);
+        assertThat(Functional.take(3, list)).isInstanceOf(ImmutableArrayList.class).containsExactly(1, 2, 3);
+        assertThat(Functional.skip(7, list)).isInstanceOf(ImmutableArrayList.class).containsExactly(8, 9, 10);
+        assertThat(Functional.takeWhile(i -> i < 4, list)).isInstanceOf(ImmutableArrayList.class).containsExactly(1, 2, 3);
+        assertThat(Functional.skipWhile(i -> i < 8, list)).isInstanceOf(ImmutableArrayList.class).containsExactly(8, 9, 10);
+    }
+
+    @Test
+    void takeWhileAndSkipWhileOfAListWithoutRandomAccess() {
+        final List<Integer> list = new LinkedList<>(input);
+        assertThat(Functional.takeWhile(i -> i < 4, list)).containsExactly(1, 2, 3);
+        assertThat(Functional.skipWhile(i -> i < 8, list)).containsExactly(8, 9, 10);
+        assertThat(Functional.skipWhile(i -> true, list)).isEmpty();
+        assertThat(Functional.takeWhile(i -> true, list)).isEqualTo(input);
+    }
+}
@@ -0,0 +1,191 @@
+package uk.co.qualitycode.utils.functional;
+
+import org.junit.jupiter.api.Test;
+import uk.co.qualitycode.utils.functional.monad.Option;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+import static uk.co.qualitycode.utils.functional.FunctionalTest.doublingGenerator;
+
+class Functional_Parallel_Test {
+    private static final int howMany = 100 * Functional.Parallel.MINIMUM_CHUNK_SIZE + 17;
+    private final List<Integer> input = Functional.init(Function.identity(), howMany);
+
+    @Test
+    void preconditions() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Parallel.map(null, mock(Iterable.class)))
+                .withMessage("Parallel.map(Function<A,B>,Iterable<A>): f must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Parallel.map(mock(Function.class), null))
+                .withMessage("Parallel.map(Function<A,B>,Iterable<A>): input must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Parallel.filter(null, mock(Iterable.class)))
+                .withMessage("Parallel.filter(Predicate<A>,Iterable<A>): predicate must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Parallel.filter(mock(Predicate.class), null))
+                .withMessage("Parallel.filter(Predicate<A>,Iterable<A>): input must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Parallel.choose(null, mock(Iterable.class)))
+                .withMessage("Parallel.choose(Function<A,Option<B>>,Iterable<A>): chooser must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Parallel.choose(mock(Function.class), null))
+                .withMessage("Parallel.choose(Function<A,Option<B>>,Iterable<A>): input must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Parallel.flatMap(null, mock(Iterable.class)))
+                .withMessage("Parallel.flatMap(Function<A,B>,Iterable<A>): f must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Parallel.flatMap(mock(Function.class), null))
+                .withMessage("Parallel.flatMap(Function<A,B>,Iterable<A>): input must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Parallel.fold(null, 0, mock(BinaryOperator.class), mock(Iterable.class)))
+                .withMessage("Parallel.fold(BiFunction<A,B,A>,A,BinaryOperator<A>,Iterable<B>): folder must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Parallel.fold(mock(BiFunction.class), 0, null, mock(Iterable.class)))
+                .withMessage("Parallel.fold(BiFunction<A,B,A>,A,BinaryOperator<A>,Iterable<B>): combiner must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Parallel.fold(mock(BiFunction.class), 0, mock(BinaryOperator.class), null))
+                .withMessage("Parallel.fold(BiFunction<A,B,A>,A,BinaryOperator<A>,Iterable<B>): input must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Parallel.groupBy(null, mock(Iterable.class)))
+                .withMessage("Parallel.groupBy(Function<T,U>,Iterable<T>): keyFn must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Parallel.groupBy(mock(Function.class), null))
+                .withMessage("Parallel.groupBy(Function<T,U>,Iterable<T>): input must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Parallel.toDictionary(null, mock(Function.class), mock(Iterable.class)))
+                .withMessage("Parallel.toDictionary(Function<T,K>,Function<T,V>,Iterable<T>): keyFn must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Parallel.toDictionary(mock(Function.class), null, mock(Iterable.class)))
+                .withMessage("Parallel.toDictionary(Function<T,K>,Function<T,V>,Iterable<T>): valueFn must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Parallel.toDictionary(mock(Function.class), mock(Function.class), null))
+                .withMessage("Parallel.toDictionary(Function<T,K>,Function<T,V>,Iterable<T>): input must not be null");
+    }
+
+    @Test
+    void mapIsEquivalentToSequentialMap() {
+        final List<Integer> output = Functional.Parallel.map(doublingGenerator, input);
+        assertThat(output).containsExactlyElementsOf(Functional.map(doublingGenerator, input));
+    }
+
+    @Test
+    void mapReturnsImmutableList() {
+        final List<Integer> output = Functional.Parallel.map(doublingGenerator, input);
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> output.set(0, 1));
+    }
+
+    @Test
+    void mapOfASmallInputIsEquivalentToSequentialMap() {
+        final List<Integer> output = Functional.Parallel.map(doublingGenerator, Arrays.asList(1, 2, 3));
+        assertThat(output).containsExactly(2, 4, 6);
+    }
+
+    @Test
+    void mapOfANonRandomAccessInputIsEquivalentToSequentialMap() {
+        final List<Integer> output = Functional.Parallel.map(doublingGenerator, new LinkedList<>(input));
+        assertThat(output).containsExactlyElementsOf(Functional.map(doublingGenerator, input));
+    }
+
+    @Test
+    void filterIsEquivalentToSequentialFilter() {
+        final List<Integer> output = Functional.Parallel.filter(Functional::isOdd, input);
+        assertThat(output).containsExactlyElementsOf(Functional.filter(Functional::isOdd, input));
+    }
+
+    @Test
+    void filterReturnsImmutableList() {
+        final List<Integer> output = Functional.Parallel.filter(Functional::isOdd, input);
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> output.add(1));
+    }
+
+    @Test
+    void chooseIsEquivalentToSequentialChoose() {
+        final Function<Integer, Option<String>> chooser = i -> i % 3 == 0 ? Option.of(i.toString()) : Option.none();
+        final List<String> output = Functional.Parallel.choose(chooser, input);
+        assertThat(output).containsExactlyElementsOf(Functional.choose(chooser, input));
+    }
+
+    @Test
+    void flatMapIsEquivalentToSequentialFlatMap() {
+        final Function<Integer, List<Integer>> f = i -> Functional.isOdd(i) ? Arrays.asList(i, -i) : Arrays.asList();
+        final List<Integer> output = Functional.Parallel.flatMap(f, input);
+        assertThat(output).hasSize(2 * Functional.filter(Functional::isOdd, input).size());
+        assertThat(output).startsWith(1, -1, 3, -3);
+        assertThat(output).endsWith(howMany, -howMany);
+    }
+
+    @Test
+    void foldCombinesTheChunksInOrder() {
+        final String output = Functional.Parallel.fold((state, i) -> state + i, "", String::concat, input);
+        assertThat(output).isEqualTo(Functional.join("", input));
+    }
+
+    @Test
+    void foldOfAnEmptyInputReturnsTheInitialValue() {
+        final Integer output = Functional.Parallel.fold(Integer::sum, 0, Integer::sum, Arrays.<Integer>asList());
+        assertThat(output).isEqualTo(0);
+    }
+
+    @Test
+    void groupByIsEquivalentToSequentialGroupBy() {
+        final Map<Integer, List<Integer>> output = Functional.Parallel.groupBy(i -> i % 7, input);
+        assertThat(output).isEqualTo(Functional.groupBy(i -> i % 7, input));
+    }
+
+    @Test
+    void groupByReturnsImmutableMapOfImmutableLists() {
+        final Map<Integer, List<Integer>> output = Functional.Parallel.groupBy(i -> i % 7, input);
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> output.put(8, Arrays.asList()));
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> output.get(0).add(7));
+    }
+
+    @Test
+    void toDictionaryIsEquivalentToSequentialToDictionary() {
+        final Map<Integer, String> output = Functional.Parallel.toDictionary(Function.identity(), Object::toString, input);
+        assertThat(output).isEqualTo(Functional.toDictionary(Function.identity(), Object::toString, input));
+    }
+
+    @Test
+    void toDictionaryRejectsDuplicateKeysInDifferentChunks() {
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> Functional.Parallel.toDictionary(i -> i % (howMany - 1), Function.identity(), input))
+                .withMessageStartingWith("Parallel.toDictionary(Function<T,K>,Function<T,V>,Iterable<T>): duplicate key ");
+    }
+
+    @Test
+    void mapUsesTheSuppliedPool() {
+        final ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            final List<String> threads = Functional.Parallel.map(i -> Thread.currentThread().getName(), input, pool);
+            assertThat(threads).allMatch(name -> name.startsWith("ForkJoinPool-"));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void exceptionsAreRethrownToTheCaller() {
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> Functional.Parallel.map(i -> {
+                    if (i == howMany / 2) throw new IllegalStateException("bang");
+                    return i;
+                }, input));
+    }
+}
@@ -1,8 +1,12 @@
 package uk.co.qualitycode.utils.functional;
 
+import io.vavr.Tuple2;
 import org.junit.jupiter.api.Test;
+import uk.co.qualitycode.utils.functional.monad.Option;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static uk.co.qualitycode.utils.functional.FunctionalTest.doublingGenerator;
@@ -23,4 +27,33 @@ class Functional_Rec_Test {
         final Iterable<String> actual = Functional.Rec.map(Functional.stringify(), li);
         assertThat(actual).containsExactly("2", "4", "6", "8", "10");
     }
+
+    private static final int deeperThanTheStack = 1_000_000;
+    private final List<Integer> longInput = Functional.init(Function.identity(), deeperThanTheStack);
+
+    @Test
+    void recFilterIsStackSafe() {
+        final Iterable<Integer> actual = Functional.Rec.filter(Functional::isEven, longInput);
+        assertThat(Functional.last(actual)).isEqualTo(deeperThanTheStack);
+    }
+
+    @Test
+    void recMapIsStackSafe() {
+        final Iterable<Integer> actual = Functional.Rec.map(doublingGenerator, longInput);
+        assertThat(Functional.last(actual)).isEqualTo(2 * deeperThanTheStack);
+    }
+
+    @Test
+    void recFoldIsStackSafe() {
+        final Long actual = Functional.Rec.fold((state, i) -> state + i, 0L, longInput);
+        assertThat(actual).isEqualTo((long) deeperThanTheStack * (deeperThanTheStack + 1) / 2);
+    }
+
+    @Test
+    void recUnfoldIsStackSafe() {
+        final List<Integer> actual = Functional.Rec.unfold(i -> new Tuple2<>(i, i + 1), i -> i > deeperThanTheStack, 1);
+        assertThat(actual).hasSize(deeperThanTheStack);
+        final List<Integer> actual2 = Functional.Rec.unfold(i -> i > deeperThanTheStack ? Option.none() : Option.of(new Tuple2<>(i, i + 1)), 1);
+        assertThat(actual2).hasSize(deeperThanTheStack);
+    }
 }
@@ -0,0 +1,52 @@
+package uk.co.qualitycode.utils.functional;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+class Functional_Reiterable_Test {
+    private final List<Integer> input = Arrays.asList(1, 2, 3, 4, 5, 6);
+
+    @Test
+    void preconditions() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Lazy.reiterable(null))
+                .withMessage("Lazy.reiterable(Supplier<Iterable<T>>): pipeline must not be null");
+    }
+
+    @Test
+    void reiterableAllowsMultipleIterators() {
+        final Iterable<String> output = Functional.Lazy.reiterable(() ->
+                Functional.Lazy.map(Functional.stringify(),
+                        Functional.Lazy.skip(1,
+                                Functional.Lazy.filter(Functional::isEven, input))));
+        assertThatNoException().isThrownBy(output::iterator);
+        assertThat(output).containsExactly("4", "6");
+        assertThat(output).containsExactly("4", "6");
+    }
+
+    @Test
+    void reiterableReevaluatesThePipelineForEachTraversal() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Iterable<Integer> output = Functional.Lazy.reiterable(() ->
+                Functional.Lazy.map(i -> calls.incrementAndGet(), input));
+        assertThat(Functional.fold((n, i) -> n + 1, 0, output)).isEqualTo(6);
+        final List<Integer> pushed = new ArrayList<>();
+        output.forEach(pushed::add);
+        assertThat(pushed).containsExactly(7, 8, 9, 10, 11, 12);
+    }
+
+    @Test
+    void reiterableWorksWithIterable2() {
+        final Iterable2<Integer> output = Iterable2.of(Functional.Lazy.reiterable(() -> Functional.Lazy.filter(Functional::isOdd, input)));
+        assertThat(output.fold(Integer::sum, 0)).isEqualTo(9);
+        assertThat(output.fold((n, i) -> n + 1, 0)).isEqualTo(3);
+    }
+}
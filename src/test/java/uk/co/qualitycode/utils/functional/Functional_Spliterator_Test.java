@@ -0,0 +1,136 @@
+package uk.co.qualitycode.utils.functional;
+
+import io.vavr.Tuple2;
+import org.junit.jupiter.api.Test;
+import uk.co.qualitycode.utils.functional.monad.Option;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class Functional_Spliterator_Test {
+    private static final int SIZE = 10_000;
+    private final List<Integer> input = Functional.init(Function.identity(), SIZE);
+
+    private static <T> List<T> parallel(final Iterable<T> input) {
+        return StreamSupport.stream(input.spliterator(), true).collect(Collectors.toList());
+    }
+
+    private static <T> List<T> drain(final Spliterator<T> spliterator) {
+        final List<T> output = new ArrayList<>();
+        spliterator.forEachRemaining(output::add);
+        return output;
+    }
+
+    @Test
+    void mapIsSizedAndSplits() {
+        final Spliterator<Integer> spliterator = Functional.Lazy.map(i -> i * 2, input).spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(SIZE);
+
+        final Spliterator<Integer> prefix = spliterator.trySplit();
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.getExactSizeIfKnown() + spliterator.getExactSizeIfKnown()).isEqualTo(SIZE);
+        final List<Integer> output = drain(prefix);
+        output.addAll(drain(spliterator));
+        assertThat(output).containsExactlyElementsOf(Functional.map(i -> i * 2, input));
+    }
+
+    @Test
+    void fusedMapAndFilterFeedAParallelStream() {
+        final Iterable<Integer> pipeline = Functional.Lazy.filter(Functional::isEven, Functional.Lazy.map(i -> i + 1, input));
+        final Spliterator<Integer> spliterator = pipeline.spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isFalse();
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(spliterator.trySplit()).isNotNull();
+
+        final Iterable<Integer> chosen = Functional.Lazy.choose(i -> Functional.isOdd(i) ? Option.of(i) : Option.none(), Functional.Lazy.map(i -> i + 1, input));
+        assertThat(parallel(chosen)).containsExactlyElementsOf(Functional.filter(Functional::isOdd, Functional.map(i -> i + 1, input)));
+    }
+
+    @Test
+    void mapiIsSizedButDoesNotSplit() {
+        final Spliterator<String> spliterator = Functional.Lazy.mapi((pos, i) -> pos + ":" + i, input).spliterator();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(SIZE);
+        assertThat(spliterator.trySplit()).isNull();
+        assertThat(drain(spliterator).get(SIZE - 1)).isEqualTo((SIZE - 1) + ":" + SIZE);
+    }
+
+    @Test
+    void initIsSizedAndSplitsInHalf() {
+        final Spliterator<Integer> spliterator = Functional.Lazy.init(Function.identity(), SIZE).spliterator();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(SIZE);
+        final Spliterator<Integer> prefix = spliterator.trySplit();
+        assertThat(prefix.getExactSizeIfKnown()).isEqualTo(SIZE / 2);
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(SIZE / 2);
+
+        assertThat(parallel(Functional.Lazy.init(Function.identity(), SIZE))).containsExactlyElementsOf(input);
+    }
+
+    @Test
+    void takeIsSizedAndSplits() {
+        final Spliterator<Integer> spliterator = Functional.Lazy.take(SIZE / 4, input).spliterator();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(SIZE / 4);
+        assertThat(spliterator.trySplit()).isNotNull();
+
+        assertThat(Functional.Lazy.take(SIZE * 2, input).spliterator().getExactSizeIfKnown()).isEqualTo(SIZE);
+        assertThat(parallel(Functional.Lazy.take(SIZE / 3, input))).containsExactlyElementsOf(input.subList(0, SIZE / 3));
+    }
+
+    @Test
+    void skipIsSizedAndSplits() {
+        final Spliterator<Integer> spliterator = Functional.Lazy.skip(SIZE / 4, input).spliterator();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(SIZE - SIZE / 4);
+        assertThat(spliterator.trySplit()).isNotNull();
+
+        assertThat(Functional.Lazy.skip(SIZE * 2, input).spliterator().getExactSizeIfKnown()).isZero();
+        assertThat(parallel(Functional.Lazy.skip(SIZE / 3, input))).containsExactlyElementsOf(input.subList(SIZE / 3, SIZE));
+    }
+
+    @Test
+    void zipIsSizedWhenBothInputsHaveTheSameSize() {
+        final Spliterator<Tuple2<Integer, Integer>> spliterator = Functional.Lazy.zip(input, Functional.Lazy.map(i -> -i, input)).spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.ORDERED)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(SIZE);
+        assertThat(drain(spliterator)).allMatch(t -> t._1 == -t._2).hasSize(SIZE);
+    }
+
+    @Test
+    void zipOfDifferentLengthsThrows() {
+        final Spliterator<Tuple2<Integer, Integer>> spliterator = Functional.Lazy.zip(input, input.subList(1, SIZE)).spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isFalse();
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> drain(spliterator))
+                .withMessage("Lazy.zip(Iterable<A>,Iterable<B>): cannot zip two iterables with different lengths");
+    }
+
+    @Test
+    void spliteratorClaimsTheOnlyIterator() {
+        final Iterable<Integer> mapped = Functional.Lazy.map(i -> i * 2, input);
+        mapped.spliterator();
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(mapped::iterator)
+                .withMessage("Lazy.map(Function<T,R>,Iterable<T>): this Iterable does not allow multiple Iterators");
+
+        final Iterable<Integer> taken = Functional.Lazy.take(10, input);
+        taken.iterator();
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(taken::spliterator)
+                .withMessage("Lazy.take(int,Iterable<T>): this Iterable does not allow multiple Iterators");
+    }
+
+    @Test
+    void iterable2DelegatesToTheSpliteratorOfItsInput() {
+        final Iterable2<Integer> output = Iterable2.of(input).map(i -> i * 2);
+        assertThat(output.spliterator().getExactSizeIfKnown()).isEqualTo(SIZE);
+        assertThat(parallel(Iterable2.of(input).map(i -> i * 2))).containsExactlyElementsOf(Functional.map(i -> i * 2, input));
+        assertThat(Iterable2.<Integer>empty().spliterator().getExactSizeIfKnown()).isZero();
+    }
+}
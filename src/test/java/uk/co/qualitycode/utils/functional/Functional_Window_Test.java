@@ -0,0 +1,96 @@
+package uk.co.qualitycode.utils.functional;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+
+class Functional_Window_Test {
+    private final List<Integer> input = Arrays.asList(1, 2, 3, 4, 5);
+
+    @Test
+    void preconditions() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Lazy.window(0, 1, mock(Iterable.class)))
+                .withMessage("Lazy.window(int,int,Iterable<T>): size must be positive");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Lazy.window(1, 0, mock(Iterable.class)))
+                .withMessage("Lazy.window(int,int,Iterable<T>): step must be positive");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Lazy.window(1, 1, null))
+                .withMessage("Lazy.window(int,int,Iterable<T>): input must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Lazy.window(0, 1))
+                .withMessage("Lazy.window(int,int): size must be positive");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.Lazy.window(1, 0))
+                .withMessage("Lazy.window(int,int): step must be positive");
+    }
+
+    @Test
+    void slidingWindow() {
+        assertThat(Functional.Lazy.window(3, 1, input))
+                .containsExactly(Arrays.asList(1, 2, 3), Arrays.asList(2, 3, 4), Arrays.asList(3, 4, 5));
+    }
+
+    @Test
+    void windowWithAStepEqualToTheSizeIgnoresAPartialWindow() {
+        assertThat(Functional.Lazy.window(2, 2, input))
+                .containsExactly(Arrays.asList(1, 2), Arrays.asList(3, 4));
+    }
+
+    @Test
+    void windowWithAStepGreaterThanTheSizeSkipsElements() {
+        assertThat(Functional.Lazy.<Integer>window(2, 3).apply(input))
+                .containsExactly(Arrays.asList(1, 2), Arrays.asList(4, 5));
+    }
+
+    @Test
+    void windowOfTheLargestSizeDoesNotAllocateItUpFront() {
+        assertThat(Functional.Lazy.window(Integer.MAX_VALUE, 1, input)).isEmpty();
+        final List<Integer> longInput = Functional.init(Function.identity(), 2 * Functional.Lazy.MAX_INITIAL_CAPACITY);
+        assertThat(Functional.Lazy.window(longInput.size(), 1, longInput)).containsExactly(longInput);
+    }
+
+    @Test
+    void windowLargerThanTheInputIsEmpty() {
+        assertThat(Functional.Lazy.window(6, 1, input)).isEmpty();
+        assertThat(Functional.Lazy.window(1, 1, Collections.emptyList())).isEmpty();
+    }
+
+    @Test
+    void windowsOfAnInfiniteSequence() {
+        final Iterator<List<Integer>> windows = Functional.Lazy.window(3, 2, Functional.Lazy.init(Function.identity())).iterator();
+        assertThat(windows.next()).containsExactly(1, 2, 3);
+        assertThat(windows.next()).containsExactly(3, 4, 5);
+        assertThat(windows.next()).containsExactly(5, 6, 7);
+    }
+
+    @Test
+    void hasNextDoesNotAdvanceTheSequence() {
+        final Iterator<List<Integer>> windows = Functional.Lazy.window(2, 1, input).iterator();
+        assertThat(windows.hasNext()).isTrue();
+        assertThat(windows.hasNext()).isTrue();
+        assertThat(windows.next()).containsExactly(1, 2);
+        assertThat(windows.hasNext()).isTrue();
+        assertThat(windows.next()).containsExactly(2, 3);
+    }
+
+    @Test
+    void cannotSeekBeyondTheEnd() {
+        final Iterator<List<Integer>> windows = Functional.Lazy.window(5, 1, input).iterator();
+        windows.next();
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(windows::next)
+                .withMessage("Lazy.window(int,int,Iterable<T>): cannot seek beyond the end of the sequence");
+    }
+}
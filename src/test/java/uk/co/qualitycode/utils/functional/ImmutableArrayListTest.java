@@ -0,0 +1,168 @@
+package uk.co.qualitycode.utils.functional;
+
+import org.junit.jupiter.api.Test;
+import uk.co.qualitycode.utils.functional.monad.Option;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class ImmutableArrayListTest {
+    private final List<Integer> input = Functional.init(Function.identity(), 100);
+
+    @Test
+    void builderGrowsBeyondItsExpectedSize() {
+        final ImmutableArrayList.Builder<Integer> builder = ImmutableArrayList.builder(2);
+        for (int i = 0; i < 100; ++i)
+            builder.add(i);
+        final List<Integer> output = builder.build();
+        assertThat(output).hasSize(100).startsWith(0, 1, 2).endsWith(98, 99);
+    }
+
+    @Test
+    void builderIsTrimmedToTheNumberOfElementsAdded() {
+        final List<Integer> output = ImmutableArrayList.<Integer>builder(100).add(1).add(null).add(3).build();
+        assertThat(output).containsExactly(1, null, 3);
+        assertThat(output.toArray()).hasSize(3);
+        assertThat(output.spliterator().getExactSizeIfKnown()).isEqualTo(3);
+    }
+
+    @Test
+    void emptyBuilderReturnsTheSharedEmptyList() {
+        assertThat(ImmutableArrayList.builder(10).build()).isSameAs(ImmutableArrayList.empty()).isEmpty();
+        assertThat(ImmutableArrayList.wrap(new Object[0])).isSameAs(ImmutableArrayList.empty());
+    }
+
+    @Test
+    void isEqualToAnyListWithTheSameElements() {
+        final List<Integer> output = Functional.map(Function.identity(), input);
+        assertThat(output).isEqualTo(new ArrayList<>(input));
+        assertThat(output.hashCode()).isEqualTo(new ArrayList<>(input).hashCode());
+    }
+
+    @Test
+    void cannotBeModified() {
+        final List<Integer> output = Functional.map(Function.identity(), input);
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> output.add(1));
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> output.set(0, 1));
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> output.remove(0));
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> Collections.sort(output));
+    }
+
+    @Test
+    void takeAndConcatReturnUnmodifiableLists() {
+        final List<Integer> taken = Functional.take(10, Functional.Lazy.map(Function.identity(), input));
+        final List<Integer> takenFromAList = Functional.take(10, new ArrayList<>(input));
+        final List<Integer> concatenated = Functional.concat(input, input);
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> taken.add(1));
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> takenFromAList.add(1));
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> concatenated.add(1));
+    }
+
+    @Test
+    void toArrayDoesNotExposeTheBackingArray() {
+        final List<Integer> output = Functional.map(Function.identity(), input);
+        output.toArray()[0] = -1;
+        assertThat(output.get(0)).isEqualTo(1);
+    }
+
+    @Test
+    void eagerOperatorsReturnARandomAccessList() {
+        final Iterable<Integer> lazy = Functional.Lazy.map(Function.identity(), input);
+        assertThat(Functional.map(Function.identity(), input)).isInstanceOf(RandomAccess.class);
+        assertThat(Functional.filter(Functional::isEven, lazy)).isInstanceOf(RandomAccess.class).hasSize(50);
+        assertThat(Functional.choose(i -> i > 90 ? Option.of(i) : Option.none(), input)).isInstanceOf(RandomAccess.class).hasSize(10);
+        assertThat(Functional.flatMap(i -> Arrays.asList(i, i), input)).isInstanceOf(RandomAccess.class).hasSize(200);
+        assertThat(Functional.concat(input, input)).isInstanceOf(RandomAccess.class).hasSize(200);
+        assertThat(Functional.zip(input, input)).isInstanceOf(RandomAccess.class).hasSize(100);
+        assertThat(Functional.take(10, Functional.Lazy.map(Function.identity(), input))).isInstanceOf(RandomAccess.class).hasSize(10);
+        assertThat(Functional.take(1000, input)).isInstanceOf(RandomAccess.class).isEqualTo(input);
+    }
+
+    @Test
+    void subListIsAViewOfTheSameList() {
+        final ImmutableArrayList<Integer> list = ImmutableArrayList.copyOf(input);
+        final ImmutableArrayList<Integer> middle = list.subList(10, 20);
+        assertThat(middle).containsExactlyElementsOf(input.subList(10, 20));
+        assertThat(middle.subList(5, 10)).containsExactlyElementsOf(input.subList(15, 20));
+        assertThat(list.subList(0, 100)).isSameAs(list);
+        assertThat(list.subList(50, 50)).isSameAs(ImmutableArrayList.empty());
+        assertThat(middle.toArray()).containsExactlyElementsOf(input.subList(10, 20));
+        assertThat(middle.toArray(new Integer[0])).containsExactlyElementsOf(input.subList(10, 20));
+        assertThat(middle.spliterator().getExactSizeIfKnown()).isEqualTo(10);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> middle.get(10));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> middle.subList(0, 11));
+    }
+
+    @Test
+    void subListsWithTheSameElementsAreEqual() {
+        final ImmutableArrayList<Integer> list = ImmutableArrayList.copyOf(Functional.concat(input, input));
+        assertThat(list.subList(0, 100)).isEqualTo(list.subList(100, 200)).isEqualTo(input);
+        assertThat(list.subList(0, 100).hashCode()).isEqualTo(list.subList(100, 200).hashCode()).isEqualTo(input.hashCode());
+        assertThat(list.subList(0, 100)).isNotEqualTo(list.subList(1, 101));
+    }
+
+    @Test
+    void iteratorStopsAtTheEndOfTheView() {
+        final Iterator<Integer> iterator = ImmutableArrayList.copyOf(input).subList(98, 99).iterator();
+        assertThat(iterator.next()).isEqualTo(99);
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(iterator::next);
+    }
+
+    @Test
+    void copyOfReturnsAnImmutableArrayListAsItIs() {
+        final ImmutableArrayList<Integer> list = ImmutableArrayList.copyOf(new LinkedList<>(input));
+        assertThat(list).isEqualTo(input);
+        assertThat(ImmutableArrayList.copyOf(list)).isSameAs(list);
+        assertThat(ImmutableArrayList.copyOf(Functional.Lazy.map(Function.identity(), input))).isEqualTo(input);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> ImmutableArrayList.copyOf(null))
+                .withMessage("ImmutableArrayList.copyOf(Iterable<T>): input must not be null");
+    }
+
+    @Test
+    void copyOfDoesNotShareTheArrayOfItsInput() {
+        final Integer[] array = {1, 2, 3};
+        final ImmutableArrayList<Integer> list = ImmutableArrayList.copyOf(Arrays.asList(array));
+        array[0] = -1;
+        assertThat(list).containsExactly(1, 2, 3);
+        assertThat(list.toArray()).isExactlyInstanceOf(Object[].class);
+        final Object[] copy = list.toArray();
+        copy[0] = "not an Integer";
+        assertThat(list.get(0)).isEqualTo(1);
+    }
+
+    @Test
+    void operatorsReturnAnImmutableArrayList() {
+        assertThat(Functional.init(Function.identity(), 10)).isInstanceOf(ImmutableArrayList.class);
+        assertThat(Functional.sortWith(Integer::compare, new LinkedList<>(input))).isInstanceOf(ImmutableArrayList.class).isEqualTo(input);
+        assertThat(Functional.sortWith((Integer a, Integer b) -> b - a, Functional.Lazy.map(Function.identity(), input))).startsWith(100, 99);
+        assertThat(Functional.skip(90, Functional.Lazy.map(Function.identity(), input))).isInstanceOf(ImmutableArrayList.class).hasSize(10);
+    }
+
+    @Test
+    void takeAndSkipOfAnImmutableArrayListAreViews() {
+        final ImmutableArrayList<Integer> list = ImmutableArrayList.copyOf(input);
+        assertThat(Functional.take(10, list)).isInstanceOf(ImmutableArrayList.class).isEqualTo(input.subList(0, 10));
+        assertThat(Functional.skip(90, list)).isInstanceOf(ImmutableArrayList.class).isEqualTo(input.subList(90, 100));
+        assertThat(Functional.skip(0, list)).isSameAs(list);
+        assertThat(Functional.skip(200, list)).isEmpty();
+    }
+
+    @Test
+    void toListDoesNotCopyAnImmutableArrayList() {
+        final List<Integer> list = Functional.map(Function.identity(), input);
+        assertThat(Iterable2.of(list).toList()).isSameAs(list);
+    }
+}
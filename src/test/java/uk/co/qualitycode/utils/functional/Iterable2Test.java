@@ -23,6 +23,9 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -1408,4 +1411,155 @@ class Iterable2Test {
     void emptyListToString() {
         assertThat(Iterable2.empty().toString()).isEqualTo("()");
     }
+
+    @Test
+    void existsStopsAtTheFirstMatchInAnInfiniteSequence() {
+        final Iterable2<Integer> l = Iterable2.init(doublingGenerator);
+        assertThat(l.map(i -> i + 1).filter(i -> i % 3 == 0).exists(i -> i > 100)).isTrue();
+    }
+
+    @Test
+    void findStopsAtTheFirstMatchInAnInfiniteSequence() {
+        final Iterable2<Integer> l = Iterable2.init(doublingGenerator);
+        OptionAssert.assertThat(l.map(i -> i + 1).filter(i -> i % 3 == 0).find(i -> i > 100)).hasValue(105);
+    }
+
+    @Test
+    void forAllStopsAtTheFirstFailureInAnInfiniteSequence() {
+        final Iterable2<Integer> l = Iterable2.init(doublingGenerator);
+        assertThat(l.map(i -> i + 1).forAll(i -> i < 100)).isFalse();
+    }
+
+    @Test
+    void foldStopsAtTheEndOfTakeWhile() {
+        final Iterable2<Integer> l = Iterable2.init(doublingGenerator);
+        final int sum = l.takeWhile(i -> i <= 10).map(i -> i / 2).fold((acc, i) -> acc + i, 0);
+        assertThat(sum).isEqualTo(15);
+    }
+
+    @Test
+    void terminalOperationsPushThroughFusedStages() {
+        final Iterable2<Integer> l = Iterable2.of(Arrays.asList(1, 2, 3, 4, 5, 6));
+        final List<String> output = l.filter(Functional::isEven).map(i -> i * 10).map(Object::toString).toList();
+        assertThat(output).containsExactly("20", "40", "60");
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> output.add("70"));
+    }
+
+    @Test
+    void groupByPushesThroughFusedStages() {
+        final Iterable2<Integer> l = Iterable2.of(Arrays.asList(1, 2, 3, 4, 5, 6));
+        final Map<Boolean, List<Integer>> output = l.map(i -> i * 3).groupBy(Functional::isEven);
+        assertThat(output.get(true)).containsExactly(6, 12, 18);
+        assertThat(output.get(false)).containsExactly(3, 9, 15);
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> output.get(true).add(24));
+    }
+
+    @Test
+    void parallelIsEquivalentToSequential() {
+        final List<Integer> input = Functional.init(Function.identity(), 10 * Functional.Parallel.MINIMUM_CHUNK_SIZE);
+        final Iterable2<Integer> parallel = Iterable2.of(input).parallel();
+
+        assertThat(parallel.map(doublingGenerator).filter(Functional::isOdd).toList())
+                .isEqualTo(Iterable2.of(input).map(doublingGenerator).filter(Functional::isOdd).toList());
+        assertThat(parallel.filter(Functional::isOdd).toList()).isEqualTo(Functional.filter(Functional::isOdd, input));
+        assertThat(parallel.choose(i -> i % 3 == 0 ? Option.of(i) : Option.none()).toList())
+                .isEqualTo(Functional.filter(i -> i % 3 == 0, input));
+        assertThat(parallel.fold((state, i) -> state + i, 0L, Long::sum)).isEqualTo(Iterable2.of(input).fold((state, i) -> state + i, 0L));
+        assertThat(parallel.groupBy(i -> i % 7)).isEqualTo(Functional.groupBy(i -> i % 7, input));
+        assertThat(parallel.toDictionary(Function.identity(), Object::toString)).isEqualTo(Functional.toDictionary(Function.identity(), Object::toString, input));
+        assertThat(parallel.exists(i -> i == input.size())).isTrue();
+        assertThat(parallel.forAll(i -> i < input.size())).isFalse();
+        assertThat(parallel.take(3).map(doublingGenerator).toList()).containsExactly(2, 4, 6);
+    }
+
+    @Test
+    void parallelUsesTheSuppliedPool() {
+        final ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            final Iterable2<String> threads = Iterable2.of(Functional.init(Function.identity(), 10 * Functional.Parallel.MINIMUM_CHUNK_SIZE))
+                    .parallel(pool)
+                    .map(i -> Thread.currentThread().getName());
+            assertThat(threads.toList()).allMatch(name -> name.startsWith("ForkJoinPool-"));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void parallelMapIsLazy() {
+        final List<Integer> input = Functional.init(Function.identity(), 10 * Functional.Parallel.MINIMUM_CHUNK_SIZE);
+        final AtomicInteger calls = new AtomicInteger();
+        final Iterable2<Integer> mapped = Iterable2.of(input).parallel().map(i -> calls.incrementAndGet());
+        assertThat(calls).hasValue(0);
+        assertThat(mapped.toList()).hasSize(input.size());
+        assertThat(calls).hasValue(input.size());
+    }
+
+    @Test
+    void parallelOfAnInfiniteSequenceIsEvaluatedSequentially() {
+        assertThat(Iterable2.init(Function.identity()).parallel().exists(i -> i == 100_000)).isTrue();
+        assertThat(Iterable2.init(Function.identity()).parallel().forAll(i -> i < 100_000)).isFalse();
+        assertThat(Iterable2.init(Function.identity()).parallel().map(doublingGenerator).filter(i -> i % 3 == 0).take(3).toList())
+                .containsExactly(6, 12, 18);
+        assertThat(Iterable2.init(Function.identity()).parallel().choose(i -> i > 10 ? Option.of(i) : Option.none()).exists(i -> i == 11)).isTrue();
+    }
+
+    @Test
+    void parallelSplitsAFilteredSequence() {
+        final List<Integer> input = Functional.init(Function.identity(), 10 * Functional.Parallel.MINIMUM_CHUNK_SIZE);
+        final ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            final Set<String> threads = ConcurrentHashMap.newKeySet();
+            final List<Integer> output = Iterable2.of(input).parallel(pool)
+                    .filter(Functional::isEven)
+                    .map(i -> {
+                        threads.add(Thread.currentThread().getName());
+                        return i;
+                    })
+                    .toList();
+            assertThat(output).isEqualTo(Functional.filter(Functional::isEven, input));
+            assertThat(threads).allMatch(name -> name.startsWith("ForkJoinPool-"));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void parallelPreconditions() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Iterable2.asList(1, 2, 3).parallel(null))
+                .withMessage("Iterable2.parallel(ForkJoinPool): pool must not be null");
+        final Iterable2<Integer> parallel = Iterable2.asList(1, 2, 3).parallel();
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> parallel.map(null))
+                .withMessage("Iterable2.map(Function<T,U>): f must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> parallel.filter(null))
+                .withMessage("Iterable2.filter(Predicate<T>): f must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> parallel.choose(null))
+                .withMessage("Iterable2.choose(Function<T,Option<U>>): f must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> parallel.exists(null))
+                .withMessage("Iterable2.exists(Predicate<T>): f must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> parallel.forAll(null))
+                .withMessage("Iterable2.forAll(Predicate<T>): f must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> parallel.fold(Integer::sum, 0, null))
+                .withMessage("Iterable2.fold(BiFunction<U,T,U>,U,BinaryOperator<U>): combiner must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> parallel.toDictionary(null, Function.identity()))
+                .withMessage("Iterable2.toDictionary(Function<T,K>,Function<T,V>): keyFn must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> parallel.groupBy(null))
+                .withMessage("Iterable2.groupBy(Function<T,U>): keyFn must not be null");
+    }
+
+    @Test
+    void parallelOfEmptyIsEmpty() {
+        assertThat(Iterable2.<Integer>empty().parallel().map(doublingGenerator)).isEmpty();
+        assertThat(Iterable2.<Integer>empty().parallel().fold(Integer::sum, 0, Integer::sum)).isZero();
+        assertThat(Iterable2.<Integer>empty().parallel().exists(i -> true)).isFalse();
+    }
 }
@@ -0,0 +1,97 @@
+package uk.co.qualitycode.utils.functional;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class Iterable2_Stream_Test {
+    private final List<Integer> input = Functional.init(Function.identity(), 10_000);
+
+    @Test
+    void streamReportsTheSizeOfItsInput() {
+        final Spliterator<Integer> spliterator = Iterable2.of(input).map(i -> i * 2).stream().spliterator();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(input.size());
+    }
+
+    @Test
+    void streamIsEquivalentToTheIterable2() {
+        assertThat(Iterable2.of(input).filter(Functional::isEven).stream().collect(Collectors.toList()))
+                .containsExactlyElementsOf(Functional.filter(Functional::isEven, input));
+    }
+
+    @Test
+    void parallelStreamIsEquivalentToTheIterable2() {
+        final Stream<Integer> stream = Iterable2.of(input).map(i -> i * 2).parallelStream();
+        assertThat(stream.isParallel()).isTrue();
+        assertThat(stream.collect(Collectors.toList())).containsExactlyElementsOf(Functional.map(i -> i * 2, input));
+    }
+
+    @Test
+    void ofStreamDoesNotBufferTheStream() {
+        final AtomicInteger howManyRead = new AtomicInteger();
+        final Iterable2<Integer> output = Iterable2.ofStream(Stream.iterate(1, i -> i + 1).peek(i -> howManyRead.incrementAndGet()));
+        assertThat(output.take(3).toList()).containsExactly(1, 2, 3);
+        assertThat(howManyRead.get()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void ofStreamCanOnlyBeTraversedOnce() {
+        final Iterable2<Integer> output = Iterable2.ofStream(Stream.of(1, 2, 3));
+        assertThat(output.map(i -> i * 2).toList()).containsExactly(2, 4, 6);
+        assertThatIllegalStateException().isThrownBy(output::iterator);
+    }
+
+    @Test
+    void ofStreamPreconditions() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Iterable2.ofStream(null))
+                .withMessage("Iterable2.ofStream(Stream<T>): stream must not be null");
+    }
+
+    @Test
+    void roundTripThroughAStream() {
+        final List<String> output = Iterable2.ofStream(Iterable2.of(input).stream().filter(Functional::isOdd))
+                .map(String::valueOf)
+                .toList();
+        assertThat(output).hasSize(input.size() / 2).startsWith("1", "3");
+    }
+
+    @Test
+    void collectUsesTheCollector() {
+        final Iterable2<Integer> doubled = Iterable2.asList(3, 1, 2).map(i -> i * 2);
+        final TreeSet<Integer> sorted = doubled.collect(Collectors.toCollection(TreeSet::new));
+        assertThat(sorted).containsExactly(2, 4, 6);
+        final Iterable2<String> strings = Iterable2.asList(1, 2, 3).map(String::valueOf);
+        final String joined = strings.collect(Collectors.joining(",", "[", "]"));
+        assertThat(joined).isEqualTo("[1,2,3]");
+    }
+
+    @Test
+    void collectOfEmpty() {
+        assertThat(Iterable2.<Integer>empty().collect(Collectors.toList())).isEmpty();
+    }
+
+    @Test
+    void parallelCollectIsEquivalentToSequentialCollect() {
+        assertThat(Iterable2.of(input).parallel().collect(Collectors.toList())).containsExactlyElementsOf(input);
+        assertThat(Iterable2.of(input).parallel().collect(Collectors.summingLong(i -> i))).isEqualTo(Iterable2.of(input).collect(Collectors.summingLong(i -> i)));
+    }
+
+    @Test
+    void collectPreconditions() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Iterable2.of(Arrays.asList(1, 2)).collect((java.util.stream.Collector<Integer, Object, Object>) null))
+                .withMessage("collect(Collector<T,A,R>,Iterable<T>): collector must not be null");
+    }
+}
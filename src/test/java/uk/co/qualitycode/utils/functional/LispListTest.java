@@ -182,4 +182,51 @@ class LispListTest {
     void emptyListHasNoTailTest1() {
         assertThatExceptionOfType(EmptyListHasNoTail.class).isThrownBy(() -> LispList.<Integer>nil().tail());
     }
+
+    private static final int deeperThanTheStack = 1_000_000;
+
+    private static List<Integer> deepList() {
+        List<Integer> l = LispList.nil();
+        for (int i = deeperThanTheStack; i > 0; --i)
+            l = list(i, l);
+        return l;
+    }
+
+    @Test
+    void nilIsShared() {
+        assertThat(LispList.<Integer>nil()).isSameAs(LispList.<String>nil());
+    }
+
+    @Test
+    void sizeIsCached() {
+        final List<Integer> l = deepList();
+        assertThat(l.size()).isEqualTo(deeperThanTheStack);
+        assertThat(l.tail().size()).isEqualTo(deeperThanTheStack - 1);
+        assertThat(LispList.nil().size()).isZero();
+    }
+
+    @Test
+    void operationsOnDeepListsAreStackSafe() {
+        final List<Integer> l = deepList();
+        assertThat(map(i -> i + 1, l).head()).isEqualTo(2);
+        assertThat(filter(Functional::isEven, l).size()).isEqualTo(deeperThanTheStack / 2);
+        assertThat(reverse(l).head()).isEqualTo(deeperThanTheStack);
+        assertThat(fold((state, i) -> state + i, 0L, l)).isEqualTo((long) deeperThanTheStack * (deeperThanTheStack + 1) / 2);
+        assertThat(foldRight((i, state) -> state + i, 0L, l)).isEqualTo((long) deeperThanTheStack * (deeperThanTheStack + 1) / 2);
+        assertThat(l).isEqualTo(deepList());
+        assertThat(l.hashCode()).isEqualTo(deepList().hashCode());
+        assertThat(l.toString()).startsWith("( 1, ( 2, ").contains("( 1000000, ( ) ) )").endsWith(" ) )");
+    }
+
+    @Test
+    void equalListsHaveEqualHashCodes() {
+        assertThat(list(1, list(2, LispList.nil())).hashCode()).isEqualTo(list(1, list(2, LispList.nil())).hashCode());
+        assertThat(list(1, list(2, LispList.nil()))).isNotEqualTo(list(1, LispList.nil()));
+        assertThat(list(null, LispList.nil())).isEqualTo(list(null, LispList.nil()));
+    }
+
+    @Test
+    void toStringTest() {
+        assertThat(list(1, list(2, LispList.nil()))).hasToString("( 1, ( 2, ( ) ) )");
+    }
 }
@@ -0,0 +1,39 @@
+package uk.co.qualitycode.utils.functional;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class TailCallTest {
+    private static TailCall<Long> sum(final long n, final long acc) {
+        return n == 0 ? TailCall.done(acc) : () -> sum(n - 1, acc + n);
+    }
+
+    @Test
+    void invokeRunsEveryStep() {
+        assertThat(sum(10, 0).invoke()).isEqualTo(55L);
+    }
+
+    @Test
+    void invokeUsesConstantStack() {
+        assertThat(sum(10_000_000, 0).invoke()).isEqualTo(50_000_005_000_000L);
+    }
+
+    @Test
+    void doneIsComplete() {
+        final TailCall<String> done = TailCall.done("x");
+        assertThat(done.isComplete()).isTrue();
+        assertThat(done.invoke()).isEqualTo("x");
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(done::apply)
+                .withMessage("TailCall.apply(): the computation is already complete");
+    }
+
+    @Test
+    void incompleteStepHasNoResult() {
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> sum(1, 0).result())
+                .withMessage("TailCall.result(): the computation is not complete");
+    }
+}
@@ -40,6 +40,14 @@ class OptionTest {
         void ofOption() {
             final Option<Object> actual = Option.of(io.vavr.control.Option.of(new Object()));
         }
+
+        @Test
+        void noneIsShared() {
+            assertThat(Option.<Object>none()).isSameAs(Option.<Integer>none());
+            assertThat(Option.of((Object) null)).isSameAs(Option.none());
+            assertThat(Option.of(Optional.empty())).isSameAs(Option.none());
+            assertThat(Option.of(io.vavr.control.Option.none())).isSameAs(Option.none());
+        }
     }
 
     @Nested
@@ -61,6 +69,13 @@ class OptionTest {
             assertThat(Option.of(t).toVavrOption()).isSameAs(t);
         }
 
+        @Test
+        void someToVavrOptionIsCreatedOnce() {
+            final Option<Object> option = Option.of(new Object());
+            assertThat(option.toVavrOption().get()).isSameAs(option.get());
+            assertThat(option.toVavrOption()).isSameAs(option.toVavrOption());
+        }
+
         @Test
         void noneToVavrOption() {
             assertThat(Option.none().toVavrOption().isEmpty()).isTrue();
@@ -0,0 +1,118 @@
+package uk.co.qualitycode.utils.functional.primitive.doubles;
+
+import io.vavr.Tuple2;
+import org.junit.jupiter.api.Test;
+import uk.co.qualitycode.utils.functional.monad.Option;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class FunctionalTest {
+    private static final Func_double_double halvingGenerator = a -> a / 2;
+
+    @Test
+    void preconditions() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.init((Func_double_double) null, 1))
+                .withMessage("Functional.init(Func_double_double,int): f must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.map((Func_double_double) null, DoubleList.empty()))
+                .withMessage("Functional.map(Func_double_double,DoubleIterable): f must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.map((Func_double_double) d -> d, null))
+                .withMessage("Functional.map(Func_double_double,DoubleIterable): input must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.filter(null, DoubleList.empty()))
+                .withMessage("Functional.filter(Predicate_double,DoubleIterable): predicate must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.fold(Double::sum, 0.0, null))
+                .withMessage("Functional.fold(Func2_double_double_double,double,DoubleIterable): input must not be null");
+    }
+
+    @Test
+    void initTest() {
+        final DoubleList output = Functional.init(halvingGenerator, 4);
+        assertThat(output.toArray()).containsExactly(0.5, 1.0, 1.5, 2.0);
+    }
+
+    @Test
+    void mapTest() {
+        final Func_T_double<String> parse = Double::parseDouble;
+        final DoubleList prices = Functional.map(parse, Arrays.asList("1.25", "2.5"));
+        final Func_double_T<String> stringify = Double::toString;
+        assertThat(Functional.map(stringify, prices)).containsExactly("1.25", "2.5");
+    }
+
+    @Test
+    void mapToDoublesTest() {
+        final Func_double_double withTax = d -> d * 1.5;
+        final DoubleList output = Functional.map(withTax, Functional.init(halvingGenerator, 4));
+        assertThat(output.toArray()).containsExactly(0.75, 1.5, 2.25, 3.0);
+        assertThat(Functional.map(withTax, DoubleList.empty()).size()).isZero();
+    }
+
+    @Test
+    void filterTest() {
+        final DoubleList output = Functional.filter(d -> d >= 1.0, Functional.init(halvingGenerator, 4));
+        assertThat(output.toArray()).containsExactly(1.0, 1.5, 2.0);
+    }
+
+    @Test
+    void foldTest() {
+        final double output = Functional.fold((state, d) -> state + d, 0.0, Functional.init(halvingGenerator, 4));
+        assertThat(output).isEqualTo(5.0);
+    }
+
+    @Test
+    void chooseTest() {
+        final Func_double_Option_double f = d -> d > 1.0 ? Option_double.of(d * 2) : Option_double.none();
+        assertThat(Functional.choose(f, Functional.init(halvingGenerator, 4)).toArray()).containsExactly(3.0, 4.0);
+        final Func_double_T<Option<String>> g = d -> d > 1.0 ? Option.of(Double.toString(d)) : Option.none();
+        assertThat(Functional.choose(g, Functional.init(halvingGenerator, 4))).containsExactly("1.5", "2.0");
+    }
+
+    @Test
+    void findTest() {
+        assertThat(Functional.find(d -> d > 1.0, Functional.init(halvingGenerator, 4))).isEqualTo(1.5);
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> Functional.find(d -> d > 2.0, Functional.init(halvingGenerator, 4)));
+    }
+
+    @Test
+    void partitionTest() {
+        final Tuple2<DoubleList, DoubleList> output = Functional.partition(d -> d == Math.floor(d), Functional.init(halvingGenerator, 4));
+        assertThat(output._1().toArray()).containsExactly(1.0, 2.0);
+        assertThat(output._2().toArray()).containsExactly(0.5, 1.5);
+    }
+
+    @Test
+    void zipTest() {
+        final Func2_double_double_T<Double> product = (a, b) -> a * b;
+        final List<Double> output = Functional.zip(product, Functional.init(halvingGenerator, 2), Functional.init(halvingGenerator, 2));
+        assertThat(output).containsExactly(0.25, 1.0);
+        assertThat(Functional.zip(Functional.init(halvingGenerator, 1), Functional.init(halvingGenerator, 1)))
+                .containsExactly(new Tuple2<>(0.5, 0.5));
+    }
+
+    @Test
+    void nanIsEqualToItself() {
+        assertThat(Option_double.of(Double.NaN)).isEqualTo(Option_double.of(Double.NaN));
+        assertThat(new DoubleList(new double[]{Double.NaN}).contains(Double.NaN)).isTrue();
+        assertThat(new DoubleList(new double[]{Double.NaN})).isEqualTo(new DoubleList(new double[]{Double.NaN}));
+    }
+
+    @Test
+    void builderTest() {
+        final DoubleListBuilder builder = new DoubleListBuilder(0).add(1.0).addAll(new double[]{2.0});
+        assertThat(builder.build().toArray()).containsExactly(1.0, 2.0);
+        assertThatIllegalStateException()
+                .isThrownBy(builder::build)
+                .withMessage("DoubleListBuilder.build(): the DoubleList has already been built");
+    }
+}
@@ -6,6 +6,8 @@ import org.junit.jupiter.api.Test;
 import uk.co.qualitycode.utils.functional.monad.Option;
 import uk.co.qualitycode.utils.functional.monad.OptionNoValueAccessException;
 
+import java.io.StringWriter;
+import java.nio.CharBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -307,6 +309,25 @@ class FunctionalTest {
 //        assertThat().containsExactly(b.toArray(), c.toArray());
 //    }
 
+    @Test
+    void lastOfAnIntList() {
+        final IntList li = Functional.init(doublingGenerator, 5);
+        assertThat(Functional.last(li)).isEqualTo(10);
+        assertThat(Functional.last(IntList.wrap(new int[]{1, 2, 3, 0}, 3))).isEqualTo(3);
+        assertThat(Functional.last(li.sorted())).isEqualTo(10);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.last(new IntList()))
+                .withMessage("Functional.last(Iterable): input is empty");
+    }
+
+    @Test
+    void findLastScansBackwards() {
+        final IntList li = Functional.init(doublingGenerator, 5);
+        assertThat(Functional.findLast(i -> i < 7, li)).isEqualTo(6);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> Functional.findLast(i -> i > 10, li));
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> Functional.findLast(i -> true, new IntList()));
+    }
+
     private static String csv(final String state, final int a) {
         return StringUtils.isEmpty(state) ? "" + a : state + "," + a;
     }
@@ -352,6 +373,48 @@ class FunctionalTest {
         assertThat(o.toArray()).containsExactly(6, 12);
     }
 
+    @Test
+    void chooseWithSentinel() {
+        final IntList li = Functional.init(triplingGenerator, 5);
+        final IntList o = Functional.choose((IntChooser) i -> i % 2 == 0 ? -i : IntChooser.NONE, li);
+
+        assertThat(o.toArray()).containsExactly(-6, -12);
+    }
+
+    @Test
+    void chooseWithSentinelCanChooseTheExtremesOfInt() {
+        final IntList li = new IntList(new int[]{Integer.MIN_VALUE, 0, Integer.MAX_VALUE});
+        final IntList o = Functional.choose((IntChooser) i -> i == 0 ? IntChooser.NONE : i, li);
+
+        assertThat(o.toArray()).containsExactly(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    @Test
+    void filterAndChooseOfAnIntListArePresizedFromItsSize() {
+        final IntList li = Functional.init(Functional.range(1), 100);
+
+        assertThat(Functional.filter(i -> true, li).backingStore).hasSize(100);
+        assertThat(Functional.choose((IntChooser) i -> i, li).backingStore).hasSize(100);
+        assertThat(Functional.choose((Func_int_Option_int) Option_int::of, li).backingStore).hasSize(100);
+        assertThat(Functional.filter(i -> i < 3, li).backingStore).hasSize(2);
+    }
+
+    @Test
+    void optionIntNoneIsShared() {
+        assertThat(Option_int.none()).isSameAs(Option_int.none());
+        assertThat(Option_int.none()).isEqualTo(Option_int.none());
+        assertThat(Option_int.none()).isNotEqualTo(Option_int.of(Integer.MIN_VALUE));
+    }
+
+    @Test
+    void optionIntCachesSmallValues() {
+        assertThat(Option_int.of(127)).isSameAs(Option_int.of(127));
+        assertThat(Option_int.of(-128)).isSameAs(Option_int.toOption(-128));
+        assertThat(Option_int.of(128)).isNotSameAs(Option_int.of(128));
+        assertThat(Option_int.of(128)).isEqualTo(Option_int.of(128));
+        assertThat(Option_int.of(128)).isNotEqualTo(Option_int.of(129));
+    }
+
     /*
     //        [Test]
     //        public void tryGetValueTest1()
@@ -479,6 +542,28 @@ class FunctionalTest {
         assertThat(Functional.join(",", ids, f)).isEqualTo(expected);
     }
 
+    @Test
+    void joinWritesNegativeNumbersAndTheExtremes() {
+        final IntList ids = new IntList(new int[]{Integer.MIN_VALUE, -10, -1, 0, 9, 10, Integer.MAX_VALUE});
+        final String expected = "-2147483648,-10,-1,0,9,10,2147483647";
+        assertThat(Functional.join(",", ids)).isEqualTo(expected);
+        assertThat(Functional.join(new StringWriter(), ",", ids).toString()).isEqualTo(expected);
+        assertThat(Functional.join(CharBuffer.allocate(64), ",", ids).flip().toString()).isEqualTo(expected);
+    }
+
+    @Test
+    void joinToAnAppendable() {
+        final IntList ids = Functional.init(triplingGenerator, 5);
+        final IntIterable iterable = ids::iterator;
+        assertThat(Functional.join(new StringWriter(), null, iterable).toString()).isEqualTo("3691215");
+        assertThat(Functional.join(new StringBuilder(), " ", new IntList()).toString()).isEmpty();
+        assertThat(Functional.join(new StringBuilder("x"), " ", null).toString()).isEqualTo("x");
+        assertThat(Functional.join(null, ids)).isEqualTo("3691215");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.join((StringBuilder) null, ",", ids))
+                .withMessage("join(Appendable,String,IntIterable): out must not be null");
+    }
+
     @Test
     void betweenTest1() {
         final int lowerBound = 2, upperBound = 4;
@@ -731,6 +816,55 @@ class FunctionalTest {
         assertThat(Functional.concat(input, input).toArray()).containsExactly(expected);
     }
 
+    @Test
+    void chunkOfIntList() {
+        final IntList input = new IntList(new int[]{1, 2, 3, 4, 5});
+        final List<IntList> output = new ArrayList<>();
+        Functional.chunk(2, input).forEach(output::add);
+        assertThat(output).hasSize(3);
+        assertThat(output.get(0).toArray()).containsExactly(1, 2);
+        assertThat(output.get(1).toArray()).containsExactly(3, 4);
+        assertThat(output.get(2).toArray()).containsExactly(5);
+    }
+
+    @Test
+    void chunkOfIntIterable() {
+        final List<IntList> output = new ArrayList<>();
+        Functional.chunk(3, Iterators.reverse(new IntList(new int[]{1, 2, 3, 4, 5, 6}))).forEach(output::add);
+        assertThat(output).hasSize(2);
+        assertThat(output.get(0).toArray()).containsExactly(6, 5, 4);
+        assertThat(output.get(1).toArray()).containsExactly(3, 2, 1);
+    }
+
+    @Test
+    void chunkLargerThanTheInputHoldsTheWholeInput() {
+        final List<IntList> output = new ArrayList<>();
+        Functional.chunk(Integer.MAX_VALUE, Iterators.reverse(new IntList(new int[]{1, 2, 3}))).forEach(output::add);
+        assertThat(output).hasSize(1);
+        assertThat(output.get(0).toArray()).containsExactly(3, 2, 1);
+    }
+
+    @Test
+    void chunkOfAnIterableWithoutASizeHasFullChunksAndARemainder() {
+        final List<IntList> output = new ArrayList<>();
+        Functional.chunk(2, Iterators.reverse(new IntList(new int[]{1, 2, 3, 4, 5}))).forEach(output::add);
+        assertThat(output).hasSize(3);
+        assertThat(output.get(0).toArray()).containsExactly(5, 4);
+        assertThat(output.get(1).toArray()).containsExactly(3, 2);
+        assertThat(output.get(2).toArray()).containsExactly(1);
+    }
+
+    @Test
+    void chunkPreconditions() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.chunk(0, new IntList()))
+                .withMessage("Functional.chunk(int,IntIterable): size must be positive");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.chunk(1, null))
+                .withMessage("Functional.chunk(int,IntIterable): input must not be null");
+        assertThat(Functional.chunk(2, new IntList()).iterator().hasNext()).isFalse();
+    }
+
     //    @Test
 //    public void seqConcatTest1()
 //    {
@@ -0,0 +1,103 @@
+package uk.co.qualitycode.utils.functional.primitive.integer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class IntListBuilderTest {
+    @Test
+    void preconditions() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new IntListBuilder(-1))
+                .withMessage("IntListBuilder(int): initialCapacity must not be negative");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new IntListBuilder().addAll((int[]) null))
+                .withMessage("IntListBuilder.addAll(int[]): input must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new IntListBuilder().addAll((IntIterable) null))
+                .withMessage("IntListBuilder.addAll(IntIterable): input must not be null");
+    }
+
+    @Test
+    void buildEmptyList() {
+        final IntList output = new IntListBuilder().build();
+        assertThat(output.isEmpty()).isTrue();
+        assertThat(output.iterator().hasNext()).isFalse();
+    }
+
+    @Test
+    void addGrowsTheBuffer() {
+        final IntListBuilder builder = new IntListBuilder(0);
+        for (int i = 0; i < 1000; ++i)
+            builder.add(i);
+        final IntList output = builder.build();
+        assertThat(output.size()).isEqualTo(1000);
+        assertThat(output.toArray()).containsExactly(Functional.init(Functional.range(0), 1000).toArray());
+    }
+
+    @Test
+    void addAllAppendsInBulk() {
+        final IntList output = new IntListBuilder(1)
+                .add(1)
+                .addAll(new int[]{2, 3})
+                .addAll(new IntList(new int[]{4, 5, 6}))
+                .addAll(Iterators.reverse(new IntList(new int[]{9, 8, 7})))
+                .build();
+        assertThat(output.toArray()).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    void builtListOnlyExposesTheElementsWhichWereAdded() {
+        final IntList output = new IntListBuilder(10).add(1).add(2).build();
+        assertThat(output.size()).isEqualTo(2);
+        assertThat(output.toArray()).containsExactly(1, 2);
+        assertThat(output.toArray(new Integer[0])).containsExactly(1, 2);
+        assertThat(output.contains(2)).isTrue();
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> output.get(2));
+        final IntIterator iterator = output.iterator();
+        iterator.next();
+        iterator.next();
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    void builderCannotBeUsedAfterBuild() {
+        final IntListBuilder builder = new IntListBuilder().add(1);
+        builder.build();
+        assertThatIllegalStateException()
+                .isThrownBy(() -> builder.add(2))
+                .withMessage("IntListBuilder.add(int): the IntList has already been built");
+        assertThatIllegalStateException()
+                .isThrownBy(builder::build)
+                .withMessage("IntListBuilder.build(): the IntList has already been built");
+    }
+
+    @Test
+    void filterOfANonIntListInput() {
+        final IntList output = Functional.filter(i -> i % 2 == 0, Iterators.reverse(Functional.init(Functional.range(0), 10)));
+        assertThat(output.toArray()).containsExactly(8, 6, 4, 2, 0);
+    }
+
+    @Test
+    void concatOfTwoBuiltLists() {
+        final IntList first = new IntListBuilder(10).add(1).add(2).build();
+        final IntList second = new IntListBuilder(10).add(3).build();
+        assertThat(Functional.concat(first, second).toArray()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void buildTrimsABufferWhichIsMostlyUnused() {
+        final IntList mostlyUnused = new IntListBuilder(1000).add(1).add(2).build();
+        assertThat(mostlyUnused.toArray()).containsExactly(1, 2);
+        assertThat(mostlyUnused.backingStore).hasSize(2);
+
+        final IntListBuilder mostlyUsed = new IntListBuilder(1000);
+        for (int i = 0; i < 600; ++i)
+            mostlyUsed.add(i);
+        assertThat(mostlyUsed.build().backingStore).hasSize(1000);
+    }
+}
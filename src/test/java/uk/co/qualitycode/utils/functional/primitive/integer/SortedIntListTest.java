@@ -0,0 +1,95 @@
+package uk.co.qualitycode.utils.functional.primitive.integer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class SortedIntListTest {
+    private final IntList unsorted = new IntList(new int[]{5, 3, 9, 3, 1, 7, 3});
+
+    @Test
+    void preconditions() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> unsorted.sorted().intersection(null))
+                .withMessage("SortedIntList.intersection(SortedIntList): other must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> unsorted.sorted().union(null))
+                .withMessage("SortedIntList.union(SortedIntList): other must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> unsorted.sorted().difference(null))
+                .withMessage("SortedIntList.difference(SortedIntList): other must not be null");
+    }
+
+    @Test
+    void containsOfAnUnsortedList() {
+        assertThat(unsorted.contains(7)).isTrue();
+        assertThat(unsorted.contains(5)).isTrue();
+        assertThat(unsorted.contains(4)).isFalse();
+    }
+
+    @Test
+    void indexOfAnUnsortedList() {
+        assertThat(unsorted.indexOf(3)).isEqualTo(1);
+        assertThat(unsorted.lastIndexOf(3)).isEqualTo(6);
+        assertThat(unsorted.indexOf(4)).isEqualTo(-1);
+        assertThat(unsorted.lastIndexOf(4)).isEqualTo(-1);
+        assertThat(unsorted.indexOf((Object) 9)).isEqualTo(2);
+        assertThat(unsorted.indexOf((Object) "9")).isEqualTo(-1);
+    }
+
+    @Test
+    void sortedCopiesTheList() {
+        final SortedIntList sorted = unsorted.sorted();
+        assertThat(sorted.toArray()).containsExactly(1, 3, 3, 3, 5, 7, 9);
+        assertThat(unsorted.toArray()).containsExactly(5, 3, 9, 3, 1, 7, 3);
+        assertThat(sorted.sorted()).isSameAs(sorted);
+    }
+
+    @Test
+    void searchesOfASortedList() {
+        final SortedIntList sorted = unsorted.sorted();
+        assertThat(sorted.contains(9)).isTrue();
+        assertThat(sorted.contains(8)).isFalse();
+        assertThat(sorted.indexOf(3)).isEqualTo(1);
+        assertThat(sorted.lastIndexOf(3)).isEqualTo(3);
+        assertThat(sorted.indexOf(0)).isEqualTo(-1);
+        assertThat(sorted.lastIndexOf(10)).isEqualTo(-1);
+        assertThat(sorted.indexOf(4)).isEqualTo(-1);
+    }
+
+    @Test
+    void searchesOfABuiltList() {
+        final SortedIntList sorted = new IntListBuilder(100).add(2).add(1).build().sorted();
+        assertThat(sorted.contains(0)).isFalse();
+        assertThat(sorted.lastIndexOf(0)).isEqualTo(-1);
+        assertThat(sorted.indexOf(2)).isEqualTo(1);
+    }
+
+    @Test
+    void intersection() {
+        final SortedIntList other = new IntList(new int[]{9, 3, 3, 4, 1}).sorted();
+        assertThat(unsorted.sorted().intersection(other).toArray()).containsExactly(1, 3, 9);
+    }
+
+    @Test
+    void union() {
+        final SortedIntList other = new IntList(new int[]{9, 3, 3, 4, 10}).sorted();
+        assertThat(unsorted.sorted().union(other).toArray()).containsExactly(1, 3, 4, 5, 7, 9, 10);
+    }
+
+    @Test
+    void difference() {
+        final SortedIntList other = new IntList(new int[]{9, 3, 4}).sorted();
+        assertThat(unsorted.sorted().difference(other).toArray()).containsExactly(1, 5, 7);
+    }
+
+    @Test
+    void setOperationsWithAnEmptyList() {
+        final SortedIntList empty = new IntList().sorted();
+        assertThat(unsorted.sorted().intersection(empty).isEmpty()).isTrue();
+        assertThat(empty.union(unsorted.sorted()).toArray()).containsExactly(1, 3, 5, 7, 9);
+        assertThat(unsorted.sorted().difference(empty).toArray()).containsExactly(1, 3, 5, 7, 9);
+        assertThat(empty.difference(unsorted.sorted()).isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,170 @@
+package uk.co.qualitycode.utils.functional.primitive.longs;
+
+import io.vavr.Tuple2;
+import org.junit.jupiter.api.Test;
+import uk.co.qualitycode.utils.functional.monad.Option;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class FunctionalTest {
+    private static final Func_long_long doublingGenerator = a -> 2 * a;
+    private static final long timestamp = 1_600_000_000_000L;
+
+    @Test
+    void preconditions() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.init((Func_long_long) null, 1))
+                .withMessage("Functional.init(Func_long_long,int): f must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.init(doublingGenerator, 0))
+                .withMessage("Functional.init(Func_long_long,int): howMany must be positive");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.map((Func_long_T<String>) null, LongList.empty()))
+                .withMessage("Functional.map(Func_long_T<B>,LongIterable): f must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.map((Func_long_long) null, LongList.empty()))
+                .withMessage("Functional.map(Func_long_long,LongIterable): f must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.map((Func_long_long) l -> l, null))
+                .withMessage("Functional.map(Func_long_long,LongIterable): input must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.filter(null, LongList.empty()))
+                .withMessage("Functional.filter(Predicate_long,LongIterable): predicate must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.fold(Long::sum, 0L, null))
+                .withMessage("Functional.fold(Func2_long_long_long,long,LongIterable): input must not be null");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.zip(LongList.empty(), null))
+                .withMessage("Functional.zip(Func2_long_long_T<C>,LongIterable,LongIterable): l2 must not be null");
+    }
+
+    @Test
+    void initTest() {
+        final LongList output = Functional.init(Functional.range(timestamp), 3);
+        assertThat(output.toArray()).containsExactly(timestamp, timestamp + 1, timestamp + 2);
+    }
+
+    @Test
+    void initToObjectsTest() {
+        final List<String> output = Functional.init((Func_long_T<String>) Long::toString, 3);
+        assertThat(output).containsExactly("1", "2", "3");
+    }
+
+    @Test
+    void mapToObjectsTest() {
+        final Func_long_T<String> stringify = Long::toString;
+        final List<String> output = Functional.map(stringify, new LongList(new long[]{timestamp, 2L}));
+        assertThat(output).containsExactly("1600000000000", "2");
+    }
+
+    @Test
+    void mapToLongsTest() {
+        final Func_long_long toSeconds = l -> l / 1000;
+        final LongList output = Functional.map(toSeconds, new LongList(new long[]{timestamp, 2000L}));
+        assertThat(output.toArray()).containsExactly(1600000000L, 2L);
+        assertThat(Functional.map(toSeconds, LongList.empty()).size()).isZero();
+    }
+
+    @Test
+    void mapFromObjectsTest() {
+        final Func_T_long<String> parse = Long::parseLong;
+        final LongList output = Functional.map(parse, Arrays.asList("1600000000000", "2"));
+        assertThat(output.toArray()).containsExactly(timestamp, 2L);
+    }
+
+    @Test
+    void filterTest() {
+        final LongList output = Functional.filter(l -> l % 2 == 0, Functional.init(Functional.range(1), 10));
+        assertThat(output.toArray()).containsExactly(2L, 4L, 6L, 8L, 10L);
+    }
+
+    @Test
+    void foldTest() {
+        final long output = Functional.fold((state, l) -> state + l, 0L, Functional.init(doublingGenerator, 4));
+        assertThat(output).isEqualTo(20L);
+    }
+
+    @Test
+    void foldToObjectTest() {
+        final String output = Functional.fold((state, l) -> state + l, "", Functional.init(Functional.range(1), 4));
+        assertThat(output).isEqualTo("1234");
+    }
+
+    @Test
+    void chooseToObjectsTest() {
+        final Func_long_T<Option<String>> f = l -> l % 2 == 0 ? Option.of(Long.toString(l)) : Option.none();
+        final List<String> output = Functional.choose(f, Functional.init(Functional.range(1), 5));
+        assertThat(output).containsExactly("2", "4");
+    }
+
+    @Test
+    void chooseTest() {
+        final Func_long_Option_long f = l -> l % 2 == 0 ? Option_long.of(l * 10) : Option_long.none();
+        final LongList output = Functional.choose(f, Functional.init(Functional.range(1), 5));
+        assertThat(output.toArray()).containsExactly(20L, 40L);
+    }
+
+    @Test
+    void findTest() {
+        assertThat(Functional.find(l -> l > 3, Functional.init(Functional.range(1), 5))).isEqualTo(4L);
+        assertThat(Functional.tryFind(l -> l > 5, Functional.init(Functional.range(1), 5))).isEqualTo(Option_long.none());
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> Functional.find(l -> l > 5, Functional.init(Functional.range(1), 5)));
+    }
+
+    @Test
+    void partitionTest() {
+        final Tuple2<LongList, LongList> output = Functional.partition(l -> l % 3 == 0, Functional.init(Functional.range(1), 7));
+        assertThat(output._1().toArray()).containsExactly(3L, 6L);
+        assertThat(output._2().toArray()).containsExactly(1L, 2L, 4L, 5L, 7L);
+    }
+
+    @Test
+    void zipTest() {
+        final List<Tuple2<Long, Long>> output = Functional.zip(Functional.init(Functional.range(1), 2), Functional.init(doublingGenerator, 2));
+        assertThat(output).containsExactly(new Tuple2<>(1L, 2L), new Tuple2<>(2L, 4L));
+    }
+
+    @Test
+    void zipWithTest() {
+        final Func2_long_long_T<Long> difference = (a, b) -> b - a;
+        final List<Long> output = Functional.zip(difference, Functional.init(Functional.range(1), 3), Functional.init(doublingGenerator, 3));
+        assertThat(output).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void zipOfDifferingLengthsThrows() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Functional.zip(Functional.init(Functional.range(1), 2), Functional.init(Functional.range(1), 3)))
+                .withMessage("Functional.zip(Func2_long_long_T<C>,LongIterable,LongIterable): l1 and l2 have differing numbers of elements");
+    }
+
+    @Test
+    void optionTest() {
+        assertThat(Option_long.of(timestamp)).isEqualTo(Option_long.of(timestamp));
+        assertThat(Option_long.of(timestamp)).isNotEqualTo(Option_long.none());
+        assertThat(Option_long.none()).isSameAs(Option_long.none());
+        assertThat(Option_long.lift(Long::sum, Option_long.of(1), Option_long.of(2))).isEqualTo(Option_long.of(3));
+        assertThat(Option_long.of(1).bind(l -> Option_long.none()).isNone()).isTrue();
+        assertThat(Option_long.of(1)).hasToString("Option( 1 )");
+    }
+
+    @Test
+    void builderTest() {
+        final LongListBuilder builder = new LongListBuilder(0).add(1).addAll(new long[]{2, 3}).addAll(new LongList(new long[]{4}));
+        final LongList output = builder.build();
+        assertThat(output).isEqualTo(new LongList(new long[]{1, 2, 3, 4}));
+        assertThat(output.contains(3)).isTrue();
+        assertThat(output.contains(5)).isFalse();
+        assertThatIllegalStateException()
+                .isThrownBy(() -> builder.add(5))
+                .withMessage("LongListBuilder.add(long): the LongList has already been built");
+    }
+}